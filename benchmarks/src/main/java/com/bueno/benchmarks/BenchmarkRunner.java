@@ -0,0 +1,41 @@
+package com.bueno.benchmarks;
+
+import com.bueno.spi.service.BotServiceManager;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmarks jar. It accepts the same arguments as the JMH command line. When the bot card
+ * choice benchmark is selected and no {@code botName} parameter is given, it is run once for every registered bot.
+ * Listing and help options are delegated to the JMH command line as is.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListWithParams()
+                || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        final OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLineOptions);
+
+        if (commandLineOptions.getParameter("botName").hasValue()) {
+            new Runner(builder.build()).run();
+            return;
+        }
+
+        final String[] botNames = BotServiceManager.providersNames().toArray(String[]::new);
+        final Options options = builder.param("botName", botNames).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,51 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BotServiceProvider#chooseCard(GameIntel)} of a single bot over a fixed sample of first-round
+ * intel. The {@code botName} parameter defaults to {@code DummyBot}; {@link BenchmarkRunner} overrides it with
+ * every bot registered in {@link BotServiceManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class BotChooseCardBenchmark {
+
+    private static final int SAMPLES = 64;
+
+    @Param({"DummyBot"})
+    private String botName;
+
+    private BotServiceProvider bot;
+    private GameIntel[] intels;
+
+    @Setup
+    public void setUp() {
+        bot = BotServiceManager.load(botName);
+        intels = new GameIntel[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            final Game game = GameFixtures.newBotGame();
+            final Player player = game.currentHand().getCurrentPlayer();
+            intels[i] = SpiModelAdapter.toGameIntel(player, game.getIntel());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void chooseCard(Blackhole blackhole) {
+        for (GameIntel intel : intels) blackhole.consume(bot.chooseCard(intel));
+    }
+}
@@ -0,0 +1,24 @@
+package com.bueno.benchmarks;
+
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BotServiceManagerBenchmark {
+
+    @Param({"DummyBot"})
+    private String botName;
+
+    @Benchmark
+    public BotServiceProvider load() {
+        return BotServiceManager.load(botName);
+    }
+}
@@ -0,0 +1,65 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.TrucoCard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmark {
+
+    private Card[] cards;
+    private Card vira;
+    private TrucoCard[] trucoCards;
+    private TrucoCard trucoVira;
+
+    @Setup
+    public void setUp() {
+        final List<Card> allCards = new ArrayList<>();
+        final List<TrucoCard> allTrucoCards = new ArrayList<>();
+        for (Rank rank : Rank.values()) {
+            for (Suit suit : Suit.values()) {
+                if (rank == Rank.HIDDEN || suit == Suit.HIDDEN) continue;
+                allCards.add(Card.of(rank, suit));
+            }
+        }
+        for (CardRank rank : CardRank.values()) {
+            for (CardSuit suit : CardSuit.values()) {
+                if (rank == CardRank.HIDDEN || suit == CardSuit.HIDDEN) continue;
+                allTrucoCards.add(TrucoCard.of(rank, suit));
+            }
+        }
+        cards = allCards.toArray(Card[]::new);
+        trucoCards = allTrucoCards.toArray(TrucoCard[]::new);
+        vira = Card.of(Rank.SEVEN, Suit.CLUBS);
+        trucoVira = TrucoCard.of(CardRank.SEVEN, CardSuit.CLUBS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1600)
+    public void compareValueToAllPairs(Blackhole blackhole) {
+        for (Card card : cards)
+            for (Card other : cards)
+                blackhole.consume(card.compareValueTo(other, vira));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(40)
+    public void trucoCardRelativeValue(Blackhole blackhole) {
+        for (TrucoCard card : trucoCards)
+            blackhole.consume(card.relativeValue(trucoVira));
+    }
+}
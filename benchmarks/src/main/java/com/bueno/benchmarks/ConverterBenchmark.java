@@ -0,0 +1,58 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.converter.HandConverter;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @Param({"4", "10"})
+    private int cardsPlayed;
+
+    private Game game;
+    private Hand hand;
+    private Intel intel;
+    private Player player1;
+    private Player player2;
+
+    @Setup
+    public void setUp() {
+        game = GameFixtures.gameWithPlayedCards(cardsPlayed);
+        hand = game.currentHand();
+        intel = game.getIntel();
+        player1 = game.getPlayer1();
+        player2 = game.getPlayer2();
+    }
+
+    @Benchmark
+    public Game gameRoundTrip() {
+        final GameDto dto = GameConverter.toDto(game);
+        return GameConverter.fromDto(dto);
+    }
+
+    @Benchmark
+    public Hand handRoundTrip() {
+        final HandDto dto = HandConverter.toDto(hand);
+        return HandConverter.fromDto(dto, player1, player2);
+    }
+
+    @Benchmark
+    public Intel intelRoundTrip() {
+        return IntelConverter.fromDto(IntelConverter.toDto(intel));
+    }
+}
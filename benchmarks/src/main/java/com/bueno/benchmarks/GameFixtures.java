@@ -0,0 +1,40 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+
+final class GameFixtures {
+
+    private GameFixtures() {}
+
+    static Game newBotGame() {
+        return new Game(Player.ofBot("DummyBot"), Player.ofBot("DummyBot"));
+    }
+
+    static Game gameWithPlayedCards(int numberOfCards) {
+        final Game game = newBotGame();
+        for (int i = 0; i < numberOfCards && !game.isDone(); i++) playFirstAvailableCard(game);
+        return game;
+    }
+
+    static void playFullHand(Game game) {
+        final Hand hand = game.currentHand();
+        while (!hand.isDone()) playFirstAvailableCard(game);
+    }
+
+    static void playFirstAvailableCard(Game game) {
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        final Card card = player.play(player.getCards().get(0));
+
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, card);
+        else hand.playSecondCard(player, card);
+
+        if (hand.getResult().isPresent()) {
+            game.updateScores();
+            if (!game.isDone()) game.prepareNewHand();
+        }
+    }
+}
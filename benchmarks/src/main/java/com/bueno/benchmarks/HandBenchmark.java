@@ -0,0 +1,22 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+
+    @Benchmark
+    public Game dealAndPlayFullHand() {
+        final Game game = GameFixtures.newBotGame();
+        GameFixtures.playFullHand(game);
+        return game;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.service.SimulationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBenchmark {
+
+    @Param({"DummyBot"})
+    private String bot1Name;
+
+    @Param({"DummyBot"})
+    private String bot2Name;
+
+    private SimulationService simulator;
+
+    @Setup
+    public void setUp() {
+        simulator = new SimulationService(UUID.randomUUID(), bot1Name, bot2Name);
+    }
+
+    @Benchmark
+    public List<PlayWithBotsDto> gamesPerSecond() {
+        return simulator.runInParallel(1);
+    }
+}
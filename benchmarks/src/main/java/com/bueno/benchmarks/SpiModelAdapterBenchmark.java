@@ -0,0 +1,34 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.spi.model.GameIntel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpiModelAdapterBenchmark {
+
+    private Player player;
+    private Intel intel;
+
+    @Setup
+    public void setUp() {
+        final Game game = GameFixtures.gameWithPlayedCards(3);
+        player = game.currentHand().getCurrentPlayer();
+        intel = game.getIntel();
+    }
+
+    @Benchmark
+    public GameIntel toGameIntel() {
+        return SpiModelAdapter.toGameIntel(player, intel);
+    }
+}
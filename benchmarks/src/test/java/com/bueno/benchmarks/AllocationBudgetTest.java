@@ -0,0 +1,106 @@
+package com.bueno.benchmarks;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AllocationBudgetTest {
+
+    private static final String BOT_1 = "DummyBot";
+    private static final String BOT_2 = "PaulistaBot";
+    private static final long[] SEEDS = {1L, 2L, 3L, 5L, 8L, 13L, 21L, 34L};
+    private static final int WARM_UP_GAMES = 200;
+
+    // Worst measured seed plus about 15% (seed 1: 157 MiB per game, 10.5 MiB per hand on average).
+    // Lower them whenever an optimization lands.
+    private static final long MAX_BYTES_PER_GAME = 180L * 1024 * 1024;
+    private static final long MAX_AVERAGE_BYTES_PER_HAND = 12L * 1024 * 1024;
+    private static final int TOP_ALLOCATION_SITES = 15;
+
+    @BeforeAll
+    static void warmUp() {
+        for (int i = 0; i < WARM_UP_GAMES; i++) new SeededBotGame(i, BOT_1, BOT_2, new AllocationMeter()).play();
+    }
+
+    @Test
+    @DisplayName("Should keep allocations of seeded bot games within budget")
+    void shouldKeepAllocationsOfSeededBotGamesWithinBudget() throws IOException {
+        for (long seed : SEEDS) {
+            final AllocationMeter meter = new AllocationMeter();
+            final SeededBotGame game = new SeededBotGame(seed, BOT_1, BOT_2, meter);
+            game.play();
+
+            final long bytesPerGame = meter.totalBytes();
+            final long averageBytesPerHand = bytesPerGame / game.handsPlayed();
+            final boolean overBudget = bytesPerGame > MAX_BYTES_PER_GAME || averageBytesPerHand > MAX_AVERAGE_BYTES_PER_HAND;
+            final String sites = overBudget ? topAllocationSitesOf(seed) : "";
+
+            assertThat(bytesPerGame)
+                    .as("Bytes allocated by game of seed %d (%d hands, by phase %s)%s", seed, game.handsPlayed(),
+                            meter.bytesByPhase(), sites)
+                    .isLessThanOrEqualTo(MAX_BYTES_PER_GAME);
+            assertThat(averageBytesPerHand)
+                    .as("Average bytes allocated per hand by game of seed %d (%d hands, by phase %s)%s", seed,
+                            game.handsPlayed(), meter.bytesByPhase(), sites)
+                    .isLessThanOrEqualTo(MAX_AVERAGE_BYTES_PER_HAND);
+        }
+    }
+
+    private static String topAllocationSitesOf(long seed) throws IOException {
+        final Path file = Files.createTempFile("allocation-" + seed, ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ObjectAllocationInNewTLAB").withStackTrace();
+            recording.enable("jdk.ObjectAllocationOutsideTLAB").withStackTrace();
+            recording.start();
+            new SeededBotGame(seed, BOT_1, BOT_2, new AllocationMeter()).play();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final Map<String, Long> weightBySite = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if (event.getStackTrace() == null || !isFromSeededGame(event.getStackTrace().getFrames())) continue;
+            weightBySite.merge(allocationSiteOf(event.getStackTrace().getFrames()), weightOf(event), Long::sum);
+        }
+        Files.deleteIfExists(file);
+
+        return weightBySite.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(TOP_ALLOCATION_SITES)
+                .map(entry -> String.format("%,15d bytes  %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.joining("\n", "\nTop allocation sites:\n", ""));
+    }
+
+    private static long weightOf(RecordedEvent event) {
+        return event.hasField("tlabSize") ? event.getLong("tlabSize") : event.getLong("allocationSize");
+    }
+
+    private static boolean isFromSeededGame(List<RecordedFrame> frames) {
+        return frames.stream().anyMatch(frame -> frame.getMethod().getType().getName().equals(SeededBotGame.class.getName()));
+    }
+
+    private static String allocationSiteOf(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith("com.bueno.domain"))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("unknown");
+    }
+}
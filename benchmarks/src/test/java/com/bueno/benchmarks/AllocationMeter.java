@@ -0,0 +1,47 @@
+package com.bueno.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+final class AllocationMeter {
+
+    enum Phase {HAND, INTEL, ADAPTER, BOT, CONVERTER}
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long[] bytesByPhase = new long[Phase.values().length];
+
+    AllocationMeter() {
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported())
+            throw new UnsupportedOperationException("Thread allocated memory is not supported by this JVM.");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    <T> T measure(Phase phase, Supplier<T> action) {
+        final long before = threadBean.getCurrentThreadAllocatedBytes();
+        final T result = action.get();
+        bytesByPhase[phase.ordinal()] += threadBean.getCurrentThreadAllocatedBytes() - before;
+        return result;
+    }
+
+    void measure(Phase phase, Runnable action) {
+        measure(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    long totalBytes() {
+        long total = 0;
+        for (long bytes : bytesByPhase) total += bytes;
+        return total;
+    }
+
+    Map<Phase, Long> bytesByPhase() {
+        final Map<Phase, Long> result = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) result.put(phase, bytesByPhase[phase.ordinal()]);
+        return result;
+    }
+}
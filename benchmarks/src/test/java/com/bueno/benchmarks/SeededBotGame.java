@@ -0,0 +1,106 @@
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.hand.converter.HandResultConverter;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.EnumSet;
+import java.util.Random;
+
+import static com.bueno.benchmarks.AllocationMeter.Phase.*;
+
+/**
+ * Plays a bot versus bot game on a live {@link Game} dealt from a seeded deck. It takes the same decisions as the
+ * bot handlers of the domain and performs the same conversions the game use cases do after each action, but
+ * without a repository in between, so that every allocation is attributed to a single phase of the meter.
+ */
+final class SeededBotGame {
+
+    private final Game game;
+    private final Player player1;
+    private final BotServiceProvider bot1;
+    private final BotServiceProvider bot2;
+    private final AllocationMeter meter;
+    private int handsPlayed;
+
+    SeededBotGame(long seed, String bot1Name, String bot2Name, AllocationMeter meter) {
+        this.player1 = Player.ofBot(bot1Name);
+        this.bot1 = BotServiceManager.load(bot1Name);
+        this.bot2 = BotServiceManager.load(bot2Name);
+        this.meter = meter;
+        this.game = meter.measure(HAND, () -> new Game(player1, Player.ofBot(bot2Name), new Deck(new Random(seed))));
+    }
+
+    void play() {
+        while (!game.isDone()) playNextAction();
+    }
+
+    int handsPlayed() {
+        return handsPlayed;
+    }
+
+    private void playNextAction() {
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        final BotServiceProvider bot = player.equals(player1) ? bot1 : bot2;
+        final Intel intel = meter.measure(INTEL, game::getIntel);
+        final GameIntel gameIntel = meter.measure(ADAPTER, () -> SpiModelAdapter.toGameIntel(player, intel));
+        final EnumSet<PossibleAction> actions = hand.getPossibleActions();
+
+        if (intel.isMaoDeOnze() && hand.getPoints() == HandPoints.ONE) {
+            final boolean accepted = meter.measure(BOT, () -> bot.getMaoDeOnzeResponse(gameIntel));
+            meter.measure(HAND, () -> {
+                if (accepted) hand.accept(player);
+                else hand.quit(player);
+            });
+        } else if (actions.contains(PossibleAction.RAISE) && !actions.contains(PossibleAction.QUIT)
+                && meter.measure(BOT, () -> bot.decideIfRaises(gameIntel))) {
+            meter.measure(HAND, () -> hand.raise(player));
+        } else if (actions.contains(PossibleAction.PLAY)) {
+            final CardToPlay chosenCard = meter.measure(BOT, () -> bot.chooseCard(gameIntel));
+            meter.measure(HAND, () -> playCard(hand, player, chosenCard));
+        } else {
+            final int response = meter.measure(BOT, () -> bot.getRaiseResponse(gameIntel));
+            meter.measure(HAND, () -> {
+                if (response == -1) hand.quit(player);
+                else if (response == 1 && actions.contains(PossibleAction.RAISE)) hand.raise(player);
+                else hand.accept(player);
+            });
+        }
+        handleResult(hand);
+        meter.measure(CONVERTER, () -> {
+            GameConverter.fromDto(GameConverter.toDto(game));
+            IntelConverter.toDto(game.getIntel());
+        });
+    }
+
+    private static void playCard(Hand hand, Player player, CardToPlay chosenCard) {
+        final Card card = SpiModelAdapter.toCard(chosenCard.content());
+        final Card playedCard = chosenCard.isDiscard() ? player.discard(card) : player.play(card);
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, playedCard);
+        else hand.playSecondCard(player, playedCard);
+    }
+
+    private void handleResult(Hand hand) {
+        if (hand.getResult().isEmpty()) return;
+        handsPlayed++;
+        meter.measure(CONVERTER, () -> HandResultConverter.of(game));
+        meter.measure(HAND, () -> {
+            game.updateScores();
+            if (!game.isDone()) game.prepareNewHand();
+        });
+    }
+}
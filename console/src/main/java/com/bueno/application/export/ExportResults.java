@@ -0,0 +1,35 @@
+package com.bueno.application.export;
+
+import com.bueno.application.export.ExportSettingsReader.ExportSettings;
+import com.bueno.persistence.export.ResultsExporter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.sql.DriverManager;
+
+public class ExportResults {
+
+    private static final int FETCH_SIZE = 1000;
+
+    public void fromConsole() {
+        final ExportSettings settings = scanSettings();
+        final ResultsExporter exporter = new ResultsExporter(
+                () -> DriverManager.getConnection(settings.jdbcUrl(), settings.username(), settings.password()), FETCH_SIZE);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(settings.output()))) {
+            final long start = System.currentTimeMillis();
+            final long rows = exporter.export(settings.table(), settings.format(), out);
+            final long end = System.currentTimeMillis();
+            System.out.printf("Exported %d rows to %s in %d ms.%n%n", rows, settings.output().toAbsolutePath(), end - start);
+        } catch (IOException e) {
+            System.out.println("Could not export results: " + e.getMessage());
+        }
+    }
+
+    private ExportSettings scanSettings() {
+        ExportSettingsReader reader = new ExportSettingsReader();
+        return reader.execute();
+    }
+}
@@ -0,0 +1,42 @@
+package com.bueno.application.export;
+
+import com.bueno.application.utils.Command;
+import com.bueno.persistence.export.ExportFormat;
+import com.bueno.persistence.export.ResultsExporter;
+
+import java.nio.file.Path;
+import java.util.Scanner;
+
+public class ExportSettingsReader implements Command<ExportSettingsReader.ExportSettings> {
+
+    public record ExportSettings(String jdbcUrl, String username, String password,
+                                 ResultsExporter.Table table, ExportFormat format, Path output) {}
+
+    @Override
+    public ExportSettings execute() {
+        final var scanner = new Scanner(System.in);
+        final String url = read(scanner, "JDBC url", "jdbc:postgresql://localhost:5432/ctruco");
+        final String username = read(scanner, "Database user", "postgres");
+        final String password = read(scanner, "Database password", "password");
+
+        String table;
+        while (isValidChoice(table = read(scanner, "Export (G)ame or (H)and results", "G"), "G", "H"))
+            printErrorMessage("Invalid option!");
+        String format;
+        while (isValidChoice(format = read(scanner, "Format (N)DJSON or (C)SV", "N"), "N", "C"))
+            printErrorMessage("Invalid option!");
+
+        final ResultsExporter.Table chosenTable = table.equalsIgnoreCase("G")
+                ? ResultsExporter.Table.GAME_RESULTS : ResultsExporter.Table.HAND_RESULTS;
+        final ExportFormat chosenFormat = format.equalsIgnoreCase("N") ? ExportFormat.NDJSON : ExportFormat.CSV;
+        final String defaultOutput = chosenTable.name().toLowerCase().replace('_', '-') + "." + chosenFormat.extension();
+        final Path output = Path.of(read(scanner, "Output file", defaultOutput));
+        return new ExportSettings(url, username, password, chosenTable, chosenFormat, output);
+    }
+
+    private String read(Scanner scanner, String prompt, String defaultValue) {
+        System.out.print(prompt + " [" + defaultValue + "]: ");
+        final String value = scanner.nextLine().trim();
+        return value.isEmpty() ? defaultValue : value;
+    }
+}
@@ -1,9 +1,13 @@
 package com.bueno.application.main.commands;
 
+import com.bueno.application.export.ExportResults;
 import com.bueno.application.utils.Command;
+import com.bueno.application.withbots.features.AnalyzeGameLogs;
 import com.bueno.application.withbots.features.EvaluateBot;
 import com.bueno.application.withbots.features.PlayWithBots;
 import com.bueno.application.withbots.features.RankBots;
+import com.bueno.application.withbots.features.RankBotsInWorkers;
+import com.bueno.application.withbots.features.ReplayGame;
 import com.bueno.application.withuser.PlayAgainstBots;
 
 import java.util.Scanner;
@@ -27,6 +31,10 @@ public class ExecuteMenu implements Command<Void> {
         System.out.println("Simulate Bot vs Bot .............[2]");
         System.out.println("Evaluate a Bot...................[3]");
         System.out.println("Rank all Bots....................[4]");
+        System.out.println("Rank all Bots in processes.......[5]");
+        System.out.println("Analyze recorded games...........[6]");
+        System.out.println("Replay a recorded game...........[7]");
+        System.out.println("Export game or hand results......[8]");
         System.out.println("Exit.............................[0]");
         System.out.print("Choose a menu option: ");
     }
@@ -50,6 +58,22 @@ public class ExecuteMenu implements Command<Void> {
                 final var rank = new RankBots();
                 rank.allBots();
             }
+            case "5" ->{
+                final var rank = new RankBotsInWorkers();
+                rank.allBots();
+            }
+            case "6" ->{
+                final var analyze = new AnalyzeGameLogs();
+                analyze.fromConsole();
+            }
+            case "7" ->{
+                final var replay = new ReplayGame();
+                replay.fromConsole();
+            }
+            case "8" ->{
+                final var export = new ExportResults();
+                export.fromConsole();
+            }
             default -> System.out.println("invalid Answer! \n");
 
         }
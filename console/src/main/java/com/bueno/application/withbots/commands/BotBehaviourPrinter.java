@@ -0,0 +1,40 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.bueno.domain.usecases.game.log.BotBehaviour;
+import com.bueno.domain.usecases.game.log.HandStrength;
+
+import java.util.Collection;
+
+public class BotBehaviourPrinter implements Command<Void> {
+    int numberOfFiles;
+    long computingTime;
+    Collection<BotBehaviour> behaviours;
+
+    public BotBehaviourPrinter(int numberOfFiles, long computingTime, Collection<BotBehaviour> behaviours) {
+        this.numberOfFiles = numberOfFiles;
+        this.computingTime = computingTime;
+        this.behaviours = behaviours;
+    }
+
+    @Override
+    public Void execute() {
+        System.out.println("\n================================================================");
+        System.out.println("Time to analyze " + numberOfFiles + " game log files: " + computingTime + "ms.\n");
+        System.out.printf("%-28s %9s %7s %7s %7s %7s %7s %7s%n",
+                "Bot", "Hands", "Raise-W", "Raise-A", "Raise-S", "Bluff", "M.Onze", "Pts/H");
+        for (BotBehaviour behaviour : behaviours) {
+            System.out.printf("%-28s %9d %6.1f%% %6.1f%% %6.1f%% %6.1f%% %6.1f%% %7.2f%n",
+                    behaviour.botName(),
+                    behaviour.handsPlayed(),
+                    100 * behaviour.raiseFrequency(HandStrength.WEAK),
+                    100 * behaviour.raiseFrequency(HandStrength.AVERAGE),
+                    100 * behaviour.raiseFrequency(HandStrength.STRONG),
+                    100 * behaviour.bluffSuccessRate(),
+                    100 * behaviour.maoDeOnzeAcceptance(),
+                    behaviour.averagePointsPerHand());
+        }
+        System.out.println("================================================================");
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+
+import java.util.Scanner;
+
+public class ContinueWithBotsReader implements Command<Boolean> {
+
+    @Override
+    public Boolean execute() {
+        final var scanner = new Scanner(System.in);
+        System.out.print("Let the bots continue the replayed game? [y/n]: ");
+        return scanner.next().trim().equalsIgnoreCase("y");
+    }
+}
@@ -0,0 +1,15 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+
+import java.util.Scanner;
+
+public class GameIndexReader implements Command<Integer> {
+
+    @Override
+    public Integer execute() {
+        final var scanner = new Scanner(System.in);
+        System.out.print("Game number in the log (starting at 1): ");
+        return scanner.nextInt() - 1;
+    }
+}
@@ -0,0 +1,17 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+
+import java.nio.file.Path;
+import java.util.Scanner;
+
+public class GameLogPathReader implements Command<Path> {
+
+    @Override
+    public Path execute() {
+        final var scanner = new Scanner(System.in);
+        System.out.print("Game log file or directory of .ctgl files [.]: ");
+        final String path = scanner.nextLine().trim();
+        return Path.of(path.isEmpty() ? "." : path);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+
+import java.util.Scanner;
+
+public class RecordGamesReader implements Command<Boolean> {
+
+    @Override
+    public Boolean execute() {
+        final var scanner = new Scanner(System.in);
+        System.out.print("Record games in a game log file? [y/n]: ");
+        return scanner.next().trim().equalsIgnoreCase("y");
+    }
+}
@@ -0,0 +1,23 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.bueno.domain.usecases.game.dtos.ReplayResultDto;
+
+public class ReplayResultPrinter implements Command<Void> {
+    ReplayResultDto result;
+
+    public ReplayResultPrinter(ReplayResultDto result) {
+        this.result = result;
+    }
+
+    @Override
+    public Void execute() {
+        System.out.println("\n================================================================");
+        System.out.println("Hands replayed: " + result.handsReplayed() + " | Hands played: " + result.handsPlayed());
+        System.out.println(result.player1Name() + " " + result.player1Score() + " x "
+                + result.player2Score() + " " + result.player2Name()
+                + (result.gameIsDone() ? "" : " (game not finished)"));
+        System.out.println("================================================================");
+        return null;
+    }
+}
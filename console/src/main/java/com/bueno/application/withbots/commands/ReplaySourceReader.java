@@ -0,0 +1,15 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+
+import java.util.Scanner;
+
+public class ReplaySourceReader implements Command<String> {
+
+    @Override
+    public String execute() {
+        final var scanner = new Scanner(System.in);
+        System.out.print("Game log file or crash record to replay: ");
+        return scanner.nextLine().trim();
+    }
+}
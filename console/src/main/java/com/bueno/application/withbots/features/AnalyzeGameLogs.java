@@ -0,0 +1,57 @@
+package com.bueno.application.withbots.features;
+
+import com.bueno.application.withbots.commands.BotBehaviourPrinter;
+import com.bueno.application.withbots.commands.GameLogPathReader;
+import com.bueno.application.withbots.commands.WaitingMessagePrinter;
+import com.bueno.domain.usecases.game.log.BotBehaviour;
+import com.bueno.domain.usecases.game.log.GameLogAnalyzer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class AnalyzeGameLogs {
+
+    public void fromConsole() {
+        final Path path = scanGameLogPath();
+        try {
+            final List<Path> files = gameLogFilesIn(path);
+            if (files.isEmpty()) {
+                System.out.println("No game log files found in " + path.toAbsolutePath());
+                return;
+            }
+            showWaitingMessage();
+            final long start = System.currentTimeMillis();
+            final Map<String, BotBehaviour> behaviours = GameLogAnalyzer.analyze(files);
+            final long end = System.currentTimeMillis();
+            printResult(files.size(), end - start, behaviours);
+        } catch (IOException e) {
+            System.out.println("Could not analyze game logs: " + e.getMessage());
+        }
+    }
+
+    private List<Path> gameLogFilesIn(Path path) throws IOException {
+        if (!Files.isDirectory(path)) return Files.exists(path) ? List.of(path) : List.of();
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".ctgl")).sorted().toList();
+        }
+    }
+
+    private Path scanGameLogPath() {
+        GameLogPathReader reader = new GameLogPathReader();
+        return reader.execute();
+    }
+
+    private void printResult(int numberOfFiles, long computingTime, Map<String, BotBehaviour> behaviours) {
+        BotBehaviourPrinter printer = new BotBehaviourPrinter(numberOfFiles, computingTime, behaviours.values());
+        printer.execute();
+    }
+
+    private void showWaitingMessage() {
+        WaitingMessagePrinter messagePrinter = new WaitingMessagePrinter();
+        messagePrinter.execute();
+    }
+}
@@ -25,6 +25,8 @@ import com.bueno.domain.usecases.bot.providers.BotProviders;
 import com.bueno.domain.usecases.game.usecase.PlayWithBotsUseCase;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,6 +37,7 @@ public class PlayWithBots {
     private String bot1Name;
     private String bot2Name;
     private int times;
+    private Path gameLogFile;
 
 
     public void playWithBotsConsole() {
@@ -46,15 +49,22 @@ public class PlayWithBots {
         final var bot2 = scanBotOption(botNames);
         times = scanNumberOfSimulations();
 
-        showWaitingMessage();
-
         bot1Name = botNames.get(bot1 - 1);
         bot2Name = botNames.get(bot2 - 1);
+        gameLogFile = scanRecordGames() ? Path.of("games-" + System.currentTimeMillis() + ".ctgl") : null;
+
+        showWaitingMessage();
 
         final long start = System.currentTimeMillis();
         final var results = playBotsStarter();
         final long end = System.currentTimeMillis();
         printResult(times, (end - start), results);
+        if (gameLogFile != null) System.out.println("Games recorded in " + gameLogFile.toAbsolutePath());
+    }
+
+    private boolean scanRecordGames() {
+        RecordGamesReader scanRecordGames = new RecordGamesReader();
+        return scanRecordGames.execute();
     }
 
     private int scanNumberOfSimulations() {
@@ -64,7 +74,13 @@ public class PlayWithBots {
 
     private List<PlayWithBotsDto> playBotsStarter() {
         final var useCase = new PlayWithBotsUseCase(uuidBot1, bot1Name, bot2Name);
-        return useCase.playWithBots(times);
+        if (gameLogFile == null) return useCase.playWithBots(times);
+        try {
+            return useCase.playWithBots(times, gameLogFile);
+        } catch (IOException e) {
+            System.out.println("Could not record games: " + e.getMessage());
+            return List.of();
+        }
     }
 
     private void printAvailableBots(List<String> botNames) {
@@ -4,6 +4,9 @@ import com.bueno.application.withbots.commands.BotRankPrinter;
 import com.bueno.application.withbots.commands.WaitingMessagePrinter;
 import com.bueno.domain.usecases.game.usecase.RankBotsUseCase;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -11,13 +14,23 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 public class RankBots {
+    private static final Path CHECKPOINT = Path.of("rank-bots.checkpoint");
 
     public void allBots() {
         RankBotsUseCase useCase = new RankBotsUseCase();
         showWaitingMessage();
-        Map<String, Long> rankMap = useCase.rankAll();
-        rankMap = sortByValueDescending(rankMap);
-        printRank(rankMap);
+        try {
+            if (Files.exists(CHECKPOINT))
+                System.out.println("Resuming from checkpoint " + CHECKPOINT.toAbsolutePath());
+            showRank(useCase.rankAll(CHECKPOINT));
+            Files.deleteIfExists(CHECKPOINT);
+        } catch (IOException e) {
+            System.out.println("Could not rank bots: " + e.getMessage());
+        }
+    }
+
+    void showRank(Map<String, Long> rankMap) {
+        printRank(sortByValueDescending(rankMap));
     }
 
     private void printRank(Map<String, Long> rankMap) {
@@ -0,0 +1,135 @@
+package com.bueno.application.withbots.features;
+
+import com.bueno.application.withbots.commands.NumberOfWorkersReader;
+import com.bueno.application.withbots.commands.WaitingMessagePrinter;
+import com.bueno.domain.usecases.bot.providers.BotProviders;
+import com.bueno.domain.usecases.game.usecase.RankBotsUseCase;
+import com.bueno.domain.usecases.tournament.MatchupPlan;
+import com.bueno.domain.usecases.tournament.MatchupResult;
+import com.bueno.domain.usecases.tournament.MatchupResultFile;
+
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class RankBotsInWorkers {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int LOG_LINES_SHOWN = 20;
+
+    public void allBots() {
+        final int numberOfWorkers = new NumberOfWorkersReader().execute();
+        showWaitingMessage();
+        try {
+            final List<MatchupResult> results = playInWorkers(Math.max(1, numberOfWorkers));
+            new RankBots().showRank(RankBotsUseCase.rank(BotProviders.availableBots(), results));
+        } catch (IOException | IllegalStateException e) {
+            System.out.println("Could not rank bots in worker processes: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<MatchupResult> playInWorkers(int numberOfShards) throws IOException, InterruptedException {
+        final Path workDirectory = Files.createTempDirectory("ctruco-rank");
+        final Map<Integer, Process> running = new HashMap<>();
+        try {
+            return playInWorkers(numberOfShards, workDirectory, running);
+        } finally {
+            running.values().forEach(Process::destroyForcibly);
+            for (Process process : running.values()) process.waitFor();
+            deleteRecursively(workDirectory);
+        }
+    }
+
+    private List<MatchupResult> playInWorkers(int numberOfShards, Path workDirectory, Map<Integer, Process> running)
+            throws IOException, InterruptedException {
+        final var matchups = MatchupPlan.of(BotProviders.availableBots());
+        final int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / numberOfShards);
+        final Map<Integer, Integer> attempts = new HashMap<>();
+        final List<MatchupResult> results = new ArrayList<>();
+
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            running.put(shard, launch(shard, numberOfShards, parallelism, workDirectory));
+            attempts.put(shard, 1);
+        }
+
+        while (!running.isEmpty()) {
+            for (Integer shard : List.copyOf(running.keySet())) {
+                final int exitCode = running.get(shard).waitFor();
+                running.remove(shard);
+                final Path resultFile = resultFileOf(workDirectory, shard);
+                final int expectedResults = MatchupPlan.shard(matchups, shard, numberOfShards).size();
+                final List<MatchupResult> shardResults = exitCode == 0 && Files.exists(resultFile)
+                        ? MatchupResultFile.read(resultFile) : List.of();
+
+                if (shardResults.size() == expectedResults) {
+                    results.addAll(shardResults);
+                    continue;
+                }
+                if (attempts.get(shard) == MAX_ATTEMPTS)
+                    throw new IllegalStateException("shard " + shard + " failed " + MAX_ATTEMPTS + " times"
+                            + lastLinesOf(logFileOf(workDirectory, shard)));
+
+                System.out.println("Shard " + shard + " failed (exit code " + exitCode + "), retrying...");
+                attempts.merge(shard, 1, Integer::sum);
+                running.put(shard, launch(shard, numberOfShards, parallelism, workDirectory));
+            }
+        }
+        return results;
+    }
+
+    private Process launch(int shard, int numberOfShards, int parallelism, Path workDirectory) throws IOException {
+        final List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-Djava.util.concurrent.ForkJoinPool.common.parallelism=" + parallelism);
+
+        final String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null && !modulePath.isBlank()) {
+            command.addAll(List.of("--module-path", modulePath, "--module",
+                    RankBotsWorker.class.getModule().getName() + "/" + RankBotsWorker.class.getName()));
+        } else {
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"), RankBotsWorker.class.getName()));
+        }
+        command.addAll(List.of(String.valueOf(shard), String.valueOf(numberOfShards),
+                resultFileOf(workDirectory, shard).toString()));
+
+        return new ProcessBuilder(command)
+                .redirectOutput(Redirect.DISCARD)
+                .redirectError(logFileOf(workDirectory, shard).toFile())
+                .start();
+    }
+
+    private static Path resultFileOf(Path workDirectory, int shard) {
+        return workDirectory.resolve("shard-" + shard + ".results");
+    }
+
+    private static Path logFileOf(Path workDirectory, int shard) {
+        return workDirectory.resolve("shard-" + shard + ".log");
+    }
+
+    private static String lastLinesOf(Path logFile) throws IOException {
+        if (!Files.exists(logFile)) return "";
+        final List<String> lines = Files.readAllLines(logFile);
+        if (lines.isEmpty()) return "";
+        return ":" + System.lineSeparator()
+                + String.join(System.lineSeparator(), lines.subList(Math.max(0, lines.size() - LOG_LINES_SHOWN), lines.size()));
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(path);
+        }
+    }
+
+    private void showWaitingMessage() {
+        WaitingMessagePrinter messagePrinter = new WaitingMessagePrinter();
+        messagePrinter.execute();
+    }
+}
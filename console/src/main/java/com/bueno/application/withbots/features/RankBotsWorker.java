@@ -0,0 +1,21 @@
+package com.bueno.application.withbots.features;
+
+import com.bueno.domain.usecases.game.usecase.RankBotsUseCase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class RankBotsWorker {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: RankBotsWorker <shard index> <number of shards> <result file>");
+            System.exit(2);
+        }
+        final int shardIndex = Integer.parseInt(args[0]);
+        final int numberOfShards = Integer.parseInt(args[1]);
+        final Path resultFile = Path.of(args[2]);
+
+        new RankBotsUseCase().playShard(shardIndex, numberOfShards, resultFile);
+    }
+}
@@ -0,0 +1,67 @@
+package com.bueno.application.withbots.features;
+
+import com.bueno.application.withbots.commands.*;
+import com.bueno.domain.usecases.bot.providers.BotProviders;
+import com.bueno.domain.usecases.game.dtos.ReplayResultDto;
+import com.bueno.domain.usecases.game.usecase.ReplayGameUseCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ReplayGame {
+
+    public void fromConsole() {
+        final var useCase = new ReplayGameUseCase();
+        final String source = scanReplaySource();
+        try {
+            final ReplayResultDto result;
+            if (Files.isRegularFile(Path.of(source))) {
+                final int gameIndex = scanGameIndex();
+                result = useCase.replay(Path.of(source), gameIndex, scanContinueWithBots());
+            } else {
+                final var botNames = BotProviders.availableBots();
+                printAvailableBots(botNames);
+                final String bot1Name = botNames.get(scanBotOption(botNames) - 1);
+                final String bot2Name = botNames.get(scanBotOption(botNames) - 1);
+                result = useCase.replay(bot1Name, bot2Name, source, scanContinueWithBots());
+            }
+            printResult(result);
+        } catch (IOException e) {
+            System.out.println("Could not read game log: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.out.println("Could not replay game: " + e);
+        }
+    }
+
+    private String scanReplaySource() {
+        ReplaySourceReader reader = new ReplaySourceReader();
+        return reader.execute();
+    }
+
+    private int scanGameIndex() {
+        GameIndexReader reader = new GameIndexReader();
+        return reader.execute();
+    }
+
+    private boolean scanContinueWithBots() {
+        ContinueWithBotsReader reader = new ContinueWithBotsReader();
+        return reader.execute();
+    }
+
+    private void printAvailableBots(List<String> botNames) {
+        BotsAvailablePrinter printer = new BotsAvailablePrinter(botNames);
+        printer.execute();
+    }
+
+    private int scanBotOption(List<String> botNames) {
+        BotOptionReader scanOptions = new BotOptionReader(botNames);
+        return scanOptions.execute();
+    }
+
+    private void printResult(ReplayResultDto result) {
+        ReplayResultPrinter printer = new ReplayResultPrinter(result);
+        printer.execute();
+    }
+}
@@ -1,5 +1,6 @@
 module application.console {
     requires java.logging;
+    requires java.sql;
     requires domain;
     requires com.google.common;
     requires application.persistence;
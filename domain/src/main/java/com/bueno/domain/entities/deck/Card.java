@@ -46,20 +46,33 @@ public final class Card {
         return fromCache(Rank.HIDDEN, Suit.HIDDEN);
     }
 
+    public static Card ofId(int id){
+        if(id < 0 || id > 40) throw new IllegalArgumentException("Card id must be in [0, 40]: " + id);
+        if(id == 0) return closed();
+        return fromCache(Rank.values()[(id - 1) / 4 + 1], Suit.values()[(id - 1) % 4 + 1]);
+    }
+
     private static Card fromCache(Rank rank, Suit suit){
+        final int cachePosition = idOf(rank, suit);
+        if(cache[cachePosition] == null) cache[cachePosition] = new Card(rank, suit);
+        return cache[cachePosition];
+    }
+
+    private static int idOf(Rank rank, Suit suit){
         int rankValue = rank.value();
         int suitValue = suit.value();
-        int cachePosition = rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+        return rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+    }
 
-        if(cache[cachePosition] == null) cache[cachePosition] = new Card(rank, suit);
-        return cache[cachePosition];
+    public int id(){
+        return idOf(rank, suit);
     }
 
     public int compareValueTo(Card otherCard, Card vira){
-        return this.computeCardValue(vira) - otherCard.computeCardValue(vira);
+        return this.relativeValue(vira) - otherCard.relativeValue(vira);
     }
 
-    private int computeCardValue(Card vira) {
+    public int relativeValue(Card vira) {
         if (isManilha(vira))
             return switch (suit) {
                 case DIAMONDS -> 10;
@@ -23,11 +23,23 @@ package com.bueno.domain.entities.deck;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 public class Deck {
-    private final List<Card> cards = new ArrayList<>();
+    private final List<Card> cards = new ArrayList<>(40);
+    private final Random random;
 
     public Deck() {
+        this(new Random());
+    }
+
+    public Deck(Random random) {
+        this.random = random;
+        generateSortedDeck();
+    }
+
+    public void refill() {
+        cards.clear();
         generateSortedDeck();
     }
 
@@ -49,7 +61,7 @@ public class Deck {
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        Collections.shuffle(cards, random);
     }
 
     public int size() {
@@ -36,17 +36,23 @@ import java.util.stream.Collectors;
 public class Game {
 
     private final UUID uuid;
+    private final Long dealSeed;
     private Deck deck;
     private final LocalDateTime timestamp;
     private final Player player1;
     private final Player player2;
     private final List<Hand> hands;
+    private final int summarizedHands;
 
     private Player firstToPlay;
     private Player lastToPlay;
 
     public Game(Player player1, Player player2) {
-        this(player1, player2, UUID.randomUUID(), new Deck());
+        this(player1, player2, new Random().nextLong());
+    }
+
+    public Game(Player player1, Player player2, long dealSeed) {
+        this(player1, player2, UUID.randomUUID(), null, dealSeed);
     }
 
     public Game(Player player1, Player player2, Deck deck) {
@@ -54,18 +60,40 @@ public class Game {
     }
 
     public Game(Player player1, Player player2, UUID uuid, Deck deck) {
+        this(player1, player2, uuid, deck, null);
+    }
+
+    private Game(Player player1, Player player2, UUID uuid, Deck deck, Long dealSeed) {
         this.deck = deck;
+        this.dealSeed = dealSeed;
         this.player1 = Objects.requireNonNull(player1);
         this.player2 = Objects.requireNonNull(player2);
         this.uuid = uuid;
         this.hands = new ArrayList<>();
+        this.summarizedHands = 0;
         this.timestamp = LocalDateTime.now();
         prepareNewHand();
     }
 
     public Game(UUID uuid, LocalDateTime timestamp, Player player1, Player player2, Player firstToPlay,
                 Player lastToPlay, List<Hand> hands) {
+        this(uuid, timestamp, null, player1, player2, firstToPlay, lastToPlay, hands);
+    }
+
+    public Game(UUID uuid, LocalDateTime timestamp, Long dealSeed, Player player1, Player player2, Player firstToPlay,
+                Player lastToPlay, List<Hand> hands) {
+        this(uuid, timestamp, dealSeed, 0, player1, player2, firstToPlay, lastToPlay, hands);
+    }
+
+    /**
+     * Restores a game whose first {@code summarizedHands} hands were collapsed by the repository. They are not part
+     * of {@code hands} anymore, but still count as played hands, which keeps the deal of the next hands unchanged.
+     */
+    public Game(UUID uuid, LocalDateTime timestamp, Long dealSeed, int summarizedHands, Player player1, Player player2,
+                Player firstToPlay, Player lastToPlay, List<Hand> hands) {
         this.uuid = uuid;
+        this.summarizedHands = summarizedHands;
+        this.dealSeed = dealSeed;
         this.timestamp = timestamp;
         this.player1 = player1;
         this.player2 = player2;
@@ -77,7 +105,9 @@ public class Game {
     public void prepareNewHand() {
         defineHandPlayingOrder();
 
-        if(deck == null) deck = new Deck();
+        if(dealSeed != null) deck = new Deck(new Random(handSeed(dealSeed, handsPlayed())));
+        else if(deck == null) deck = new Deck();
+        else deck.refill();
         deck.shuffle();
 
         final Card vira = deck.takeOne();
@@ -88,6 +118,10 @@ public class Game {
         hands.add(hand);
     }
 
+    public static long handSeed(long dealSeed, int handIndex) {
+        return dealSeed + 0x9E3779B97F4A7C15L * (handIndex + 1);
+    }
+
     private void defineHandPlayingOrder() {
         firstToPlay = player1.equals(firstToPlay) ? player2 : player1;
         lastToPlay = firstToPlay.equals(player1) ? player2 : player1;
@@ -125,6 +159,10 @@ public class Game {
         return uuid;
     }
 
+    public Optional<Long> getDealSeed() {
+        return Optional.ofNullable(dealSeed);
+    }
+
     public LocalDateTime getTimestamp() {
         return timestamp;
     }
@@ -150,7 +188,11 @@ public class Game {
     }
 
     public int handsPlayed() {
-        return hands.size();
+        return summarizedHands + hands.size();
+    }
+
+    public int getSummarizedHands() {
+        return summarizedHands;
     }
 
     public Hand currentHand() {
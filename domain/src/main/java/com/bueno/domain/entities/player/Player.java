@@ -22,6 +22,7 @@ package com.bueno.domain.entities.player;
 
 import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.rules.GameRules;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,7 +31,7 @@ import java.util.UUID;
 
 public class Player {
 
-    public static final int MAX_SCORE = 12;
+    public static final int MAX_SCORE = GameRules.MAX_SCORE;
     private List<Card> cards;
     private final String username;
     private final UUID uuid;
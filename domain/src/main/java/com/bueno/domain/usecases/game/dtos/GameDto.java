@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.game.dtos;
 
+import com.bueno.domain.rules.GameRules;
 import com.bueno.domain.usecases.hand.dtos.HandDto;
 
 import java.time.LocalDateTime;
@@ -27,5 +28,28 @@ import java.util.List;
 import java.util.UUID;
 
 public record GameDto(UUID gameUuid, LocalDateTime timestamp, PlayerDto player1, PlayerDto player2,
-                      PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands) {
+                      PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands, Long dealSeed,
+                      int summarizedHands) {
+
+    public GameDto(UUID gameUuid, LocalDateTime timestamp, PlayerDto player1, PlayerDto player2,
+                   PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands) {
+        this(gameUuid, timestamp, player1, player2, firstToPlay, lastToPlay, hands, null, 0);
+    }
+
+    public GameDto(UUID gameUuid, LocalDateTime timestamp, PlayerDto player1, PlayerDto player2,
+                   PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands, Long dealSeed) {
+        this(gameUuid, timestamp, player1, player2, firstToPlay, lastToPlay, hands, dealSeed, 0);
+    }
+
+    public int handsPlayed() {
+        return summarizedHands + hands.size();
+    }
+
+    public boolean isDone() {
+        return player1.score() == GameRules.MAX_SCORE || player2.score() == GameRules.MAX_SCORE;
+    }
+
+    public GameDto withHands(List<HandDto> hands) {
+        return new GameDto(gameUuid, timestamp, player1, player2, firstToPlay, lastToPlay, hands, dealSeed, summarizedHands);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.bueno.domain.usecases.game.dtos;
+
+public record ReplayResultDto(String player1Name, int player1Score, String player2Name, int player2Score,
+                              int handsReplayed, int handsPlayed, boolean gameIsDone) {
+}
@@ -20,12 +20,14 @@
 
 package com.bueno.domain.usecases.game.dtos;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 public record TopWinnersDto(Map<String, Integer> topUsersRecords){
     public TopWinnersDto(List<PlayerWinsDto> topUserRecords){
-        this(topUserRecords.stream().collect(Collectors.toMap(PlayerWinsDto::username, PlayerWinsDto::wins)));
+        this(topUserRecords.stream().collect(Collectors.<PlayerWinsDto, String, Integer, Map<String, Integer>>toMap(
+                PlayerWinsDto::username, PlayerWinsDto::wins, (first, second) -> first, LinkedHashMap::new)));
     }
 }
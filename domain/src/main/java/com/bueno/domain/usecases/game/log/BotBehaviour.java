@@ -0,0 +1,66 @@
+package com.bueno.domain.usecases.game.log;
+
+import java.util.Arrays;
+
+/**
+ * Behaviour of a bot aggregated from game logs. A bluff is a hand in which the bot raised holding a
+ * {@link HandStrength#WEAK} hand, and it succeeds when the bot wins that hand.
+ */
+public record BotBehaviour(String botName, long handsPlayed, long[] handsByStrength, long[] raisesByStrength,
+                           long bluffs, long successfulBluffs, long maoDeOnzeHands, long maoDeOnzeAccepted,
+                           long pointsWon) {
+
+    public double raiseFrequency(HandStrength strength) {
+        return ratio(raisesByStrength[strength.ordinal()], handsByStrength[strength.ordinal()]);
+    }
+
+    public double bluffSuccessRate() {
+        return ratio(successfulBluffs, bluffs);
+    }
+
+    public double maoDeOnzeAcceptance() {
+        return ratio(maoDeOnzeAccepted, maoDeOnzeHands);
+    }
+
+    public double averagePointsPerHand() {
+        return ratio(pointsWon, handsPlayed);
+    }
+
+    private static double ratio(long count, long total) {
+        return total == 0 ? 0.0 : (double) count / total;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BotBehaviour other)) return false;
+        return botName.equals(other.botName) && handsPlayed == other.handsPlayed
+                && Arrays.equals(handsByStrength, other.handsByStrength)
+                && Arrays.equals(raisesByStrength, other.raisesByStrength)
+                && bluffs == other.bluffs && successfulBluffs == other.successfulBluffs
+                && maoDeOnzeHands == other.maoDeOnzeHands && maoDeOnzeAccepted == other.maoDeOnzeAccepted
+                && pointsWon == other.pointsWon;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = botName.hashCode();
+        result = 31 * result + Long.hashCode(handsPlayed);
+        result = 31 * result + Arrays.hashCode(handsByStrength);
+        result = 31 * result + Arrays.hashCode(raisesByStrength);
+        result = 31 * result + Long.hashCode(bluffs);
+        result = 31 * result + Long.hashCode(successfulBluffs);
+        result = 31 * result + Long.hashCode(maoDeOnzeHands);
+        result = 31 * result + Long.hashCode(maoDeOnzeAccepted);
+        return 31 * result + Long.hashCode(pointsWon);
+    }
+
+    @Override
+    public String toString() {
+        return "BotBehaviour[botName=" + botName + ", handsPlayed=" + handsPlayed
+                + ", handsByStrength=" + Arrays.toString(handsByStrength)
+                + ", raisesByStrength=" + Arrays.toString(raisesByStrength) + ", bluffs=" + bluffs
+                + ", successfulBluffs=" + successfulBluffs + ", maoDeOnzeHands=" + maoDeOnzeHands
+                + ", maoDeOnzeAccepted=" + maoDeOnzeAccepted + ", pointsWon=" + pointsWon + "]";
+    }
+}
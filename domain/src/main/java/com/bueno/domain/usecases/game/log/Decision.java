@@ -0,0 +1,80 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.deck.Card;
+
+/**
+ * A decision taken by a player, encoded in a single byte. The highest bit is the player index (0 for the first
+ * player of the game and 1 for the second one) and the other bits are the action: 1 to 40 plays the card of that
+ * id, 41 to 80 discards the card of id minus 40, and the remaining constants of this class are point proposals and
+ * responses.
+ */
+public final class Decision {
+    public static final int RAISE = 120;
+    public static final int ACCEPT = 121;
+    public static final int QUIT = 122;
+    public static final int ACCEPT_HAND = 123;
+    public static final int QUIT_HAND = 124;
+
+    private static final int DISCARD_OFFSET = 40;
+    private static final int PLAYER_BIT = 0x80;
+    private static final int ACTION_MASK = 0x7F;
+
+    private Decision() {}
+
+    public static byte ofPlay(int playerIndex, Card card) {
+        return of(playerIndex, requireOpen(card).id());
+    }
+
+    public static byte ofDiscard(int playerIndex, Card card) {
+        return of(playerIndex, requireOpen(card).id() + DISCARD_OFFSET);
+    }
+
+    public static byte of(int playerIndex, int action) {
+        if (playerIndex != 0 && playerIndex != 1) throw new IllegalArgumentException("Invalid player index: " + playerIndex);
+        if (action < 1 || action > ACTION_MASK) throw new IllegalArgumentException("Invalid action: " + action);
+        return (byte) (playerIndex == 0 ? action : action | PLAYER_BIT);
+    }
+
+    public static int playerIndex(byte decision) {
+        return (decision & PLAYER_BIT) == 0 ? 0 : 1;
+    }
+
+    public static int action(byte decision) {
+        return decision & ACTION_MASK;
+    }
+
+    public static boolean isPlay(byte decision) {
+        final int action = action(decision);
+        return action >= 1 && action <= DISCARD_OFFSET;
+    }
+
+    public static boolean isDiscard(byte decision) {
+        final int action = action(decision);
+        return action > DISCARD_OFFSET && action <= 2 * DISCARD_OFFSET;
+    }
+
+    public static Card card(byte decision) {
+        if (isPlay(decision)) return Card.ofId(action(decision));
+        if (isDiscard(decision)) return Card.ofId(action(decision) - DISCARD_OFFSET);
+        throw new IllegalArgumentException("Decision does not involve a card: " + action(decision));
+    }
+
+    public static String toString(byte decision) {
+        final String player = "P" + (playerIndex(decision) + 1);
+        if (isPlay(decision)) return player + " PLAY " + card(decision);
+        if (isDiscard(decision)) return player + " DISCARD " + card(decision);
+        return player + " " + switch (action(decision)) {
+            case RAISE -> "RAISE";
+            case ACCEPT -> "ACCEPT";
+            case QUIT -> "QUIT";
+            case ACCEPT_HAND -> "ACCEPT_HAND";
+            case QUIT_HAND -> "QUIT_HAND";
+            default -> "UNKNOWN(" + action(decision) + ")";
+        };
+    }
+
+    private static Card requireOpen(Card card) {
+        if (card.isClosed()) throw new IllegalArgumentException("Decision card must not be closed.");
+        return card;
+    }
+}
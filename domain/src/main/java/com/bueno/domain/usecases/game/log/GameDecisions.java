@@ -0,0 +1,56 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decisions taken in the current hand of a game, in the encoding of {@link Decision}. They let a repository store
+ * a few bytes per action and rebuild the game state from an earlier state of the same hand.
+ */
+public final class GameDecisions {
+
+    private GameDecisions() {}
+
+    /**
+     * Only the intel from {@code historySize - 1} on is converted: each decision is read from an intel and the one
+     * right before it.
+     */
+    public static byte[] since(GameDto game, int historySize) {
+        final List<IntelDto> history = game.hands().get(game.hands().size() - 1).history();
+        final int from = Math.max(0, historySize - 1);
+        final List<Intel> tail = history.subList(from, history.size()).stream().map(IntelConverter::fromDto).toList();
+        return GameRecordConverter.decisionsOf(tail, historySize - from, game.player1().uuid());
+    }
+
+    public static GameDto apply(GameDto game, byte[] decisions, List<Instant> timestamps) {
+        if (decisions.length != timestamps.size())
+            throw new IllegalArgumentException("Each decision must have a timestamp.");
+        if (decisions.length == 0) return game;
+
+        final Game currentGame = GameConverter.fromDto(game);
+        final Hand hand = currentGame.currentHand();
+        final Player[] players = {currentGame.getPlayer1(), currentGame.getPlayer2()};
+        for (byte decision : decisions) GameReplayer.apply(hand, players[Decision.playerIndex(decision)], decision);
+
+        final GameDto result = GameConverter.toDto(currentGame);
+        final List<HandDto> hands = new ArrayList<>(result.hands());
+        final HandDto currentHand = hands.get(hands.size() - 1);
+        final List<IntelDto> history = new ArrayList<>(currentHand.history());
+        final int firstReplayed = history.size() - decisions.length;
+        for (int i = 0; i < decisions.length; i++)
+            history.set(firstReplayed + i, history.get(firstReplayed + i).withTimestamp(timestamps.get(i)));
+        hands.set(hands.size() - 1, currentHand.withHistory(history));
+        return result.withHands(hands);
+    }
+}
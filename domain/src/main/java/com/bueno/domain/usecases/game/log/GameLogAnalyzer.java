@@ -0,0 +1,152 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.deck.Card;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the behaviour of each bot found in a set of game log files. Every file is memory mapped and split at
+ * record boundaries into segments of similar size, which are scanned in parallel and merged by bot name.
+ */
+public final class GameLogAnalyzer {
+    private static final int SEGMENTS_PER_PROCESSOR = 4;
+
+    private GameLogAnalyzer() {}
+
+    public static Map<String, BotBehaviour> analyze(Collection<Path> files) throws IOException {
+        final List<Segment> segments = new ArrayList<>();
+        final int numberOfSegments = Runtime.getRuntime().availableProcessors() * SEGMENTS_PER_PROCESSOR;
+        final int segmentsPerFile = Math.max(1, numberOfSegments / Math.max(1, files.size()));
+        for (Path file : files) segments.addAll(segmentsOf(file, segmentsPerFile));
+
+        final Map<String, Counter> counters = segments.parallelStream()
+                .map(GameLogAnalyzer::scan)
+                .reduce(new HashMap<>(), GameLogAnalyzer::merge);
+
+        final Map<String, BotBehaviour> result = new TreeMap<>();
+        counters.forEach((botName, counter) -> result.put(botName, counter.toBehaviour(botName)));
+        return result;
+    }
+
+    static List<Segment> segmentsOf(Path file, int numberOfSegments) throws IOException {
+        final ByteBuffer buffer = GameLogReader.map(file);
+        final GameLogHeader header = GameLogHeader.readFrom(buffer);
+        final int start = buffer.position();
+        final long targetSize = Math.max(1, (buffer.limit() - start) / numberOfSegments);
+
+        final List<Segment> segments = new ArrayList<>(numberOfSegments);
+        int segmentStart = start;
+        int position = start;
+        while (buffer.limit() - position >= Integer.BYTES) {
+            final int next = position + Integer.BYTES + buffer.getInt(position);
+            if (next > buffer.limit()) break;
+            position = next;
+            if (position - segmentStart >= targetSize) {
+                segments.add(new Segment(header, buffer.slice(segmentStart, position - segmentStart)));
+                segmentStart = position;
+            }
+        }
+        if (position > segmentStart) segments.add(new Segment(header, buffer.slice(segmentStart, position - segmentStart)));
+        return segments;
+    }
+
+    private static Map<String, Counter> scan(Segment segment) {
+        final Counter[] players = {new Counter(), new Counter()};
+        GameLogReader.forEachRecord(segment.records(), record -> {
+            for (HandRecord hand : record.hands()) count(hand, players);
+        });
+        final Map<String, Counter> counters = new HashMap<>();
+        merge(counters, segment.header().player1Name(), players[0]);
+        merge(counters, segment.header().player2Name(), players[1]);
+        return counters;
+    }
+
+    private static void count(HandRecord hand, Counter[] players) {
+        if (hand.winnerIndex() == HandRecord.UNFINISHED) return;
+        final byte[] dealtCards = hand.dealtCards();
+        final Card vira = Card.ofId(dealtCards[0]);
+        final int firstToPlay = hand.firstToPlayIndex();
+
+        final HandStrength[] strengths = new HandStrength[2];
+        strengths[firstToPlay] = HandStrength.of(vira, Card.ofId(dealtCards[1]), Card.ofId(dealtCards[2]), Card.ofId(dealtCards[3]));
+        strengths[1 - firstToPlay] = HandStrength.of(vira, Card.ofId(dealtCards[4]), Card.ofId(dealtCards[5]), Card.ofId(dealtCards[6]));
+
+        final boolean[] raised = new boolean[2];
+        for (byte decision : hand.decisions()) {
+            final Counter counter = players[Decision.playerIndex(decision)];
+            switch (Decision.action(decision)) {
+                case Decision.RAISE -> raised[Decision.playerIndex(decision)] = true;
+                case Decision.ACCEPT_HAND -> {
+                    counter.maoDeOnzeHands++;
+                    counter.maoDeOnzeAccepted++;
+                }
+                case Decision.QUIT_HAND -> counter.maoDeOnzeHands++;
+                default -> {}
+            }
+        }
+
+        for (int player = 0; player < 2; player++) {
+            final Counter counter = players[player];
+            final int strength = strengths[player].ordinal();
+            final boolean won = hand.winnerIndex() == player;
+            counter.handsPlayed++;
+            counter.handsByStrength[strength]++;
+            if (won) counter.pointsWon += hand.points();
+            if (!raised[player]) continue;
+            counter.raisesByStrength[strength]++;
+            if (strengths[player] != HandStrength.WEAK) continue;
+            counter.bluffs++;
+            if (won) counter.successfulBluffs++;
+        }
+    }
+
+    private static Map<String, Counter> merge(Map<String, Counter> left, Map<String, Counter> right) {
+        final Map<String, Counter> result = new HashMap<>(left);
+        right.forEach((botName, counter) -> merge(result, botName, counter));
+        return result;
+    }
+
+    private static void merge(Map<String, Counter> counters, String botName, Counter counter) {
+        counters.merge(botName, counter, (left, right) -> new Counter().add(left).add(right));
+    }
+
+    record Segment(GameLogHeader header, ByteBuffer records) {}
+
+    private static final class Counter {
+        private final long[] handsByStrength = new long[HandStrength.values().length];
+        private final long[] raisesByStrength = new long[HandStrength.values().length];
+        private long handsPlayed;
+        private long bluffs;
+        private long successfulBluffs;
+        private long maoDeOnzeHands;
+        private long maoDeOnzeAccepted;
+        private long pointsWon;
+
+        private Counter add(Counter other) {
+            for (int i = 0; i < handsByStrength.length; i++) {
+                handsByStrength[i] += other.handsByStrength[i];
+                raisesByStrength[i] += other.raisesByStrength[i];
+            }
+            handsPlayed += other.handsPlayed;
+            bluffs += other.bluffs;
+            successfulBluffs += other.successfulBluffs;
+            maoDeOnzeHands += other.maoDeOnzeHands;
+            maoDeOnzeAccepted += other.maoDeOnzeAccepted;
+            pointsWon += other.pointsWon;
+            return this;
+        }
+
+        private BotBehaviour toBehaviour(String botName) {
+            return new BotBehaviour(botName, handsPlayed, handsByStrength.clone(), raisesByStrength.clone(), bluffs,
+                    successfulBluffs, maoDeOnzeHands, maoDeOnzeAccepted, pointsWon);
+        }
+    }
+}
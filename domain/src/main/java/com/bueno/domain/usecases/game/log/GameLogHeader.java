@@ -0,0 +1,47 @@
+package com.bueno.domain.usecases.game.log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Header of a game log file: magic number, format version and the names of the first and second players of all
+ * games in the file. It is followed by game records, each one prefixed by its length in bytes as an int.
+ */
+public record GameLogHeader(String player1Name, String player2Name) {
+    public static final int MAGIC = 0x4354474C;
+    public static final byte VERSION = 1;
+
+    public int encodedSize() {
+        return Integer.BYTES + 1 + encodedSizeOf(player1Name) + encodedSizeOf(player2Name);
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        putString(buffer, player1Name);
+        putString(buffer, player2Name);
+    }
+
+    public static GameLogHeader readFrom(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) throw new IllegalArgumentException("Not a game log.");
+        final byte version = buffer.get();
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported game log version: " + version);
+        return new GameLogHeader(getString(buffer), getString(buffer));
+    }
+
+    private static int encodedSizeOf(String value) {
+        return Short.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
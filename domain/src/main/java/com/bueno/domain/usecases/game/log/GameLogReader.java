@@ -0,0 +1,49 @@
+package com.bueno.domain.usecases.game.log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads game log files through memory mapping. A record cut by the end of the file is ignored.
+ */
+public final class GameLogReader {
+
+    private GameLogReader() {}
+
+    public static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    public static GameLogHeader readHeader(Path file) throws IOException {
+        return GameLogHeader.readFrom(map(file));
+    }
+
+    public static List<GameRecord> readAll(Path file) throws IOException {
+        final List<GameRecord> records = new ArrayList<>();
+        final ByteBuffer buffer = map(file);
+        GameLogHeader.readFrom(buffer);
+        forEachRecord(buffer, records::add);
+        return records;
+    }
+
+    public static void forEachRecord(ByteBuffer buffer, Consumer<GameRecord> consumer) {
+        while (buffer.remaining() >= Integer.BYTES) {
+            final int size = buffer.getInt(buffer.position());
+            if (buffer.remaining() < Integer.BYTES + size) return;
+            buffer.position(buffer.position() + Integer.BYTES);
+            final ByteBuffer record = buffer.slice(buffer.position(), size);
+            buffer.position(buffer.position() + size);
+            consumer.accept(GameRecord.readFrom(record));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.bueno.domain.usecases.game.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Writes game records to a game log file through a direct buffer that is only flushed to the channel when full
+ * and on close. It may be shared by the threads of a parallel simulation.
+ */
+public class GameLogWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long recordsWritten;
+
+    public GameLogWriter(Path file, String player1Name, String player2Name) throws IOException {
+        channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING);
+        new GameLogHeader(player1Name, player2Name).writeTo(buffer);
+    }
+
+    public synchronized void append(GameRecord record) throws IOException {
+        final int size = Integer.BYTES + record.encodedSize();
+        if (buffer.remaining() < size) flush();
+        if (buffer.remaining() < size) {
+            final ByteBuffer large = ByteBuffer.allocate(size);
+            write(large.putInt(record.encodedSize()), record);
+        } else {
+            buffer.putInt(record.encodedSize());
+            record.writeTo(buffer);
+        }
+        recordsWritten++;
+    }
+
+    public synchronized long recordsWritten() {
+        return recordsWritten;
+    }
+
+    public synchronized void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void write(ByteBuffer large, GameRecord record) throws IOException {
+        record.writeTo(large);
+        large.flip();
+        while (large.hasRemaining()) channel.write(large);
+    }
+}
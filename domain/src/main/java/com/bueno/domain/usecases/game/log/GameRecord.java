@@ -0,0 +1,51 @@
+package com.bueno.domain.usecases.game.log;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Compact record of a game: the deal seed, the winner index (0, 1 or {@link #NO_WINNER}) and its hands.
+ */
+public record GameRecord(long dealSeed, int winnerIndex, List<HandRecord> hands) {
+    public static final int NO_WINNER = 2;
+
+    public GameRecord {
+        if (winnerIndex < 0 || winnerIndex > NO_WINNER) throw new IllegalArgumentException("Invalid winner: " + winnerIndex);
+        if (hands.size() > 255) throw new IllegalArgumentException("Too many hands: " + hands.size());
+        hands = List.copyOf(hands);
+    }
+
+    public int encodedSize() {
+        int size = Long.BYTES + 2;
+        for (HandRecord hand : hands) size += hand.encodedSize();
+        return size;
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putLong(dealSeed);
+        buffer.put((byte) winnerIndex);
+        buffer.put((byte) hands.size());
+        for (HandRecord hand : hands) hand.writeTo(buffer);
+    }
+
+    public String toHex() {
+        final ByteBuffer buffer = ByteBuffer.allocate(encodedSize());
+        writeTo(buffer);
+        return HexFormat.of().formatHex(buffer.array());
+    }
+
+    public static GameRecord fromHex(String hex) {
+        return readFrom(ByteBuffer.wrap(HexFormat.of().parseHex(hex.trim())));
+    }
+
+    public static GameRecord readFrom(ByteBuffer buffer) {
+        final long dealSeed = buffer.getLong();
+        final int winnerIndex = buffer.get();
+        final int numberOfHands = buffer.get() & 0xFF;
+        final List<HandRecord> hands = new ArrayList<>(numberOfHands);
+        for (int i = 0; i < numberOfHands; i++) hands.add(HandRecord.readFrom(buffer));
+        return new GameRecord(dealSeed, winnerIndex, hands);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.intel.Event;
+import com.bueno.domain.entities.intel.Intel;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public final class GameRecordConverter {
+
+    private GameRecordConverter() {}
+
+    public static GameRecord of(Game game) {
+        final long dealSeed = game.getDealSeed()
+                .orElseThrow(() -> new IllegalArgumentException("Game " + game.getUuid() + " has no deal seed."));
+        final UUID player1Uuid = game.getPlayer1().getUuid();
+        final List<HandRecord> hands = game.getHands().stream().map(hand -> ofHand(hand, player1Uuid)).toList();
+        final int winnerIndex = game.getWinner().map(winner -> indexOf(winner.getUuid(), player1Uuid))
+                .orElse(GameRecord.NO_WINNER);
+        return new GameRecord(dealSeed, winnerIndex, hands);
+    }
+
+    private static HandRecord ofHand(Hand hand, UUID player1Uuid) {
+        final byte[] dealtCards = new byte[HandRecord.DEALT_CARDS];
+        final List<Card> cards = hand.getDealtCards();
+        for (int i = 0; i < dealtCards.length; i++) dealtCards[i] = (byte) cards.get(i).id();
+
+        final List<Intel> history = hand.getIntelHistory();
+        final UUID firstToPlayUuid = history.get(0).players().get(0).getUuid();
+
+        final Optional<HandResult> result = hand.getResult();
+        final int winnerIndex = result.map(handResult -> handResult.getWinner()
+                        .map(winner -> indexOf(winner.getUuid(), player1Uuid))
+                        .orElse(HandRecord.DRAW))
+                .orElse(HandRecord.UNFINISHED);
+        final int points = result.map(handResult -> handResult.getPoints().get()).orElse(0);
+
+        return new HandRecord(dealtCards, indexOf(firstToPlayUuid, player1Uuid), winnerIndex, points,
+                decisionsOf(history, 1, player1Uuid));
+    }
+
+    static byte[] decisionsOf(List<Intel> history, int fromIndex, UUID player1Uuid) {
+        final ByteArrayOutputStream decisions = new ByteArrayOutputStream(16);
+        for (int i = Math.max(1, fromIndex); i < history.size(); i++) {
+            final Intel intel = history.get(i);
+            final UUID eventPlayerUuid = intel.eventPlayerUuid().orElseThrow();
+            final int playerIndex = indexOf(eventPlayerUuid, player1Uuid);
+            final Event event = Event.valueOf(intel.event().orElseThrow());
+            decisions.write(switch (event) {
+                case PLAY -> cardDecisionOf(history.get(i - 1), intel, eventPlayerUuid, playerIndex);
+                case RAISE -> Decision.of(playerIndex, Decision.RAISE);
+                case ACCEPT -> Decision.of(playerIndex, Decision.ACCEPT);
+                case QUIT -> Decision.of(playerIndex, Decision.QUIT);
+                case ACCEPT_HAND -> Decision.of(playerIndex, Decision.ACCEPT_HAND);
+                case QUIT_HAND -> Decision.of(playerIndex, Decision.QUIT_HAND);
+                default -> throw new IllegalStateException("Unexpected event in hand history: " + event);
+            });
+        }
+        return decisions.toByteArray();
+    }
+
+    private static byte cardDecisionOf(Intel before, Intel after, UUID playerUuid, int playerIndex) {
+        final List<Card> remaining = cardsOf(after, playerUuid);
+        final Card card = cardsOf(before, playerUuid).stream()
+                .filter(candidate -> !remaining.contains(candidate))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Could not find the card played by " + playerUuid));
+        final List<Card> openCards = after.openCards();
+        final boolean isDiscard = openCards.get(openCards.size() - 1).isClosed();
+        return isDiscard ? Decision.ofDiscard(playerIndex, card) : Decision.ofPlay(playerIndex, card);
+    }
+
+    private static List<Card> cardsOf(Intel intel, UUID playerUuid) {
+        return intel.players().stream()
+                .filter(player -> player.getUuid().equals(playerUuid))
+                .findFirst()
+                .map(Intel.PlayerIntel::getCards)
+                .orElseThrow();
+    }
+
+    private static int indexOf(UUID playerUuid, UUID player1Uuid) {
+        return playerUuid.equals(player1Uuid) ? 0 : 1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+
+import java.util.List;
+
+/**
+ * Rebuilds a game from its deal seed and decisions by replaying them through {@link Game} and {@link Hand}, the
+ * same way the use cases do. The cards dealt and the result of each hand are checked against the record, so a
+ * replay that diverges from the recorded game fails instead of producing a different game.
+ */
+public final class GameReplayer {
+
+    private GameReplayer() {}
+
+    public static Game replay(GameRecord record, String player1Name, String player2Name) {
+        final Player[] players = {Player.ofBot(player1Name), Player.ofBot(player2Name)};
+        final Game game = new Game(players[0], players[1], record.dealSeed());
+        final List<HandRecord> hands = record.hands();
+        for (int i = 0; i < hands.size(); i++) {
+            if (game.isDone()) throw new IllegalStateException("Game is over but record has " + hands.size() + " hands.");
+            replayHand(game, hands.get(i), i, players);
+        }
+        return game;
+    }
+
+    private static void replayHand(Game game, HandRecord record, int handIndex, Player[] players) {
+        final Hand hand = game.currentHand();
+        checkDealtCards(hand, record, handIndex);
+        if (!hand.getFirstToPlay().equals(players[record.firstToPlayIndex()]))
+            throw new IllegalStateException("Hand " + handIndex + " started by the wrong player.");
+
+        for (byte decision : record.decisions()) {
+            if (hand.getResult().isPresent())
+                throw new IllegalStateException("Hand " + handIndex + " is over but has more decisions.");
+            apply(hand, players[Decision.playerIndex(decision)], decision);
+        }
+
+        if (record.winnerIndex() == HandRecord.UNFINISHED) {
+            if (hand.getResult().isPresent()) throw new IllegalStateException("Hand " + handIndex + " should be unfinished.");
+            return;
+        }
+        checkResult(hand, record, handIndex, players);
+        game.updateScores();
+        if (!game.isDone()) game.prepareNewHand();
+    }
+
+    static void apply(Hand hand, Player player, byte decision) {
+        if (Decision.isPlay(decision) || Decision.isDiscard(decision)) {
+            final Card card = Decision.card(decision);
+            final Card playedCard = Decision.isDiscard(decision) ? player.discard(card) : player.play(card);
+            if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, playedCard);
+            else hand.playSecondCard(player, playedCard);
+            return;
+        }
+        switch (Decision.action(decision)) {
+            case Decision.RAISE -> hand.raise(player);
+            case Decision.ACCEPT, Decision.ACCEPT_HAND -> hand.accept(player);
+            case Decision.QUIT, Decision.QUIT_HAND -> hand.quit(player);
+            default -> throw new IllegalArgumentException("Unknown decision: " + Decision.toString(decision));
+        }
+    }
+
+    private static void checkDealtCards(Hand hand, HandRecord record, int handIndex) {
+        final List<Card> dealtCards = hand.getDealtCards();
+        for (int i = 0; i < HandRecord.DEALT_CARDS; i++) {
+            if (dealtCards.get(i).id() != record.dealtCards()[i])
+                throw new IllegalStateException("Hand " + handIndex + " dealt " + dealtCards + ", but record has "
+                        + Card.ofId(record.dealtCards()[i]) + " at position " + i + ".");
+        }
+    }
+
+    private static void checkResult(Hand hand, HandRecord record, int handIndex, Player[] players) {
+        final var result = hand.getResult()
+                .orElseThrow(() -> new IllegalStateException("Hand " + handIndex + " has no result after its decisions."));
+        final int winnerIndex = result.getWinner().map(winner -> winner.equals(players[0]) ? 0 : 1).orElse(HandRecord.DRAW);
+        final int points = result.getPoints().get();
+        if (winnerIndex != record.winnerIndex() || points != record.points())
+            throw new IllegalStateException("Hand " + handIndex + " result diverged from record.");
+    }
+}
@@ -0,0 +1,69 @@
+package com.bueno.domain.usecases.game.log;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact record of a hand: the ids of the 7 dealt cards (vira, the three cards of the player who started the hand
+ * and the three cards of the other one), the index of the player who started the hand, the decisions in the order
+ * they were taken and the result. Winner index is 0 or 1 for the players of the game, {@link #DRAW} or
+ * {@link #UNFINISHED}.
+ */
+public record HandRecord(byte[] dealtCards, int firstToPlayIndex, int winnerIndex, int points, byte[] decisions) {
+    public static final int DEALT_CARDS = 7;
+    public static final int DRAW = 2;
+    public static final int UNFINISHED = 3;
+
+    public HandRecord {
+        if (dealtCards.length != DEALT_CARDS) throw new IllegalArgumentException("A hand must have 7 dealt cards.");
+        if (decisions.length > 255) throw new IllegalArgumentException("Too many decisions: " + decisions.length);
+        if (winnerIndex < 0 || winnerIndex > UNFINISHED) throw new IllegalArgumentException("Invalid winner: " + winnerIndex);
+        if (points < 0 || points > 12) throw new IllegalArgumentException("Invalid hand points: " + points);
+    }
+
+    public int encodedSize() {
+        return DEALT_CARDS + 3 + decisions.length;
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(dealtCards);
+        buffer.put((byte) firstToPlayIndex);
+        buffer.put((byte) (winnerIndex << 4 | points));
+        buffer.put((byte) decisions.length);
+        buffer.put(decisions);
+    }
+
+    public static HandRecord readFrom(ByteBuffer buffer) {
+        final byte[] dealtCards = new byte[DEALT_CARDS];
+        buffer.get(dealtCards);
+        final int firstToPlayIndex = buffer.get();
+        final int result = buffer.get() & 0xFF;
+        final byte[] decisions = new byte[buffer.get() & 0xFF];
+        buffer.get(decisions);
+        return new HandRecord(dealtCards, firstToPlayIndex, result >>> 4, result & 0x0F, decisions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HandRecord other)) return false;
+        return firstToPlayIndex == other.firstToPlayIndex && winnerIndex == other.winnerIndex
+                && points == other.points && Arrays.equals(dealtCards, other.dealtCards)
+                && Arrays.equals(decisions, other.decisions);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(dealtCards);
+        result = 31 * result + Arrays.hashCode(decisions);
+        result = 31 * result + firstToPlayIndex;
+        result = 31 * result + winnerIndex;
+        return 31 * result + points;
+    }
+
+    @Override
+    public String toString() {
+        return "HandRecord[dealtCards=" + Arrays.toString(dealtCards) + ", firstToPlayIndex=" + firstToPlayIndex
+                + ", winnerIndex=" + winnerIndex + ", points=" + points + ", decisions=" + Arrays.toString(decisions) + "]";
+    }
+}
@@ -0,0 +1,21 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.deck.Card;
+
+/**
+ * Strength of the three cards dealt to a player, measured by the sum of their values relative to the vira, the same
+ * values used by {@link Card#compareValueTo(Card, Card)}: 1 to 9 for ordinary cards and 10 to 13 for manilhas.
+ */
+public enum HandStrength {
+    WEAK, AVERAGE, STRONG;
+
+    private static final int MAX_WEAK_SUM = 12;
+    private static final int MAX_AVERAGE_SUM = 18;
+
+    public static HandStrength of(Card vira, Card first, Card second, Card third) {
+        final int sum = first.relativeValue(vira) + second.relativeValue(vira) + third.relativeValue(vira);
+        if (sum <= MAX_WEAK_SUM) return WEAK;
+        if (sum <= MAX_AVERAGE_SUM) return AVERAGE;
+        return STRONG;
+    }
+}
@@ -21,23 +21,29 @@
 package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public class GameRepoDisposableImpl implements GameRepository {
 
     private GameDto game;
+    private long version;
 
     @Override
     public void save(GameDto dto) {
         game = dto;
+        version = 0;
     }
 
     @Override
     public void update(GameDto dto) {
         game = dto;
+        version++;
     }
 
     @Override
@@ -51,7 +57,17 @@ public class GameRepoDisposableImpl implements GameRepository {
     }
 
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return null;
+    public Optional<GameVersionDto> findVersionByPlayerUuid(UUID playerUuid) {
+        return Optional.ofNullable(game).map(dto -> new GameVersionDto(dto.gameUuid(), version));
+    }
+
+    @Override
+    public List<InactiveGameDto> findInactiveAfter(int minutes, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<UUID> deleteInactiveAfter(Collection<UUID> uuids, int minutes) {
+        return List.of();
     }
 }
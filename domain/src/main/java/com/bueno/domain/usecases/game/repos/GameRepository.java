@@ -21,8 +21,11 @@
 package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +35,18 @@ public interface GameRepository {
     void delete(UUID uuid);
     Optional<GameDto> findByPlayerUuid(UUID playerUuid);
 
-    Collection<GameDto> findAllInactiveAfter(int minutes);
+    /**
+     * The stored version of the active game of the player, read without loading the game itself. Lets callers tell
+     * whether the game changed since they last loaded it.
+     */
+    Optional<GameVersionDto> findVersionByPlayerUuid(UUID playerUuid);
+
+    List<InactiveGameDto> findInactiveAfter(int minutes, int limit);
+
+    /**
+     * Deletes the given games that are still inactive after the given minutes, so a game that got a move since it
+     * was found inactive is kept. Returns the uuids of the deleted games.
+     */
+    List<UUID> deleteInactiveAfter(Collection<UUID> uuids, int minutes);
 
 }
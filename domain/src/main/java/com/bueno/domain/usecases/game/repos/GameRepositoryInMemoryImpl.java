@@ -20,44 +20,133 @@
 
 package com.bueno.domain.usecases.game.repos;
 
-
 import com.bueno.domain.usecases.game.dtos.GameDto;
-import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
+/**
+ * Thread-safe in-memory repository. Games are indexed by uuid and by player uuid, and kept in a set ordered by
+ * their last activity, so finding inactive games only visits the ones that actually expired. Changes to a single
+ * game are serialized through the game map, which keeps the indexes consistent under parallel access.
+ */
 public class GameRepositoryInMemoryImpl implements GameRepository {
 
-    private static final Map<UUID, GameDto> games = new HashMap<>();
+    private final Map<UUID, GameDto> games = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> gameByPlayer = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> versionByGame = new ConcurrentHashMap<>();
+    private final Map<UUID, Activity> activityByGame = new ConcurrentHashMap<>();
+    private final NavigableSet<Activity> activities = new ConcurrentSkipListSet<>();
 
     @Override
     public void save(GameDto game) {
-        games.put(game.gameUuid(), game);
+        games.compute(game.gameUuid(), (uuid, previous) -> {
+            if (previous != null) unindex(previous);
+            index(game);
+            versionByGame.put(uuid, 0L);
+            return game;
+        });
     }
 
     @Override
     public void update(GameDto gameDto) {
-        games.replace(gameDto.gameUuid(), gameDto);
+        games.computeIfPresent(gameDto.gameUuid(), (uuid, previous) -> {
+            unindex(previous);
+            index(gameDto);
+            versionByGame.merge(uuid, 1L, Long::sum);
+            return gameDto;
+        });
     }
 
     @Override
     public void delete(UUID uuid) {
-        games.remove(uuid);
+        games.computeIfPresent(uuid, (unused, previous) -> {
+            unindex(previous);
+            versionByGame.remove(uuid);
+            return null;
+        });
     }
 
     @Override
     public Optional<GameDto> findByPlayerUuid(UUID uuid) {
-        Predicate<GameDto> hasPlayer = game -> hasUuid(game.player1(), uuid) || hasUuid(game.player2(), uuid);
-        return games.values().stream().filter(hasPlayer).findAny();
+        final UUID gameUuid = gameByPlayer.get(uuid);
+        return gameUuid == null ? Optional.empty() : Optional.ofNullable(games.get(gameUuid));
+    }
+
+    @Override
+    public Optional<GameVersionDto> findVersionByPlayerUuid(UUID uuid) {
+        final UUID gameUuid = gameByPlayer.get(uuid);
+        if (gameUuid == null) return Optional.empty();
+        return Optional.ofNullable(versionByGame.get(gameUuid)).map(version -> new GameVersionDto(gameUuid, version));
+    }
+
+    @Override
+    public List<InactiveGameDto> findInactiveAfter(int minutes, int limit) {
+        final Instant threshold = Instant.now().minus(minutes, ChronoUnit.MINUTES);
+        final List<InactiveGameDto> inactiveGames = new ArrayList<>();
+        for (Activity activity : activities.headSet(new Activity(threshold, null))) {
+            if (inactiveGames.size() == limit) break;
+            final GameDto game = games.get(activity.gameUuid());
+            if (game != null) inactiveGames.add(InactiveGameDto.of(game));
+        }
+        return inactiveGames;
     }
 
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return null;
+    public List<UUID> deleteInactiveAfter(Collection<UUID> uuids, int minutes) {
+        final Instant threshold = Instant.now().minus(minutes, ChronoUnit.MINUTES);
+        final List<UUID> removed = new ArrayList<>();
+        for (UUID uuid : uuids) {
+            games.computeIfPresent(uuid, (unused, previous) -> {
+                if (!lastActivityOf(previous).isBefore(threshold)) return previous;
+                unindex(previous);
+                versionByGame.remove(uuid);
+                removed.add(uuid);
+                return null;
+            });
+        }
+        return removed;
     }
 
-    private static boolean hasUuid(PlayerDto player, UUID uuid) {
-        return player.uuid().equals(uuid);
+    private void index(GameDto game) {
+        gameByPlayer.put(game.player1().uuid(), game.gameUuid());
+        gameByPlayer.put(game.player2().uuid(), game.gameUuid());
+        final Activity activity = new Activity(lastActivityOf(game), game.gameUuid());
+        activityByGame.put(game.gameUuid(), activity);
+        activities.add(activity);
+    }
+
+    private void unindex(GameDto game) {
+        gameByPlayer.remove(game.player1().uuid(), game.gameUuid());
+        gameByPlayer.remove(game.player2().uuid(), game.gameUuid());
+        final Activity activity = activityByGame.remove(game.gameUuid());
+        if (activity != null) activities.remove(activity);
+    }
+
+    private static Instant lastActivityOf(GameDto game) {
+        if (game.hands().isEmpty()) return Instant.now();
+        final List<IntelDto> history = game.hands().get(game.hands().size() - 1).history();
+        return history.isEmpty() ? Instant.now() : history.get(history.size() - 1).timestamp();
+    }
+
+    private record Activity(Instant timestamp, UUID gameUuid) implements Comparable<Activity> {
+        private static final UUID FIRST = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+        @Override
+        public int compareTo(Activity other) {
+            final int byTimestamp = timestamp.compareTo(other.timestamp);
+            if (byTimestamp != 0) return byTimestamp;
+            return uuidOrFirst(gameUuid).compareTo(uuidOrFirst(other.gameUuid));
+        }
+
+        private static UUID uuidOrFirst(UUID uuid) {
+            return uuid == null ? FIRST : uuid;
+        }
     }
 }
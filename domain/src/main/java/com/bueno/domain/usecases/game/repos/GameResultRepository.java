@@ -22,16 +22,31 @@ package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
 import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import com.bueno.domain.usecases.game.dtos.LeaderboardWindow;
 import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface GameResultRepository {
     void save(GameResultDto gameResultDto);
 
-    List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers);
+    default void saveAll(Collection<GameResultDto> gameResults) {
+        gameResults.forEach(this::save);
+    }
 
-    List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid);
+    default List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers) {
+        return findTopWinners(maxNumberOfUsers, LeaderboardWindow.ALL_TIME);
+    }
+
+    List<PlayerWinsDto> findTopWinners(int maxNumberOfUsers, LeaderboardWindow window);
+
+    /**
+     * Returns up to {@code limit} matches of the user, most recent first. Passing the ending time and game uuid
+     * of the last match of a page returns the next one; a null {@code endedBefore} returns the first page.
+     */
+    List<GameResultUsernamesDto> findMatchesByUserUuid(UUID uuid, LocalDateTime endedBefore, UUID beforeGame, int limit);
 
 }
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.intel.IntelHub;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Publishes the intel of every game stored through it to the {@link IntelHub}, so players subscribed to their game
+ * receive it right after the move that produced it.
+ */
+public class IntelPublishingGameRepository implements GameRepository {
+
+    private final GameRepository delegate;
+    private final IntelHub hub;
+
+    public IntelPublishingGameRepository(GameRepository delegate, IntelHub hub) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.hub = Objects.requireNonNull(hub);
+    }
+
+    @Override
+    public void save(GameDto gameDto) {
+        delegate.save(gameDto);
+        hub.publish(gameDto);
+    }
+
+    @Override
+    public void update(GameDto gameDto) {
+        delegate.update(gameDto);
+        hub.publish(gameDto);
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        delegate.delete(uuid);
+        hub.closeGames(List.of(uuid));
+    }
+
+    @Override
+    public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
+        return delegate.findByPlayerUuid(playerUuid);
+    }
+
+    @Override
+    public Optional<GameVersionDto> findVersionByPlayerUuid(UUID playerUuid) {
+        return delegate.findVersionByPlayerUuid(playerUuid);
+    }
+
+    @Override
+    public List<InactiveGameDto> findInactiveAfter(int minutes, int limit) {
+        return delegate.findInactiveAfter(minutes, limit);
+    }
+
+    @Override
+    public List<UUID> deleteInactiveAfter(Collection<UUID> uuids, int minutes) {
+        final List<UUID> removed = delegate.deleteInactiveAfter(uuids, minutes);
+        hub.closeGames(removed);
+        return removed;
+    }
+}
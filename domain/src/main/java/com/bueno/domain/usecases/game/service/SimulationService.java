@@ -1,13 +1,18 @@
 package com.bueno.domain.usecases.game.service;
 
+import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.usecases.bot.BotUseCase;
 import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.log.GameLogWriter;
+import com.bueno.domain.usecases.game.log.GameRecordConverter;
 import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -20,12 +25,19 @@ public class SimulationService {
    private final String bot1Name;
    private final UUID uuidBot2;
    private final String bot2Name;
+   private final GameLogWriter gameLog;
 
     public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName) {
+        this(uuidBotToEvaluate, botToEvaluateName, challengedBotName, null);
+    }
+
+    public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName,
+                             GameLogWriter gameLog) {
         this.uuidBot1 = uuidBotToEvaluate;
         this.bot1Name = botToEvaluateName;
         this.uuidBot2 = UUID.randomUUID();;
         this.bot2Name = challengedBotName;
+        this.gameLog = gameLog;
     }
 
     public List<PlayWithBotsDto> runInParallel(int times) {
@@ -47,15 +59,40 @@ public class SimulationService {
         final var botUseCase = new BotUseCase(gameRepository);
 
         //Plays the game
-        final var intel = botUseCase.playWhenNecessary(game);
+        final Intel intel;
+        try {
+            intel = botUseCase.playWhenNecessary(game);
+        } catch (RuntimeException e) {
+            reportCrash(gameRepository, requestModel.bot1Uuid(), e);
+            throw e;
+        }
 
         final var winnerUUID = intel.gameWinner().orElseThrow();
         final var winnerName = winnerUUID.equals(requestModel.bot1Uuid()) ?
                 requestModel.bot1Name() : requestModel.bot2Name();
         System.out.println("Winner: " + winnerName);
+        if (gameLog != null) record(gameRepository, requestModel.bot1Uuid());
         return new PlayWithBotsDto(winnerUUID, winnerName);
     }
 
+    private void record(GameRepository gameRepository, UUID playerUuid) {
+        final var playedGame = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+        try {
+            gameLog.append(GameRecordConverter.of(playedGame));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void reportCrash(GameRepository gameRepository, UUID playerUuid, RuntimeException crash) {
+        try {
+            final var crashedGame = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+            System.err.println("Game " + bot1Name + " vs " + bot2Name + " crashed. Replay it with record "
+                    + GameRecordConverter.of(crashedGame).toHex());
+        } catch (RuntimeException e) {
+            crash.addSuppressed(e);
+        }
+    }
 
     private Function<Callable<PlayWithBotsDto>, PlayWithBotsDto> executeGameCall(){
         return gameCall -> {
@@ -21,8 +21,11 @@
 package com.bueno.domain.usecases.game.usecase;
 
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.log.GameLogWriter;
 import com.bueno.domain.usecases.game.service.SimulationService;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,4 +46,11 @@ public class PlayWithBotsUseCase {
         return simulator.runInParallel(times);
     }
 
+    public List<PlayWithBotsDto> playWithBots(int times, Path gameLogFile) throws IOException {
+        try (GameLogWriter gameLog = new GameLogWriter(gameLogFile, bot1Name, bot2Name)) {
+            final var simulator = new SimulationService(uuidBot1, bot1Name, bot2Name, gameLog);
+            return simulator.runInParallel(times);
+        }
+    }
+
 }
@@ -3,43 +3,67 @@ package com.bueno.domain.usecases.game.usecase;
 import com.bueno.domain.usecases.bot.providers.BotProviders;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
 import com.bueno.domain.usecases.game.service.SimulationService;
-import com.bueno.domain.usecases.game.service.WinsAccumulatorService;
+import com.bueno.domain.usecases.tournament.Matchup;
+import com.bueno.domain.usecases.tournament.MatchupPlan;
+import com.bueno.domain.usecases.tournament.MatchupResult;
+import com.bueno.domain.usecases.tournament.MatchupResultLog;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
 
 public class RankBotsUseCase {
-    private final int TIMES = 7;
-    private final Map<String, Long> rankMap = new HashMap<>();
+    public static final int TIMES = 7;
     private final List<String> botNames = BotProviders.availableBots();
+    private final Map<String, UUID> botUuids = new HashMap<>();
 
     public Map<String, Long> rankAll() {
-        botNames.forEach(this::playAgainstAll);
-        return rankMap;
+        return rank(botNames, playAll(MatchupPlan.of(botNames)));
+    }
+
+    public Map<String, Long> rankAll(Path checkpoint) throws IOException {
+        return rank(botNames, playAll(MatchupPlan.of(botNames), checkpoint));
+    }
+
+    public List<MatchupResult> playShard(int shardIndex, int numberOfShards, Path checkpoint) throws IOException {
+        return playAll(MatchupPlan.shard(MatchupPlan.of(botNames), shardIndex, numberOfShards), checkpoint);
     }
 
-    private void playAgainstAll(String botName) {
-        UUID uuidBotToEvaluate = UUID.randomUUID();
-        var results = botNames.stream()
-                .filter(opponentName -> isNotEvaluatedBot(opponentName, botName))
-                .map(opponent -> runSimulations(opponent, botName, uuidBotToEvaluate))
-                .toList();
-
-        Long botWins = results.stream()
-                .mapToLong(match -> WinsAccumulatorService.getWins(match, botName, TIMES))
-                .sum();
-        rankMap.put(botName, botWins);
+    public List<MatchupResult> playAll(List<Matchup> matchups) {
+        return matchups.stream().map(this::play).toList();
     }
 
-    private boolean isNotEvaluatedBot(String opponentName, String botToEvaluateName) {
-        return !opponentName.equals(botToEvaluateName);
+    public List<MatchupResult> playAll(List<Matchup> matchups, Path checkpoint) throws IOException {
+        try (MatchupResultLog log = MatchupResultLog.open(checkpoint)) {
+            final Map<Matchup, MatchupResult> completed = new HashMap<>();
+            log.results().forEach(result -> completed.put(result.matchup(), result));
+
+            final List<MatchupResult> results = new ArrayList<>(matchups.size());
+            for (Matchup matchup : matchups) {
+                MatchupResult result = completed.get(matchup);
+                if (result == null) {
+                    result = play(matchup);
+                    log.append(result);
+                }
+                results.add(result);
+            }
+            return results;
+        }
     }
 
-    private List<PlayWithBotsDto> runSimulations(String challengedBotName, String botToEvaluateName, UUID uuidBotToEvaluate) {
-        final var simulator = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
-        return simulator.runInParallel(TIMES);
+    public MatchupResult play(Matchup matchup) {
+        final String botName = matchup.botName();
+        final UUID uuidBotToEvaluate = botUuids.computeIfAbsent(botName, unused -> UUID.randomUUID());
+        final var simulator = new SimulationService(uuidBotToEvaluate, botName, matchup.opponentName());
+        final List<PlayWithBotsDto> results = simulator.runInParallel(TIMES);
+        final int wins = (int) results.stream().filter(result -> result.name().equals(botName)).count();
+        return new MatchupResult(botName, matchup.opponentName(), TIMES, wins);
     }
 
+    public static Map<String, Long> rank(Collection<String> botNames, Collection<MatchupResult> results) {
+        final Map<String, Long> rankMap = new HashMap<>();
+        botNames.forEach(botName -> rankMap.put(botName, 0L));
+        results.forEach(result -> rankMap.merge(result.botName(), result.points(), Long::sum));
+        return rankMap;
+    }
 }
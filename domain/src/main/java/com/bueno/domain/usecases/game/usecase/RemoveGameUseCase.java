@@ -22,21 +22,26 @@ package com.bueno.domain.usecases.game.usecase;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
-import com.bueno.domain.usecases.hand.dtos.HandDto;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 
 @Service
 public class RemoveGameUseCase {
 
+    private static final int BATCH_SIZE = 100;
+
     private final GameRepository gameRepo;
     private final GameResultRepository gameResultRepo;
 
@@ -46,17 +51,22 @@ public class RemoveGameUseCase {
     }
 
     public List<UUID> byInactivityAfter(int minutes){
-        final List<UUID> gamesToRemove = gameRepo.findAllInactiveAfter(minutes)
-                .stream()
-                .map(this::inactivePlayerUuid)
-                .toList();
-        gamesToRemove.forEach(this::byUserUuid);
-        return gamesToRemove;
-    }
-
-    public UUID inactivePlayerUuid(GameDto game){
-        final HandDto currentHand = game.hands().get(game.hands().size() - 1);
-        return currentHand.currentPlayer().uuid();
+        final List<UUID> removedGames = new ArrayList<>();
+        List<InactiveGameDto> batch;
+        do {
+            batch = gameRepo.findInactiveAfter(minutes, BATCH_SIZE);
+            if (batch.isEmpty()) break;
+            final List<UUID> gameUuids = batch.stream().map(InactiveGameDto::gameUuid).toList();
+            // Games that got a move since they were found are kept, so only the removed ones get a result.
+            final Set<UUID> removed = new HashSet<>(gameRepo.deleteInactiveAfter(gameUuids, minutes));
+            gameResultRepo.saveAll(batch.stream()
+                    .filter(game -> removed.contains(game.gameUuid()) && game.inactivePlayer() != null)
+                    .map(game -> createGameResultFrom(game.gameUuid(), game.timestamp(), game.player1(),
+                            game.player2(), game.inactivePlayer()))
+                    .toList());
+            gameUuids.stream().filter(removed::contains).forEach(removedGames::add);
+        } while (batch.size() == BATCH_SIZE);
+        return removedGames;
     }
 
     public void byUserUuid(UUID userUuid) {
@@ -64,21 +74,21 @@ public class RemoveGameUseCase {
         final GameDto game = gameRepo.findByPlayerUuid(Objects.requireNonNull(uuid))
                 .orElseThrow(() -> new NoSuchElementException("The is no active game for user UUID: " + userUuid));
         gameRepo.delete(game.gameUuid());
-        gameResultRepo.save(createGameResultFrom(game, userUuid));
+        gameResultRepo.save(createGameResultFrom(game.gameUuid(), game.timestamp(), game.player1().uuid(),
+                game.player2().uuid(), userUuid));
     }
 
-    private GameResultDto createGameResultFrom(GameDto game, UUID quitterUuid){
-        final UUID player1uuid = game.player1().uuid().equals(quitterUuid)
-                ? game.player1().uuid() : game.player2().uuid();
-        final UUID player2uuid = game.player1().uuid().equals(quitterUuid)
-                ? game.player2().uuid() : game.player1().uuid();
+    private GameResultDto createGameResultFrom(UUID gameUuid, LocalDateTime timestamp, UUID gamePlayer1,
+                                               UUID gamePlayer2, UUID quitterUuid){
+        final UUID player1uuid = gamePlayer1.equals(quitterUuid) ? gamePlayer1 : gamePlayer2;
+        final UUID player2uuid = gamePlayer1.equals(quitterUuid) ? gamePlayer2 : gamePlayer1;
         final UUID winnerUuid = player1uuid.equals(quitterUuid) ? player2uuid : player1uuid;
         final int player1Score = player1uuid.equals(winnerUuid) ? 12 : 0;
         final int player2Score = player2uuid.equals(winnerUuid) ? 12 : 0;
 
         return new GameResultDto(
-                game.gameUuid(),
-                game.timestamp(),
+                gameUuid,
+                timestamp,
                 LocalDateTime.now(),
                 winnerUuid,
                 player1uuid,
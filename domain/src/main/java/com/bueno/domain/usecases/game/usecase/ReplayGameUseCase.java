@@ -0,0 +1,47 @@
+package com.bueno.domain.usecases.game.usecase;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.usecases.bot.BotUseCase;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.ReplayResultDto;
+import com.bueno.domain.usecases.game.log.GameLogHeader;
+import com.bueno.domain.usecases.game.log.GameLogReader;
+import com.bueno.domain.usecases.game.log.GameRecord;
+import com.bueno.domain.usecases.game.log.GameReplayer;
+import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ReplayGameUseCase {
+
+    public ReplayResultDto replay(Path gameLogFile, int gameIndex, boolean continueWithBots) throws IOException {
+        final GameLogHeader header = GameLogReader.readHeader(gameLogFile);
+        final List<GameRecord> records = GameLogReader.readAll(gameLogFile);
+        if (gameIndex < 0 || gameIndex >= records.size())
+            throw new IllegalArgumentException("Game index must be in [0, " + records.size() + "): " + gameIndex);
+        return replay(header.player1Name(), header.player2Name(), records.get(gameIndex), continueWithBots);
+    }
+
+    public ReplayResultDto replay(String bot1Name, String bot2Name, String recordHex, boolean continueWithBots) {
+        return replay(bot1Name, bot2Name, GameRecord.fromHex(recordHex), continueWithBots);
+    }
+
+    public ReplayResultDto replay(String bot1Name, String bot2Name, GameRecord record, boolean continueWithBots) {
+        Game game = GameReplayer.replay(record, bot1Name, bot2Name);
+        if (continueWithBots && !game.isDone()) game = playWithBots(game);
+        return new ReplayResultDto(
+                game.getPlayer1().getUsername(), game.getPlayer1().getScore(),
+                game.getPlayer2().getUsername(), game.getPlayer2().getScore(),
+                record.hands().size(), game.handsPlayed(), game.isDone());
+    }
+
+    private Game playWithBots(Game game) {
+        final GameRepository gameRepository = new GameRepoDisposableImpl();
+        gameRepository.save(GameConverter.toDto(game));
+        new BotUseCase(gameRepository).playWhenNecessary(game);
+        return gameRepository.findByPlayerUuid(game.getPlayer1().getUuid()).map(GameConverter::fromDto).orElseThrow();
+    }
+}
@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.game.dtos.LeaderboardWindow;
 import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
 import com.bueno.domain.usecases.game.dtos.TopWinnersDto;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
@@ -37,7 +38,11 @@ public class ReportTopWinnersUseCase {
     }
 
     public TopWinnersDto create(int numberOfTopPlayers){
-        final List<PlayerWinsDto> topWinners = resultRepository.findTopWinners(numberOfTopPlayers);
+        return create(numberOfTopPlayers, LeaderboardWindow.ALL_TIME);
+    }
+
+    public TopWinnersDto create(int numberOfTopPlayers, LeaderboardWindow window){
+        final List<PlayerWinsDto> topWinners = resultRepository.findTopWinners(numberOfTopPlayers, window);
         return new TopWinnersDto(topWinners);
     }
 }
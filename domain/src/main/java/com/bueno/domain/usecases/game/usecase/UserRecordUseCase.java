@@ -26,10 +26,14 @@ import com.bueno.domain.usecases.user.UserRepository;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
 public class UserRecordUseCase {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final GameResultRepository gameResultRepository;
     private final UserRepository userRepository;
 
@@ -39,9 +43,14 @@ public class UserRecordUseCase {
     }
 
     public UserRecordDto listByUuid(UUID userUuid){
+        return listByUuid(userUuid, null, null, DEFAULT_PAGE_SIZE);
+    }
+
+    public UserRecordDto listByUuid(UUID userUuid, LocalDateTime endedBefore, UUID beforeGame, int pageSize){
         var user = userRepository.findByUuid(userUuid)
                 .orElseThrow(() -> new EntityNotFoundException("User not found: " + userUuid));
-        var userRecord = gameResultRepository.findAllByUserUuid(userUuid);
+        final int limit = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        var userRecord = gameResultRepository.findMatchesByUserUuid(userUuid, endedBefore, beforeGame, limit);
         return new UserRecordDto(user.uuid(), user.username(), userRecord);
     }
 }
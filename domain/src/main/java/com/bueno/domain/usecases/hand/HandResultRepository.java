@@ -20,8 +20,13 @@
 
 package com.bueno.domain.usecases.hand;
 
+import com.bueno.domain.usecases.hand.dtos.BotHandStatisticsDto;
 import com.bueno.domain.usecases.hand.dtos.HandResultDto;
 
+import java.util.List;
+
 public interface HandResultRepository {
     void save(HandResultDto handResultDto);
+
+    List<BotHandStatisticsDto> findBotStatistics();
 }
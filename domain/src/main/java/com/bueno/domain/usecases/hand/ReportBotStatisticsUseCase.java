@@ -0,0 +1,47 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.hand;
+
+import com.bueno.domain.usecases.hand.dtos.BotHandStatisticsDto;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ReportBotStatisticsUseCase {
+
+    private final HandResultRepository handResultRepository;
+
+    public ReportBotStatisticsUseCase(HandResultRepository handResultRepository) {
+        this.handResultRepository = handResultRepository;
+    }
+
+    public List<BotHandStatisticsDto> create(){
+        return handResultRepository.findBotStatistics();
+    }
+
+    public List<BotHandStatisticsDto> create(String botName){
+        if (botName == null) return create();
+        return handResultRepository.findBotStatistics().stream()
+                .filter(statistics -> statistics.botName().equals(botName))
+                .toList();
+    }
+}
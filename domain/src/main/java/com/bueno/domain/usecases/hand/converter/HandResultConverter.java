@@ -27,7 +27,9 @@ import com.bueno.domain.entities.hand.Round;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.dtos.HandResultDto;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
@@ -36,9 +38,7 @@ import java.util.stream.Collectors;
 public final class HandResultConverter {
 
     public static HandResultDto of(Game game){
-        final String player1Type = game.getPlayer1().isBot() ? "BOT" : "USER";
-        final String player2Type = game.getPlayer2().isBot() ? "BOT" : "USER";
-        final String gameType = player1Type + "_" + player2Type;
+        final String gameType = gameTypeOf(game.getPlayer1().isBot(), game.getPlayer2().isBot());
         final Hand hand = game.currentHand();
 
         final UUID handWinner = hand.getResult()
@@ -58,7 +58,15 @@ public final class HandResultConverter {
                 .collect(Collectors.toList());
 
         final int pointsProposal = hand.getPointsProposal() != null ? hand.getPointsProposal().get() : 0;
+        final Map<UUID, String> bots = new HashMap<>();
+        for (Player player : List.of(game.getPlayer1(), game.getPlayer2()))
+            if (player.isBot()) bots.put(player.getUuid(), player.getUsername());
+
         return new HandResultDto(gameType, game.getUuid(),
-                handWinner, hand.getPoints().get(), pointsProposal, roundWinners, openCards);
+                handWinner, hand.getPoints().get(), pointsProposal, roundWinners, openCards, bots);
+    }
+
+    private static String gameTypeOf(boolean player1IsBot, boolean player2IsBot){
+        return (player1IsBot ? "BOT" : "USER") + "_" + (player2IsBot ? "BOT" : "USER");
     }
 }
@@ -31,4 +31,9 @@ public record HandDto(CardDto vira, List<CardDto> dealtCards, List<CardDto> open
                       List<RoundDto> roundsPlayed, List<IntelDto> history, Set<String> possibleActions,
                       PlayerDto firstToPlay, PlayerDto lastToPlay, PlayerDto currentPlayer, PlayerDto lastBetRaiser, PlayerDto eventPlayer,
                       CardDto cartToPlayAgainst, int points, int pointsProposal, PlayerDto winner, String state) {
+
+    public HandDto withHistory(List<IntelDto> history) {
+        return new HandDto(vira, dealtCards, openCards, roundsPlayed, history, possibleActions, firstToPlay, lastToPlay,
+                currentPlayer, lastBetRaiser, eventPlayer, cartToPlayAgainst, points, pointsProposal, winner, state);
+    }
 }
\ No newline at end of file
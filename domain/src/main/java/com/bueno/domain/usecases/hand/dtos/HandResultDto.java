@@ -21,13 +21,23 @@
 package com.bueno.domain.usecases.hand.dtos;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * @param bots names of the bots that played the hand, by player uuid. Bot uuids are not stable across games,
+ *             so this is what hand statistics are grouped by.
+ */
 public record HandResultDto(long id, String handType, UUID gameUuid, UUID handWinner, int points, int pointsProposal,
-                            List<UUID> roundWinners, List<String> openCards){
+                            List<UUID> roundWinners, List<String> openCards, Map<UUID, String> bots){
 
     public HandResultDto(String handType, UUID gameUuid, UUID handWinner, int points,
                          int pointsProposal, List<UUID> roundWinners, List<String> openCards) {
-        this(0, handType, gameUuid, handWinner, points, pointsProposal, roundWinners, openCards);
+        this(handType, gameUuid, handWinner, points, pointsProposal, roundWinners, openCards, Map.of());
+    }
+
+    public HandResultDto(String handType, UUID gameUuid, UUID handWinner, int points, int pointsProposal,
+                         List<UUID> roundWinners, List<String> openCards, Map<UUID, String> bots) {
+        this(0, handType, gameUuid, handWinner, points, pointsProposal, roundWinners, openCards, bots);
     }
 }
@@ -18,13 +18,7 @@
  *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
  */
 
-package com.bueno.persistence.dto;
+package com.bueno.domain.usecases.hand.dtos;
 
-import java.time.LocalDateTime;
-
-public interface GameResultQR {
-    LocalDateTime getEnding();
-    String getPlayer1();
-    String getPlayer2();
-    String getWinner();
+public record ViraStatisticsDto(long hands, long wins, double winRate) {
 }
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.intel;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.utils.exceptions.GameNotFoundException;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes the intel of a game to the players subscribed to it as soon as the game is stored, instead of having them
+ * poll for it. Each publication offers the intel of the last two hands to every subscription of both players; the
+ * subscriptions drop what they already have, so only the new intel goes out.
+ */
+public class IntelHub {
+
+    private static final int HANDS_TO_PUBLISH = 2;
+
+    private final GameRepository repo;
+    private final int bufferCapacity;
+    private final Map<UUID, Set<IntelSubscription>> subscriptions = new ConcurrentHashMap<>();
+
+    public IntelHub(GameRepository repo, int bufferCapacity) {
+        this.repo = Objects.requireNonNull(repo);
+        if (bufferCapacity < 1) throw new IllegalArgumentException("Buffer capacity must be positive: " + bufferCapacity);
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    /**
+     * Subscribes to the intel of the player's game, starting with the intel after {@code since}, or with the whole
+     * history if it is null.
+     */
+    public IntelSubscription subscribe(UUID playerUuid, Instant since, Runnable onAvailable) {
+        Objects.requireNonNull(playerUuid, "UUID must not be null.");
+        final IntelSubscription subscription =
+                new IntelSubscription(playerUuid, bufferCapacity, onAvailable, this::unsubscribe);
+
+        // Registered before loading the game, so intel published meanwhile is held back by the subscription until
+        // the replay, which then delivers whatever of it the loaded history does not already have.
+        subscriptions.computeIfAbsent(playerUuid, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        final Optional<GameDto> gameDto = repo.findByPlayerUuid(playerUuid);
+        if (gameDto.isEmpty()) {
+            unsubscribe(subscription);
+            throw new GameNotFoundException("User with UUID " + playerUuid + " is not in an active game.");
+        }
+        final Game game = GameConverter.fromDto(gameDto.get());
+        subscription.moveTo(game.getUuid());
+        subscription.replay(game.getIntelSince(since).stream().map(IntelConverter::toDto).toList());
+        if (gameDto.get().isDone()) subscription.close(IntelSubscription.CloseReason.GAME_OVER);
+        return subscription;
+    }
+
+    public void publish(GameDto game) {
+        final List<IntelSubscription> targets = subscribersOf(game.player1().uuid(), game.player2().uuid());
+        if (targets.isEmpty()) return;
+
+        final List<IntelDto> intel = game.hands().stream()
+                .skip(Math.max(0, game.hands().size() - HANDS_TO_PUBLISH))
+                .map(HandDto::history)
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(ArrayList::new));
+        final boolean isDone = game.isDone();
+        if (isDone) intel.add(IntelConverter.toDto(GameConverter.fromDto(game).getIntel()));
+
+        for (IntelSubscription subscription : targets) {
+            subscription.moveTo(game.gameUuid());
+            intel.forEach(subscription::offer);
+            if (isDone) subscription.close(IntelSubscription.CloseReason.GAME_OVER);
+        }
+    }
+
+    /**
+     * Ends the subscriptions to games that were removed before being finished.
+     */
+    public void closeGames(Collection<UUID> gameUuids) {
+        final Set<UUID> removed = Set.copyOf(gameUuids);
+        subscriptions.values().stream()
+                .flatMap(Set::stream)
+                .filter(subscription -> removed.contains(subscription.gameUuid()))
+                .toList()
+                .forEach(subscription -> subscription.close(IntelSubscription.CloseReason.GAME_OVER));
+    }
+
+    public int numberOfSubscriptions() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private List<IntelSubscription> subscribersOf(UUID player1, UUID player2) {
+        final List<IntelSubscription> result = new ArrayList<>();
+        Optional.ofNullable(subscriptions.get(player1)).ifPresent(result::addAll);
+        Optional.ofNullable(subscriptions.get(player2)).ifPresent(result::addAll);
+        return result;
+    }
+
+    private void unsubscribe(IntelSubscription subscription) {
+        subscriptions.computeIfPresent(subscription.playerUuid(), (key, set) -> {
+            set.remove(subscription);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.intel;
+
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * A player's subscription to the intel of their game. Intel is buffered in a bounded queue until the transport polls
+ * it; a subscriber that falls so far behind that the buffer fills up is closed, and is expected to subscribe again
+ * from the timestamp of the last intel it received. The {@code onAvailable} callback runs on the publishing thread
+ * whenever intel is buffered or the subscription is closed, so it must only schedule the delivery.
+ */
+public final class IntelSubscription implements AutoCloseable {
+
+    public enum CloseReason {GAME_OVER, SLOW_CONSUMER, UNSUBSCRIBED}
+
+    private final UUID playerUuid;
+    private final BlockingQueue<IntelDto> buffer;
+    private List<IntelDto> heldBack = new ArrayList<>();
+    private final Runnable onAvailable;
+    private final Consumer<IntelSubscription> onClose;
+    private UUID gameUuid;
+    private Instant cursor;
+    private volatile CloseReason closeReason;
+
+    IntelSubscription(UUID playerUuid, int capacity, Runnable onAvailable, Consumer<IntelSubscription> onClose) {
+        this.playerUuid = playerUuid;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.onAvailable = onAvailable;
+        this.onClose = onClose;
+    }
+
+    public UUID playerUuid() {
+        return playerUuid;
+    }
+
+    synchronized UUID gameUuid() {
+        return gameUuid;
+    }
+
+    synchronized void moveTo(UUID gameUuid) {
+        this.gameUuid = gameUuid;
+    }
+
+    /**
+     * Buffers intel newer than the last one buffered; older intel was already delivered and is ignored. Until the
+     * replay, intel is held back instead, since it may be newer than history that has not been replayed yet.
+     */
+    synchronized void offer(IntelDto intel) {
+        if (closeReason != null) return;
+        if (heldBack != null) {
+            if (heldBack.size() < buffer.remainingCapacity()) heldBack.add(intel);
+            else close(CloseReason.SLOW_CONSUMER);
+            return;
+        }
+        if (cursor != null && !intel.timestamp().isAfter(cursor)) return;
+        if (!buffer.offer(intel)) {
+            close(CloseReason.SLOW_CONSUMER);
+            return;
+        }
+        cursor = intel.timestamp();
+        onAvailable.run();
+    }
+
+    /**
+     * Buffers intel replayed on subscription followed by the intel held back meanwhile, keeping the most recent ones
+     * if there are more than fit.
+     */
+    synchronized void replay(List<IntelDto> history) {
+        if (heldBack == null) return;
+        final Instant replayed = history.isEmpty() ? null : history.get(history.size() - 1).timestamp();
+        final List<IntelDto> intel = new ArrayList<>(history);
+        heldBack.stream().filter(dto -> replayed == null || dto.timestamp().isAfter(replayed)).forEach(intel::add);
+        heldBack = null;
+        final int skip = Math.max(0, intel.size() - buffer.remainingCapacity());
+        intel.stream().skip(skip).forEach(this::offer);
+    }
+
+    public IntelDto poll() {
+        return buffer.poll();
+    }
+
+    public Optional<CloseReason> closeReason() {
+        return Optional.ofNullable(closeReason);
+    }
+
+    @Override
+    public void close() {
+        close(CloseReason.UNSUBSCRIBED);
+    }
+
+    void close(CloseReason reason) {
+        synchronized (this) {
+            if (closeReason != null) return;
+            closeReason = reason;
+        }
+        onClose.accept(this);
+        onAvailable.run();
+    }
+}
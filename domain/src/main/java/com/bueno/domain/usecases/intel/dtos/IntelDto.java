@@ -39,6 +39,13 @@ public record IntelDto(Instant timestamp, boolean isGameDone, UUID gameWinner, b
                        String event, UUID eventPlayerUuid, String eventPlayerUsername,
                        Set<String> possibleActions) {
 
+    public IntelDto withTimestamp(Instant timestamp) {
+        return new IntelDto(timestamp, isGameDone, gameWinner, isMaoDeOnze, handPoints, handPointsProposal,
+                roundWinnersUsernames, roundWinnersUuid, roundsPlayed, vira, openCards, handWinner, currentPlayerUuid,
+                currentPlayerScore, currentPlayerUsername, currentOpponentScore, currentOpponentUsername,
+                cardToPlayAgainst, players, event, eventPlayerUuid, eventPlayerUsername, possibleActions);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
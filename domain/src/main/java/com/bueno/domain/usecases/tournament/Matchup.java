@@ -0,0 +1,10 @@
+package com.bueno.domain.usecases.tournament;
+
+import java.util.Objects;
+
+public record Matchup(String botName, String opponentName) {
+    public Matchup {
+        Objects.requireNonNull(botName);
+        Objects.requireNonNull(opponentName);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bueno.domain.usecases.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public final class MatchupPlan {
+
+    private MatchupPlan() {}
+
+    public static List<Matchup> of(List<String> botNames) {
+        final List<Matchup> matchups = new ArrayList<>();
+        for (String botName : botNames)
+            for (String opponentName : botNames)
+                if (!opponentName.equals(botName)) matchups.add(new Matchup(botName, opponentName));
+        return matchups;
+    }
+
+    public static List<Matchup> shard(List<Matchup> matchups, int shardIndex, int numberOfShards) {
+        if (numberOfShards < 1) throw new IllegalArgumentException("Number of shards must be positive: " + numberOfShards);
+        if (shardIndex < 0 || shardIndex >= numberOfShards)
+            throw new IllegalArgumentException("Shard index must be in [0, " + numberOfShards + "): " + shardIndex);
+
+        return IntStream.range(0, matchups.size())
+                .filter(index -> index % numberOfShards == shardIndex)
+                .mapToObj(matchups::get)
+                .toList();
+    }
+}
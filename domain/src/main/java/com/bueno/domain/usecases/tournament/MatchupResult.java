@@ -0,0 +1,20 @@
+package com.bueno.domain.usecases.tournament;
+
+import java.util.Objects;
+
+public record MatchupResult(String botName, String opponentName, int games, int wins) {
+    public MatchupResult {
+        Objects.requireNonNull(botName);
+        Objects.requireNonNull(opponentName);
+        if (games < 0 || wins < 0 || wins > games)
+            throw new IllegalArgumentException("Invalid number of wins (" + wins + ") for " + games + " games.");
+    }
+
+    public Matchup matchup() {
+        return new Matchup(botName, opponentName);
+    }
+
+    public long points() {
+        return wins > games / 2 ? 1L : 0L;
+    }
+}
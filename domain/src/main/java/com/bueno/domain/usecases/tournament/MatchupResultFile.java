@@ -0,0 +1,55 @@
+package com.bueno.domain.usecases.tournament;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact binary file of matchup results. It starts with a magic number followed by one record per matchup: the bot
+ * and opponent names in modified UTF-8 and the number of games and wins as shorts. Records are self-delimited, so a
+ * file cut in the middle of a record is read up to its last complete record.
+ */
+public final class MatchupResultFile {
+
+    static final int MAGIC = 0x43545231;
+
+    private MatchupResultFile() {}
+
+    public static void write(Path file, Collection<MatchupResult> results) throws IOException {
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            output.writeInt(MAGIC);
+            for (MatchupResult result : results) writeRecord(output, result);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static List<MatchupResult> read(Path file) throws IOException {
+        final List<MatchupResult> results = new ArrayList<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC) throw new IOException("Not a matchup result file: " + file);
+            while (true) results.add(readRecord(input));
+        } catch (EOFException | UTFDataFormatException tornRecord) {
+            return results;
+        }
+    }
+
+    static void writeRecord(DataOutput output, MatchupResult result) throws IOException {
+        output.writeUTF(result.botName());
+        output.writeUTF(result.opponentName());
+        output.writeShort(result.games());
+        output.writeShort(result.wins());
+    }
+
+    static MatchupResult readRecord(DataInput input) throws IOException {
+        final String botName = input.readUTF();
+        final String opponentName = input.readUTF();
+        final int games = input.readUnsignedShort();
+        final int wins = input.readUnsignedShort();
+        return new MatchupResult(botName, opponentName, games, wins);
+    }
+}
@@ -0,0 +1,134 @@
+package com.bueno.domain.usecases.tournament;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Append-only checkpoint of matchup results, in the same format of {@link MatchupResultFile}. Opening an existing
+ * log loads its complete records and drops a record left incomplete or garbled by a crash, so that appending can continue
+ * right after the last valid one. Records are written as soon as they are appended, but the file is only forced to
+ * the storage device every {@code recordsPerSync} records and when the log is closed.
+ */
+public final class MatchupResultLog implements Closeable {
+
+    public static final int DEFAULT_RECORDS_PER_SYNC = 16;
+
+    private final FileChannel channel;
+    private final int recordsPerSync;
+    private final List<MatchupResult> results;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+    private final DataOutputStream output = new DataOutputStream(buffer);
+    private int unsyncedRecords;
+
+    private MatchupResultLog(FileChannel channel, int recordsPerSync, List<MatchupResult> results) {
+        this.channel = channel;
+        this.recordsPerSync = recordsPerSync;
+        this.results = results;
+    }
+
+    public static MatchupResultLog open(Path file) throws IOException {
+        return open(file, DEFAULT_RECORDS_PER_SYNC);
+    }
+
+    public static MatchupResultLog open(Path file, int recordsPerSync) throws IOException {
+        if (recordsPerSync < 1) throw new IllegalArgumentException("Records per sync must be positive: " + recordsPerSync);
+        final FileChannel channel = FileChannel.open(file, CREATE, READ, WRITE);
+        try {
+            final List<MatchupResult> results = new ArrayList<>();
+            final long validSize = readValidRecords(channel, results);
+            channel.truncate(validSize);
+            channel.position(validSize);
+            final MatchupResultLog log = new MatchupResultLog(channel, recordsPerSync, results);
+            if (validSize == 0) log.writeHeader();
+            return log;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static long readValidRecords(FileChannel channel, List<MatchupResult> results) throws IOException {
+        if (channel.size() < Integer.BYTES) return 0;
+        final CountingInputStream counter = new CountingInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        final DataInputStream input = new DataInputStream(counter);
+        if (input.readInt() != MatchupResultFile.MAGIC) throw new IOException("Not a matchup result log.");
+
+        long validSize = counter.count;
+        try {
+            while (true) {
+                results.add(MatchupResultFile.readRecord(input));
+                validSize = counter.count;
+            }
+        } catch (EOFException | UTFDataFormatException tornRecord) {
+            return validSize;
+        }
+    }
+
+    public List<MatchupResult> results() {
+        return Collections.unmodifiableList(results);
+    }
+
+    public void append(MatchupResult result) throws IOException {
+        buffer.reset();
+        MatchupResultFile.writeRecord(output, result);
+        write();
+        results.add(result);
+        if (++unsyncedRecords >= recordsPerSync) sync();
+    }
+
+    public void sync() throws IOException {
+        if (unsyncedRecords == 0) return;
+        channel.force(false);
+        unsyncedRecords = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        buffer.reset();
+        output.writeInt(MatchupResultFile.MAGIC);
+        write();
+    }
+
+    private void write() throws IOException {
+        final ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) channel.write(bytes);
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+            if (value >= 0) count++;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            final int read = super.read(bytes, offset, length);
+            if (read > 0) count += read;
+            return read;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.user;
+
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+import com.bueno.domain.usecases.user.dtos.UserCacheStatisticsDto;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache in front of a {@link UserRepository}. Users are kept in least-recently-used order by
+ * uuid, with username and email pointing to the cached uuid. Saving a user evicts every entry it may have changed.
+ * Lookups that find no user are not cached, so a registration is visible at once.
+ */
+public class CachingUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final int maxSize;
+    private final Map<UUID, ApplicationUserDto> byUuid;
+    private final Map<String, UUID> byUsername = new HashMap<>();
+    private final Map<String, UUID> byEmail = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long generation;
+
+    public CachingUserRepository(UserRepository delegate, int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        this.delegate = Objects.requireNonNull(delegate, "User repository must not be null.");
+        this.maxSize = maxSize;
+        this.byUuid = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, ApplicationUserDto> eldest) {
+                if (size() <= CachingUserRepository.this.maxSize) return false;
+                removeIndexesOf(eldest.getValue());
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public void save(ApplicationUserDto user) {
+        delegate.save(user);
+        synchronized (this) {
+            generation++;
+            evict(user.uuid());
+            evict(byUsername.get(user.username()));
+            evict(byEmail.get(user.email()));
+        }
+    }
+
+    @Override
+    public Optional<ApplicationUserDto> findByUsername(String username) {
+        return find(() -> byUuid.get(byUsername.get(username)), () -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public Optional<ApplicationUserDto> findByEmail(String email) {
+        return find(() -> byUuid.get(byEmail.get(email)), () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public Optional<ApplicationUserDto> findByUuid(UUID uuid) {
+        return find(() -> byUuid.get(uuid), () -> delegate.findByUuid(uuid));
+    }
+
+    public synchronized UserCacheStatisticsDto statistics() {
+        final long hitCount = hits.get();
+        final long missCount = misses.get();
+        final long lookups = hitCount + missCount;
+        return new UserCacheStatisticsDto(byUuid.size(), maxSize, hitCount, missCount, evictions.get(),
+                lookups == 0 ? 0.0 : (double) hitCount / lookups);
+    }
+
+    private Optional<ApplicationUserDto> find(Supplier<ApplicationUserDto> cached,
+                                              Supplier<Optional<ApplicationUserDto>> loader) {
+        final long loadGeneration;
+        synchronized (this) {
+            final ApplicationUserDto user = cached.get();
+            if (user != null) {
+                hits.incrementAndGet();
+                return Optional.of(user);
+            }
+            loadGeneration = generation;
+        }
+        misses.incrementAndGet();
+        final Optional<ApplicationUserDto> loaded = loader.get();
+        // A save while loading may have made the loaded user stale, so it is only cached if none happened.
+        loaded.ifPresent(user -> {
+            synchronized (this) {
+                if (loadGeneration == generation) put(user);
+            }
+        });
+        return loaded;
+    }
+
+    private void put(ApplicationUserDto user) {
+        final ApplicationUserDto previous = byUuid.put(user.uuid(), user);
+        if (previous != null) removeIndexesOf(previous);
+        byUsername.put(user.username(), user.uuid());
+        byEmail.put(user.email(), user.uuid());
+    }
+
+    private void evict(UUID uuid) {
+        if (uuid == null) return;
+        final ApplicationUserDto removed = byUuid.remove(uuid);
+        if (removed != null) removeIndexesOf(removed);
+    }
+
+    private void removeIndexesOf(ApplicationUserDto user) {
+        byUsername.remove(user.username(), user.uuid());
+        byEmail.remove(user.email(), user.uuid());
+    }
+}
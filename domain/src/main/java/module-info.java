@@ -16,4 +16,6 @@ module domain {
     exports com.bueno.domain.usecases.utils.exceptions;
     exports com.bueno.domain.usecases.hand.dtos;
     exports com.bueno.domain.usecases.game.repos;
+    exports com.bueno.domain.usecases.tournament;
+    exports com.bueno.domain.usecases.game.log;
 }
\ No newline at end of file
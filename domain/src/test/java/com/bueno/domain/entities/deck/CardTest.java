@@ -63,6 +63,16 @@ class CardTest {
             final Suit suit = Suit.ofSymbol("C");
             assertThat(Card.of(Rank.ACE, Suit.CLUBS)).isEqualTo(Card.of(rank, suit));
         }
+
+        @Test
+        @DisplayName("create card from its id")
+        void createCardFromItsId() {
+            final Card card = Card.of(Rank.JACK, Suit.HEARTS);
+            SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(Card.ofId(card.id())).isEqualTo(card);
+            softly.assertThat(Card.ofId(Card.closed().id())).isEqualTo(Card.closed());
+            softly.assertAll();
+        }
     }
 
     @Nested
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -89,4 +90,22 @@ class DeckTest {
         softly.assertThat(deck.size()).as("Number of remaining cards in the deck").isEqualTo(39);
         softly.assertAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should shuffle in the same order for the same seed")
+    void shouldShuffleInTheSameOrderForTheSameSeed() {
+        final Deck deck = new Deck(new Random(42));
+        final Deck other = new Deck(new Random(42));
+        deck.shuffle();
+        other.shuffle();
+        assertThat(deck.take(40)).isEqualTo(other.take(40));
+    }
+
+    @Test
+    @DisplayName("Should have all 40 cards after refill")
+    void shouldHaveAll40CardsAfterRefill() {
+        deck.take(7);
+        deck.refill();
+        assertEquals(40, deck.size());
+    }
+}
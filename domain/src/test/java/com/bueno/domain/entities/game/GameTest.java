@@ -162,6 +162,40 @@ class GameTest {
         assertThat(sut.getIntelSince(firstHandIntel.timestamp()).size()).isEqualTo(6);
     }
 
+    @Test
+    @DisplayName("Should deal new hands from a refilled deck")
+    void shouldDealNewHandsFromARefilledDeck() {
+        sut = new Game(player1, player2, new Deck());
+        for (int i = 0; i < 6; i++) sut.prepareNewHand();
+        assertThat(sut.getHands().size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should deal the same cards for the same deal seed")
+    void shouldDealTheSameCardsForTheSameDealSeed() {
+        final Game game = new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 42L);
+        final Game other = new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 42L);
+        game.prepareNewHand();
+        other.prepareNewHand();
+        assertThat(game.currentHand().getDealtCards()).isEqualTo(other.currentHand().getDealtCards());
+    }
+
+    @Test
+    @DisplayName("Should keep dealing the same cards after past hands are summarized")
+    void shouldKeepDealingTheSameCardsAfterPastHandsAreSummarized() {
+        final Game game = new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 42L);
+        game.prepareNewHand();
+        final Game summarized = new Game(game.getUuid(), game.getTimestamp(), 42L, 1, game.getPlayer1(),
+                game.getPlayer2(), game.getFirstToPlay(), game.getLastToPlay(), List.of(game.currentHand()));
+        game.prepareNewHand();
+        summarized.prepareNewHand();
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(summarized.handsPlayed()).isEqualTo(game.handsPlayed());
+        softly.assertThat(summarized.currentHand().getDealtCards()).isEqualTo(game.currentHand().getDealtCards());
+        softly.assertAll();
+    }
+
     @Test
     @DisplayName("Should games with same uuid be equal")
     void shouldGamesWithSameUuidBeEqual() {
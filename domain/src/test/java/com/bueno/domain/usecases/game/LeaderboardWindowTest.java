@@ -0,0 +1,52 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.dtos.LeaderboardWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardWindowTest {
+
+    private final LocalDateTime thursdayAfternoon = LocalDateTime.of(2024, 5, 16, 15, 30);
+
+    @Test
+    @DisplayName("Should start daily window at midnight of the current day")
+    void shouldStartDailyWindowAtMidnightOfTheCurrentDay() {
+        assertThat(LeaderboardWindow.DAILY.periodStart(thursdayAfternoon)).isEqualTo(LocalDateTime.of(2024, 5, 16, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should start weekly window at midnight of the current week monday")
+    void shouldStartWeeklyWindowAtMidnightOfTheCurrentWeekMonday() {
+        assertThat(LeaderboardWindow.WEEKLY.periodStart(thursdayAfternoon)).isEqualTo(LocalDateTime.of(2024, 5, 13, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should start all time window before any game")
+    void shouldStartAllTimeWindowBeforeAnyGame() {
+        assertThat(LeaderboardWindow.ALL_TIME.periodStart(thursdayAfternoon)).isBefore(LocalDateTime.of(2000, 1, 1, 0, 0));
+    }
+}
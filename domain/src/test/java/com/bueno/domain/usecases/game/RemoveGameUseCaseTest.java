@@ -0,0 +1,128 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.usecase.RemoveGameUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RemoveGameUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepo;
+    @Mock
+    private GameResultRepository gameResultRepo;
+
+    @InjectMocks
+    private RemoveGameUseCase sut;
+
+    @Test
+    @DisplayName("Should remove inactive games and record the inactive player as quitter")
+    void shouldRemoveInactiveGamesAndRecordTheInactivePlayerAsQuitter() {
+        final InactiveGameDto game = inactiveGame();
+        when(gameRepo.findInactiveAfter(eq(5), anyInt())).thenReturn(List.of(game));
+        deletesEveryGameStillInactive();
+
+        assertThat(sut.byInactivityAfter(5)).containsExactly(game.gameUuid());
+
+        verify(gameRepo).deleteInactiveAfter(List.of(game.gameUuid()), 5);
+        final GameResultDto result = savedResults().get(0);
+        assertThat(result.winnerUuid()).isEqualTo(game.player2());
+    }
+
+    @Test
+    @DisplayName("Should keep games and record no result for them if they became active before removal")
+    void shouldKeepGamesAndRecordNoResultForThemIfTheyBecameActiveBeforeRemoval() {
+        final InactiveGameDto game = inactiveGame();
+        final InactiveGameDto resumed = inactiveGame();
+        when(gameRepo.findInactiveAfter(eq(5), anyInt())).thenReturn(List.of(game, resumed));
+        when(gameRepo.deleteInactiveAfter(anyCollection(), eq(5))).thenReturn(List.of(game.gameUuid()));
+
+        assertThat(sut.byInactivityAfter(5)).containsExactly(game.gameUuid());
+        assertThat(savedResults()).extracting(GameResultDto::gameUuid).containsExactly(game.gameUuid());
+    }
+
+    @Test
+    @DisplayName("Should not record a result for inactive games without a player to act")
+    void shouldNotRecordAResultForInactiveGamesWithoutAPlayerToAct() {
+        final InactiveGameDto game = new InactiveGameDto(UUID.randomUUID(), LocalDateTime.now(),
+                UUID.randomUUID(), UUID.randomUUID(), null);
+        when(gameRepo.findInactiveAfter(eq(5), anyInt())).thenReturn(List.of(game));
+        deletesEveryGameStillInactive();
+
+        assertThat(sut.byInactivityAfter(5)).containsExactly(game.gameUuid());
+        assertThat(savedResults()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep removing batches while they are full")
+    void shouldKeepRemovingBatchesWhileTheyAreFull() {
+        final ArgumentCaptor<Integer> limit = ArgumentCaptor.forClass(Integer.class);
+        when(gameRepo.findInactiveAfter(eq(5), limit.capture())).thenAnswer(invocation -> {
+            final int batchSize = invocation.getArgument(1);
+            final int size = limit.getAllValues().size() == 1 ? batchSize : 1;
+            return IntStream.range(0, size).mapToObj(unused -> inactiveGame()).toList();
+        });
+        deletesEveryGameStillInactive();
+
+        final List<UUID> removed = sut.byInactivityAfter(5);
+
+        assertThat(removed).hasSize(limit.getValue() + 1);
+        verify(gameRepo, times(2)).deleteInactiveAfter(anyCollection(), eq(5));
+    }
+
+    private void deletesEveryGameStillInactive() {
+        when(gameRepo.deleteInactiveAfter(anyCollection(), eq(5)))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<UUID>>getArgument(0)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GameResultDto> savedResults() {
+        final ArgumentCaptor<Collection<GameResultDto>> results = ArgumentCaptor.forClass(Collection.class);
+        verify(gameResultRepo).saveAll(results.capture());
+        return List.copyOf(results.getValue());
+    }
+
+    private static InactiveGameDto inactiveGame() {
+        final UUID player1 = UUID.randomUUID();
+        return new InactiveGameDto(UUID.randomUUID(), LocalDateTime.now(), player1, UUID.randomUUID(), player1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.dtos.ReplayResultDto;
+import com.bueno.domain.usecases.game.log.GameLogReader;
+import com.bueno.domain.usecases.game.log.GameLogWriter;
+import com.bueno.domain.usecases.game.log.GameRecord;
+import com.bueno.domain.usecases.game.log.HandRecord;
+import com.bueno.domain.usecases.game.service.SimulationService;
+import com.bueno.domain.usecases.game.usecase.ReplayGameUseCase;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+class ReplayGameUseCaseTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private ReplayGameUseCase sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("games.ctgl");
+        try (GameLogWriter gameLog = new GameLogWriter(file, "DummyBot", "DummyBot")) {
+            new SimulationService(UUID.randomUUID(), "DummyBot", "DummyBot", gameLog).runInParallel(1);
+        }
+        sut = new ReplayGameUseCase();
+    }
+
+    @Test
+    @DisplayName("Should replay a game from the game log")
+    void shouldReplayAGameFromTheGameLog() throws IOException {
+        final GameRecord record = GameLogReader.readAll(file).get(0);
+        final ReplayResultDto result = sut.replay(file, 0, false);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result.gameIsDone()).isTrue();
+        softly.assertThat(result.handsPlayed()).isEqualTo(record.hands().size());
+        softly.assertThat(Math.max(result.player1Score(), result.player2Score())).isEqualTo(12);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should let bots continue an unfinished replayed game")
+    void shouldLetBotsContinueAnUnfinishedReplayedGame() throws IOException {
+        final GameRecord record = GameLogReader.readAll(file).get(0);
+        final HandRecord firstHand = record.hands().get(0);
+        final HandRecord unfinishedHand = new HandRecord(firstHand.dealtCards(), firstHand.firstToPlayIndex(),
+                HandRecord.UNFINISHED, 0, Arrays.copyOf(firstHand.decisions(), 1));
+        final GameRecord unfinished = new GameRecord(record.dealSeed(), GameRecord.NO_WINNER, List.of(unfinishedHand));
+
+        final ReplayResultDto replayed = sut.replay("DummyBot", "DummyBot", unfinished.toHex(), false);
+        final ReplayResultDto continued = sut.replay("DummyBot", "DummyBot", unfinished.toHex(), true);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(replayed.gameIsDone()).isFalse();
+        softly.assertThat(continued.gameIsDone()).isTrue();
+        softly.assertThat(continued.handsReplayed()).isOne();
+        softly.assertAll();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.usecase.UserRecordUseCase;
+import com.bueno.domain.usecases.user.UserRepository;
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRecordUseCaseTest {
+
+    @Mock
+    private GameResultRepository gameResultRepo;
+    @Mock
+    private UserRepository userRepo;
+
+    @InjectMocks
+    private UserRecordUseCase sut;
+
+    @Test
+    @DisplayName("Should list the first page of matches when no cursor is given")
+    void shouldListTheFirstPageOfMatchesWhenNoCursorIsGiven() {
+        final UUID uuid = mockUser();
+        sut.listByUuid(uuid);
+        verify(gameResultRepo).findMatchesByUserUuid(uuid, null, null, 20);
+    }
+
+    @Test
+    @DisplayName("Should pass the cursor and cap the page size")
+    void shouldPassTheCursorAndCapThePageSize() {
+        final UUID uuid = mockUser();
+        final LocalDateTime endedBefore = LocalDateTime.now();
+        final UUID beforeGame = UUID.randomUUID();
+        sut.listByUuid(uuid, endedBefore, beforeGame, 10_000);
+        verify(gameResultRepo).findMatchesByUserUuid(uuid, endedBefore, beforeGame, 100);
+    }
+
+    @Test
+    @DisplayName("Should throw if user does not exist")
+    void shouldThrowIfUserDoesNotExist() {
+        final UUID uuid = UUID.randomUUID();
+        when(userRepo.findByUuid(uuid)).thenReturn(Optional.empty());
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> sut.listByUuid(uuid));
+        verifyNoInteractions(gameResultRepo);
+    }
+
+    private UUID mockUser() {
+        final UUID uuid = UUID.randomUUID();
+        when(userRepo.findByUuid(uuid)).thenReturn(Optional.of(new ApplicationUserDto(uuid, "User", "pass", "user@email.com")));
+        return uuid;
+    }
+}
@@ -0,0 +1,81 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameDecisionsTest {
+
+    @Test
+    @DisplayName("Should rebuild the current hand from an earlier state and its decisions")
+    void shouldRebuildTheCurrentHandFromAnEarlierStateAndItsDecisions() {
+        final Game game = new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 3L);
+        final GameDto before = GameConverter.toDto(game);
+        final int historySize = currentHand(before).history().size();
+
+        final Hand hand = game.currentHand();
+        final Player first = hand.getCurrentPlayer();
+        hand.playFirstCard(first, first.play(first.getCards().get(0)));
+        final Player second = hand.getCurrentPlayer();
+        hand.playSecondCard(second, second.play(second.getCards().get(0)));
+        final GameDto after = GameConverter.toDto(game);
+
+        final byte[] decisions = GameDecisions.since(after, historySize);
+        final List<Instant> timestamps = currentHand(after).history().stream()
+                .skip(historySize).map(IntelDto::timestamp).toList();
+        final GameDto rebuilt = GameDecisions.apply(before, decisions, timestamps);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(decisions).hasSize(2);
+        softly.assertThat(Decision.isPlay(decisions[1])).isTrue();
+        softly.assertThat(currentHand(rebuilt).openCards()).isEqualTo(currentHand(after).openCards());
+        softly.assertThat(currentHand(rebuilt).history().stream().map(IntelDto::timestamp).toList())
+                .isEqualTo(currentHand(after).history().stream().map(IntelDto::timestamp).toList());
+        softly.assertThat(rebuilt.player1().cards()).isEqualTo(after.player1().cards());
+        softly.assertThat(rebuilt.player2().cards()).isEqualTo(after.player2().cards());
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should read only the decisions taken after the given history size")
+    void shouldReadOnlyTheDecisionsTakenAfterTheGivenHistorySize() {
+        final Game game = new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 3L);
+        final Hand hand = game.currentHand();
+        final Player first = hand.getCurrentPlayer();
+        hand.playFirstCard(first, first.play(first.getCards().get(0)));
+        final Player second = hand.getCurrentPlayer();
+        hand.playSecondCard(second, second.play(second.getCards().get(0)));
+        final GameDto after = GameConverter.toDto(game);
+        final int historySize = currentHand(after).history().size();
+
+        final byte[] all = GameDecisions.since(after, 0);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(all).hasSize(2);
+        softly.assertThat(GameDecisions.since(after, historySize - 1)).containsExactly(all[1]);
+        softly.assertThat(GameDecisions.since(after, historySize)).isEmpty();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should return the same game when there are no decisions to apply")
+    void shouldReturnTheSameGameWhenThereAreNoDecisionsToApply() {
+        final GameDto game = GameConverter.toDto(new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 3L));
+        assertThat(GameDecisions.apply(game, new byte[0], List.of())).isSameAs(game);
+    }
+
+    private static HandDto currentHand(GameDto game) {
+        return game.hands().get(game.hands().size() - 1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameLogAnalyzerTest {
+    private static final int NUMBER_OF_GAMES = 10;
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Card vira = Card.of(Rank.FOUR, Suit.CLUBS);
+        final Card six = Card.of(Rank.SIX, Suit.HEARTS);
+        final Card seven = Card.of(Rank.SEVEN, Suit.HEARTS);
+        final Card queen = Card.of(Rank.QUEEN, Suit.HEARTS);
+        final Card three = Card.of(Rank.THREE, Suit.SPADES);
+        final Card two = Card.of(Rank.TWO, Suit.SPADES);
+        final Card ace = Card.of(Rank.ACE, Suit.SPADES);
+        final byte[] dealtCards = ids(vira, six, seven, queen, three, two, ace);
+
+        final HandRecord bluff = new HandRecord(dealtCards, 0, 0, 1, new byte[]{
+                Decision.of(0, Decision.RAISE), Decision.of(1, Decision.QUIT)});
+        final HandRecord maoDeOnze = new HandRecord(dealtCards, 0, 1, 3, new byte[]{
+                Decision.of(1, Decision.ACCEPT_HAND), Decision.ofPlay(0, six), Decision.ofPlay(1, three),
+                Decision.ofPlay(1, two), Decision.ofDiscard(0, seven)});
+        final GameRecord record = new GameRecord(1L, 1, List.of(bluff, maoDeOnze));
+
+        file = directory.resolve("games.ctgl");
+        try (GameLogWriter gameLog = new GameLogWriter(file, "BotA", "BotB")) {
+            for (int i = 0; i < NUMBER_OF_GAMES; i++) gameLog.append(record);
+        }
+    }
+
+    @Test
+    @DisplayName("Should classify hand strength by card values relative to the vira")
+    void shouldClassifyHandStrengthByCardValuesRelativeToTheVira() {
+        final Card vira = Card.of(Rank.FOUR, Suit.CLUBS);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(HandStrength.of(vira, Card.of(Rank.SIX, Suit.HEARTS), Card.of(Rank.SEVEN, Suit.HEARTS),
+                Card.of(Rank.QUEEN, Suit.HEARTS))).isEqualTo(HandStrength.WEAK);
+        softly.assertThat(HandStrength.of(vira, Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.JACK, Suit.HEARTS),
+                Card.of(Rank.ACE, Suit.HEARTS))).isEqualTo(HandStrength.AVERAGE);
+        softly.assertThat(HandStrength.of(vira, Card.of(Rank.FIVE, Suit.CLUBS), Card.of(Rank.THREE, Suit.HEARTS),
+                Card.of(Rank.TWO, Suit.HEARTS))).isEqualTo(HandStrength.STRONG);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should split game log at record boundaries")
+    void shouldSplitGameLogAtRecordBoundaries() throws IOException {
+        final List<GameLogAnalyzer.Segment> segments = GameLogAnalyzer.segmentsOf(file, 4);
+        final AtomicInteger records = new AtomicInteger();
+        segments.forEach(segment -> GameLogReader.forEachRecord(segment.records(), record -> records.incrementAndGet()));
+
+        assertThat(segments).hasSize(4);
+        assertThat(records).hasValue(NUMBER_OF_GAMES);
+    }
+
+    @Test
+    @DisplayName("Should aggregate the behaviour of each bot")
+    void shouldAggregateTheBehaviourOfEachBot() throws IOException {
+        final Map<String, BotBehaviour> behaviours = GameLogAnalyzer.analyze(List.of(file));
+        final BotBehaviour botA = behaviours.get("BotA");
+        final BotBehaviour botB = behaviours.get("BotB");
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(botA.handsPlayed()).isEqualTo(2 * NUMBER_OF_GAMES);
+        softly.assertThat(botA.raiseFrequency(HandStrength.WEAK)).isEqualTo(0.5);
+        softly.assertThat(botA.bluffs()).isEqualTo(NUMBER_OF_GAMES);
+        softly.assertThat(botA.bluffSuccessRate()).isEqualTo(1.0);
+        softly.assertThat(botA.averagePointsPerHand()).isEqualTo(0.5);
+        softly.assertThat(botB.raiseFrequency(HandStrength.STRONG)).isZero();
+        softly.assertThat(botB.maoDeOnzeHands()).isEqualTo(NUMBER_OF_GAMES);
+        softly.assertThat(botB.maoDeOnzeAcceptance()).isEqualTo(1.0);
+        softly.assertThat(botB.averagePointsPerHand()).isEqualTo(1.5);
+        softly.assertAll();
+    }
+
+    private static byte[] ids(Card... cards) {
+        final byte[] ids = new byte[cards.length];
+        for (int i = 0; i < cards.length; i++) ids[i] = (byte) cards[i].id();
+        return ids;
+    }
+}
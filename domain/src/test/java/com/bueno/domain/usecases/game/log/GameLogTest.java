@@ -0,0 +1,93 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.service.SimulationService;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should encode and decode decisions")
+    void shouldEncodeAndDecodeDecisions() {
+        final Card card = Card.of(Rank.KING, Suit.CLUBS);
+        final byte play = Decision.ofPlay(1, card);
+        final byte discard = Decision.ofDiscard(0, card);
+        final byte raise = Decision.of(1, Decision.RAISE);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(Decision.playerIndex(play)).isOne();
+        softly.assertThat(Decision.isPlay(play)).isTrue();
+        softly.assertThat(Decision.card(play)).isEqualTo(card);
+        softly.assertThat(Decision.playerIndex(discard)).isZero();
+        softly.assertThat(Decision.isDiscard(discard)).isTrue();
+        softly.assertThat(Decision.card(discard)).isEqualTo(card);
+        softly.assertThat(Decision.action(raise)).isEqualTo(Decision.RAISE);
+        softly.assertThat(Decision.isPlay(raise)).isFalse();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should read the same game record that was written")
+    void shouldReadTheSameGameRecordThatWasWritten() {
+        final HandRecord hand = new HandRecord(new byte[]{1, 2, 3, 4, 5, 6, 7}, 1, 0, 3,
+                new byte[]{Decision.of(1, Decision.RAISE), Decision.of(0, Decision.ACCEPT)});
+        final GameRecord record = new GameRecord(-42L, 0, List.of(hand));
+        final ByteBuffer buffer = ByteBuffer.allocate(record.encodedSize());
+        record.writeTo(buffer);
+
+        assertThat(GameRecord.readFrom(buffer.flip())).isEqualTo(record);
+    }
+
+    @Test
+    @DisplayName("Should record simulated games in the game log")
+    void shouldRecordSimulatedGamesInTheGameLog() throws IOException {
+        final Path file = directory.resolve("games.ctgl");
+        try (GameLogWriter gameLog = new GameLogWriter(file, "DummyBot", "DummyBot")) {
+            new SimulationService(UUID.randomUUID(), "DummyBot", "DummyBot", gameLog).runInParallel(3);
+        }
+        final List<GameRecord> records = GameLogReader.readAll(file);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(GameLogReader.readHeader(file)).isEqualTo(new GameLogHeader("DummyBot", "DummyBot"));
+        softly.assertThat(records).hasSize(3);
+        for (GameRecord record : records) {
+            softly.assertThat(record.winnerIndex()).isIn(0, 1);
+            for (HandRecord hand : record.hands()) {
+                final var distinctCards = new HashSet<Byte>();
+                for (byte card : hand.dealtCards()) distinctCards.add(card);
+                softly.assertThat(distinctCards).hasSize(HandRecord.DEALT_CARDS);
+                softly.assertThat(hand.decisions()).isNotEmpty();
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should record the cards dealt from the game seed")
+    void shouldRecordTheCardsDealtFromTheGameSeed() {
+        final Game game = new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 7L);
+        final byte[] dealtCards = GameRecordConverter.of(game).hands().get(0).dealtCards();
+        final List<Card> expected = new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 7L).currentHand().getDealtCards();
+
+        for (int i = 0; i < dealtCards.length; i++) assertThat(Card.ofId(dealtCards[i])).isEqualTo(expected.get(i));
+    }
+}
@@ -0,0 +1,65 @@
+package com.bueno.domain.usecases.game.log;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.usecases.game.service.SimulationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    private List<GameRecord> records;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Path file = directory.resolve("games.ctgl");
+        try (GameLogWriter gameLog = new GameLogWriter(file, "DummyBot", "DummyBot")) {
+            new SimulationService(UUID.randomUUID(), "DummyBot", "DummyBot", gameLog).runInParallel(3);
+        }
+        records = GameLogReader.readAll(file);
+    }
+
+    @Test
+    @DisplayName("Should replay recorded games exactly")
+    void shouldReplayRecordedGamesExactly() {
+        for (GameRecord record : records) {
+            final Game game = GameReplayer.replay(record, "DummyBot", "DummyBot");
+            assertThat(game.isDone()).isTrue();
+            assertThat(GameRecordConverter.of(game)).isEqualTo(record);
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay game from its hexadecimal record")
+    void shouldReplayGameFromItsHexadecimalRecord() {
+        final GameRecord record = records.get(0);
+        assertThat(GameRecord.fromHex(record.toHex())).isEqualTo(record);
+    }
+
+    @Test
+    @DisplayName("Should not replay game whose dealt cards differ from the record")
+    void shouldNotReplayGameWhoseDealtCardsDifferFromTheRecord() {
+        final GameRecord record = records.get(0);
+        final List<HandRecord> hands = new ArrayList<>(record.hands());
+        final HandRecord hand = hands.get(0);
+        hands.set(0, new HandRecord(hand.dealtCards(), 1 - hand.firstToPlayIndex(), hand.winnerIndex(),
+                hand.points(), hand.decisions()));
+        final GameRecord diverging = new GameRecord(record.dealSeed() + 1, record.winnerIndex(), hands);
+
+        assertThatThrownBy(() -> GameReplayer.replay(diverging, "DummyBot", "DummyBot"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameRepositoryInMemoryImplTest {
+
+    private GameRepositoryInMemoryImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GameRepositoryInMemoryImpl();
+    }
+
+    @Test
+    @DisplayName("Should find game by any of its players")
+    void shouldFindGameByAnyOfItsPlayers() {
+        final GameDto game = newGame();
+        sut.save(game);
+        assertThat(sut.findByPlayerUuid(game.player1().uuid())).contains(game);
+        assertThat(sut.findByPlayerUuid(game.player2().uuid())).contains(game);
+    }
+
+    @Test
+    @DisplayName("Should not find deleted game by its players")
+    void shouldNotFindDeletedGameByItsPlayers() {
+        final GameDto game = newGame();
+        sut.save(game);
+        sut.delete(game.gameUuid());
+        assertThat(sut.findByPlayerUuid(game.player1().uuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should advance the version of a game every time it is updated")
+    void shouldAdvanceTheVersionOfAGameEveryTimeItIsUpdated() {
+        final GameDto game = newGame();
+        sut.save(game);
+        sut.update(game);
+        sut.update(game);
+        assertThat(sut.findVersionByPlayerUuid(game.player2().uuid())).contains(new GameVersionDto(game.gameUuid(), 2));
+        sut.delete(game.gameUuid());
+        assertThat(sut.findVersionByPlayerUuid(game.player2().uuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find only games inactive for longer than the given minutes, oldest first")
+    void shouldFindOnlyGamesInactiveForLongerThanTheGivenMinutesOldestFirst() {
+        final GameDto active = newGame();
+        final GameDto inactive = lastActiveAgo(newGame(), Duration.ofMinutes(10));
+        final GameDto longInactive = lastActiveAgo(newGame(), Duration.ofMinutes(20));
+        List.of(active, inactive, longInactive).forEach(sut::save);
+
+        assertThat(sut.findInactiveAfter(5, 10)).map(InactiveGameDto::gameUuid)
+                .containsExactly(longInactive.gameUuid(), inactive.gameUuid());
+        assertThat(sut.findInactiveAfter(5, 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should stop reporting a game as inactive after it is updated")
+    void shouldStopReportingAGameAsInactiveAfterItIsUpdated() {
+        final GameDto game = newGame();
+        sut.save(lastActiveAgo(game, Duration.ofMinutes(10)));
+        sut.update(game);
+        assertThat(sut.findInactiveAfter(5, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should delete only the given games that are still inactive")
+    void shouldDeleteOnlyTheGivenGamesThatAreStillInactive() {
+        final GameDto inactive = lastActiveAgo(newGame(), Duration.ofMinutes(10));
+        final GameDto resumed = newGame();
+        sut.save(inactive);
+        sut.save(lastActiveAgo(resumed, Duration.ofMinutes(10)));
+        sut.update(resumed);
+
+        assertThat(sut.deleteInactiveAfter(List.of(inactive.gameUuid(), resumed.gameUuid()), 5))
+                .containsExactly(inactive.gameUuid());
+        assertThat(sut.findByPlayerUuid(inactive.player1().uuid())).isEmpty();
+        assertThat(sut.findByPlayerUuid(resumed.player1().uuid())).contains(resumed);
+    }
+
+    @Test
+    @DisplayName("Should keep indexes consistent under parallel saves and deletes")
+    void shouldKeepIndexesConsistentUnderParallelSavesAndDeletes() {
+        final List<GameDto> games = new ArrayList<>();
+        IntStream.range(0, 1000).forEach(i -> games.add(lastActiveAgo(newGame(), Duration.ofMinutes(10))));
+
+        games.parallelStream().forEach(sut::save);
+        games.parallelStream().filter(game -> games.indexOf(game) % 2 == 0).map(GameDto::gameUuid).forEach(sut::delete);
+
+        assertThat(sut.findInactiveAfter(5, 2000)).hasSize(500);
+        assertThat(games).allMatch(game -> sut.findByPlayerUuid(game.player1().uuid()).isPresent()
+                == (games.indexOf(game) % 2 != 0));
+    }
+
+    private static GameDto newGame() {
+        return GameConverter.toDto(new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 1L));
+    }
+
+    private static GameDto lastActiveAgo(GameDto game, Duration duration) {
+        final HandDto hand = game.hands().get(game.hands().size() - 1);
+        final Instant timestamp = Instant.now().minus(duration);
+        final List<IntelDto> history = hand.history().stream().map(intel -> intel.withTimestamp(timestamp)).toList();
+        return game.withHands(List.of(hand.withHistory(history)));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.hand;
+
+import com.bueno.domain.usecases.hand.dtos.BotHandStatisticsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportBotStatisticsUseCaseTest {
+
+    @Mock
+    private HandResultRepository handResultRepo;
+
+    @InjectMocks
+    private ReportBotStatisticsUseCase sut;
+
+    @Test
+    @DisplayName("Should report statistics of all bots if no bot name is given")
+    void shouldReportStatisticsOfAllBotsIfNoBotNameIsGiven() {
+        final List<BotHandStatisticsDto> statistics = List.of(statisticsOf("BotA"), statisticsOf("BotB"));
+        when(handResultRepo.findBotStatistics()).thenReturn(statistics);
+        assertThat(sut.create(null)).isEqualTo(statistics);
+    }
+
+    @Test
+    @DisplayName("Should report only the statistics of the given bot")
+    void shouldReportOnlyTheStatisticsOfTheGivenBot() {
+        when(handResultRepo.findBotStatistics()).thenReturn(List.of(statisticsOf("BotA"), statisticsOf("BotB")));
+        assertThat(sut.create("BotB")).extracting(BotHandStatisticsDto::botName).containsExactly("BotB");
+    }
+
+    private BotHandStatisticsDto statisticsOf(String botName) {
+        return new BotHandStatisticsDto(botName, "BOT_BOT", 10, 6, 0, 9, 5, 2, 1, 1, 1, 0.6, 0.4, Map.of());
+    }
+}
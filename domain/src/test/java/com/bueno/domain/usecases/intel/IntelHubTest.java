@@ -0,0 +1,143 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.intel;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.repos.GameRepositoryInMemoryImpl;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.utils.exceptions.GameNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntelHubTest {
+
+    private GameRepository repo;
+    private Game game;
+    private UUID playerUuid;
+
+    @BeforeEach
+    void setUp() {
+        repo = new GameRepositoryInMemoryImpl();
+        game = new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), 42L);
+        playerUuid = game.getPlayer1().getUuid();
+        repo.save(GameConverter.toDto(game));
+    }
+
+    @Test
+    @DisplayName("Should replay the game history on subscription")
+    void shouldReplayTheGameHistoryOnSubscription() {
+        final IntelSubscription subscription = new IntelHub(repo, 16).subscribe(playerUuid, null, () -> {});
+        assertThat(drain(subscription)).hasSameSizeAs(game.getIntelSince(null));
+    }
+
+    @Test
+    @DisplayName("Should push only the intel produced after the last one delivered")
+    void shouldPushOnlyTheIntelProducedAfterTheLastOneDelivered() {
+        final IntelHub sut = new IntelHub(repo, 16);
+        final IntelSubscription subscription = sut.subscribe(playerUuid, null, () -> {});
+        drain(subscription);
+
+        playCard();
+        sut.publish(GameConverter.toDto(game));
+
+        final List<IntelDto> pushed = drain(subscription);
+        assertThat(pushed).hasSize(1);
+        assertThat(pushed.get(0).timestamp()).isEqualTo(game.getIntel().timestamp());
+    }
+
+    @Test
+    @DisplayName("Should deliver intel published while the game is loaded on subscription")
+    void shouldDeliverIntelPublishedWhileTheGameIsLoadedOnSubscription() {
+        final IntelHub[] sut = new IntelHub[1];
+        sut[0] = new IntelHub(new GameRepositoryInMemoryImpl() {
+            @Override
+            public Optional<GameDto> findByPlayerUuid(UUID uuid) {
+                final Optional<GameDto> loaded = repo.findByPlayerUuid(uuid);
+                playCard();
+                sut[0].publish(GameConverter.toDto(game));
+                return loaded;
+            }
+        }, 16);
+
+        final List<IntelDto> delivered = drain(sut[0].subscribe(playerUuid, null, () -> {}));
+
+        assertThat(delivered).hasSameSizeAs(game.getIntelSince(null));
+        assertThat(delivered.get(delivered.size() - 1).timestamp()).isEqualTo(game.getIntel().timestamp());
+    }
+
+    @Test
+    @DisplayName("Should close subscription of a consumer that does not keep up")
+    void shouldCloseSubscriptionOfAConsumerThatDoesNotKeepUp() {
+        final IntelHub sut = new IntelHub(repo, 1);
+        final IntelSubscription subscription = sut.subscribe(playerUuid, null, () -> {});
+
+        playCard();
+        sut.publish(GameConverter.toDto(game));
+
+        assertThat(subscription.closeReason()).contains(IntelSubscription.CloseReason.SLOW_CONSUMER);
+        assertThat(sut.numberOfSubscriptions()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should close subscriptions of removed games")
+    void shouldCloseSubscriptionsOfRemovedGames() {
+        final IntelHub sut = new IntelHub(repo, 16);
+        final IntelSubscription subscription = sut.subscribe(playerUuid, null, () -> {});
+        sut.closeGames(List.of(game.getUuid()));
+        assertThat(subscription.closeReason()).contains(IntelSubscription.CloseReason.GAME_OVER);
+    }
+
+    @Test
+    @DisplayName("Should throw if player is not in an active game")
+    void shouldThrowIfPlayerIsNotInAnActiveGame() {
+        final IntelHub sut = new IntelHub(repo, 16);
+        assertThatExceptionOfType(GameNotFoundException.class)
+                .isThrownBy(() -> sut.subscribe(UUID.randomUUID(), null, () -> {}));
+        assertThat(sut.numberOfSubscriptions()).isZero();
+    }
+
+    private void playCard() {
+        final Player player = game.currentHand().getCurrentPlayer();
+        final Card card = player.play(player.getCards().get(0));
+        game.currentHand().playFirstCard(player, card);
+    }
+
+    private List<IntelDto> drain(IntelSubscription subscription) {
+        final List<IntelDto> result = new ArrayList<>();
+        IntelDto intel;
+        while ((intel = subscription.poll()) != null) result.add(intel);
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+package com.bueno.domain.usecases.tournament;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class MatchupPlanTest {
+
+    private final List<String> botNames = List.of("BotA", "BotB", "BotC");
+
+    @Test
+    @DisplayName("Should plan a matchup for each ordered pair of different bots")
+    void shouldPlanAMatchupForEachOrderedPairOfDifferentBots() {
+        assertThat(MatchupPlan.of(botNames)).containsExactly(
+                new Matchup("BotA", "BotB"), new Matchup("BotA", "BotC"),
+                new Matchup("BotB", "BotA"), new Matchup("BotB", "BotC"),
+                new Matchup("BotC", "BotA"), new Matchup("BotC", "BotB"));
+    }
+
+    @Test
+    @DisplayName("Should shards cover every matchup exactly once")
+    void shouldShardsCoverEveryMatchupExactlyOnce() {
+        final List<Matchup> matchups = MatchupPlan.of(botNames);
+        final List<Matchup> sharded = new ArrayList<>();
+        for (int shard = 0; shard < 4; shard++) sharded.addAll(MatchupPlan.shard(matchups, shard, 4));
+        assertThat(sharded).containsExactlyInAnyOrderElementsOf(matchups);
+    }
+
+    @Test
+    @DisplayName("Should throw if shard index is out of range")
+    void shouldThrowIfShardIndexIsOutOfRange() {
+        final List<Matchup> matchups = MatchupPlan.of(botNames);
+        assertThatIllegalArgumentException().isThrownBy(() -> MatchupPlan.shard(matchups, 2, 2));
+    }
+}
@@ -0,0 +1,58 @@
+package com.bueno.domain.usecases.tournament;
+
+import com.bueno.domain.usecases.game.usecase.RankBotsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchupResultFileTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<MatchupResult> results = List.of(
+            new MatchupResult("BotA", "BotB", 7, 5),
+            new MatchupResult("BotB", "BotA", 7, 3),
+            new MatchupResult("BotA", "Bot Ç", 7, 0));
+
+    @Test
+    @DisplayName("Should read the same results that were written")
+    void shouldReadTheSameResultsThatWereWritten() throws IOException {
+        final Path file = directory.resolve("shard.results");
+        MatchupResultFile.write(file, results);
+        assertThat(MatchupResultFile.read(file)).isEqualTo(results);
+    }
+
+    @Test
+    @DisplayName("Should ignore an incomplete last record")
+    void shouldIgnoreAnIncompleteLastRecord() throws IOException {
+        final Path file = directory.resolve("shard.results");
+        MatchupResultFile.write(file, results);
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThat(MatchupResultFile.read(file)).isEqualTo(results.subList(0, 2));
+    }
+
+    @Test
+    @DisplayName("Should rank bots by matchups won")
+    void shouldRankBotsByMatchupsWon() {
+        assertThat(RankBotsUseCase.rank(List.of("BotA", "BotB"), results)).isEqualTo(Map.of("BotA", 1L, "BotB", 0L));
+    }
+
+    @Test
+    @DisplayName("Should rank bots without matchups with no points")
+    void shouldRankBotsWithoutMatchupsWithNoPoints() {
+        assertThat(RankBotsUseCase.rank(List.of("BotA", "BotC"), results.subList(0, 1)))
+                .isEqualTo(Map.of("BotA", 1L, "BotC", 0L));
+    }
+}
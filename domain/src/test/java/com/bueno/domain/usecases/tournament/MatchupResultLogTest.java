@@ -0,0 +1,94 @@
+package com.bueno.domain.usecases.tournament;
+
+import com.bueno.domain.usecases.game.usecase.RankBotsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchupResultLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final MatchupResult first = new MatchupResult("BotA", "BotB", 7, 5);
+    private final MatchupResult second = new MatchupResult("BotB", "BotA", 7, 2);
+    private final MatchupResult third = new MatchupResult("BotA", "BotC", 7, 7);
+
+    @Test
+    @DisplayName("Should load appended results when reopened")
+    void shouldLoadAppendedResultsWhenReopened() throws IOException {
+        final Path file = directory.resolve("rank.checkpoint");
+        try (MatchupResultLog log = MatchupResultLog.open(file, 1)) {
+            log.append(first);
+            log.append(second);
+        }
+        try (MatchupResultLog log = MatchupResultLog.open(file)) {
+            assertThat(log.results()).containsExactly(first, second);
+        }
+    }
+
+    @Test
+    @DisplayName("Should be readable as a matchup result file")
+    void shouldBeReadableAsAMatchupResultFile() throws IOException {
+        final Path file = directory.resolve("rank.checkpoint");
+        try (MatchupResultLog log = MatchupResultLog.open(file)) {
+            log.append(first);
+        }
+        assertThat(MatchupResultFile.read(file)).containsExactly(first);
+    }
+
+    @Test
+    @DisplayName("Should drop an incomplete record and keep appending after the last valid one")
+    void shouldDropAnIncompleteRecordAndKeepAppendingAfterTheLastValidOne() throws IOException {
+        final Path file = directory.resolve("rank.checkpoint");
+        try (MatchupResultLog log = MatchupResultLog.open(file)) {
+            log.append(first);
+            log.append(second);
+        }
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        try (MatchupResultLog log = MatchupResultLog.open(file)) {
+            assertThat(log.results()).containsExactly(first);
+            log.append(third);
+        }
+        assertThat(MatchupResultFile.read(file)).containsExactly(first, third);
+    }
+
+    @Test
+    @DisplayName("Should drop a record torn inside a name and keep appending after the last valid one")
+    void shouldDropARecordTornInsideANameAndKeepAppendingAfterTheLastValidOne() throws IOException {
+        final Path file = directory.resolve("rank.checkpoint");
+        try (MatchupResultLog log = MatchupResultLog.open(file)) {
+            log.append(first);
+        }
+        Files.write(file, new byte[]{0, 4, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, StandardOpenOption.APPEND);
+
+        try (MatchupResultLog log = MatchupResultLog.open(file)) {
+            assertThat(log.results()).containsExactly(first);
+            log.append(third);
+        }
+        assertThat(MatchupResultFile.read(file)).containsExactly(first, third);
+    }
+
+    @Test
+    @DisplayName("Should skip matchups already in the checkpoint")
+    void shouldSkipMatchupsAlreadyInTheCheckpoint() throws IOException {
+        final Path file = directory.resolve("rank.checkpoint");
+        try (MatchupResultLog log = MatchupResultLog.open(file)) {
+            log.append(first);
+            log.append(second);
+        }
+        final List<Matchup> matchups = List.of(second.matchup(), first.matchup());
+        assertThat(new RankBotsUseCase().playAll(matchups, file)).containsExactly(second, first);
+    }
+}
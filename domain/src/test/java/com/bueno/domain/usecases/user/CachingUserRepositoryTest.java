@@ -0,0 +1,118 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.user;
+
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+import com.bueno.domain.usecases.user.dtos.UserCacheStatisticsDto;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+    @Mock UserRepository repo;
+    private CachingUserRepository sut;
+    private ApplicationUserDto user;
+
+    @BeforeEach
+    void setUp() {
+        sut = new CachingUserRepository(repo, 2);
+        user = new ApplicationUserDto(UUID.randomUUID(), "name", "password", "email@email.com");
+    }
+
+    @Test
+    @DisplayName("Should throw if cache size is not positive")
+    void shouldThrowIfCacheSizeIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CachingUserRepository(repo, 0));
+    }
+
+    @Test
+    @DisplayName("Should find cached user by uuid, username and email with a single load")
+    void shouldFindCachedUserByUuidUsernameAndEmailWithASingleLoad() {
+        when(repo.findByUuid(user.uuid())).thenReturn(Optional.of(user));
+
+        assertThat(sut.findByUuid(user.uuid())).contains(user);
+        assertThat(sut.findByUsername(user.username())).contains(user);
+        assertThat(sut.findByEmail(user.email())).contains(user);
+
+        verify(repo).findByUuid(user.uuid());
+        verifyNoMoreInteractions(repo);
+        final UserCacheStatisticsDto statistics = sut.statistics();
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(statistics.hits()).isEqualTo(2);
+        softly.assertThat(statistics.misses()).isEqualTo(1);
+        softly.assertThat(statistics.size()).isEqualTo(1);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not cache users that were not found")
+    void shouldNotCacheUsersThatWereNotFound() {
+        when(repo.findByUsername("name")).thenReturn(Optional.empty()).thenReturn(Optional.of(user));
+        assertThat(sut.findByUsername("name")).isEmpty();
+        assertThat(sut.findByUsername("name")).contains(user);
+    }
+
+    @Test
+    @DisplayName("Should reload user after it is saved")
+    void shouldReloadUserAfterItIsSaved() {
+        final ApplicationUserDto updated = new ApplicationUserDto(user.uuid(), "other", "password", "email@email.com");
+        when(repo.findByUuid(user.uuid())).thenReturn(Optional.of(user)).thenReturn(Optional.of(updated));
+
+        sut.findByUuid(user.uuid());
+        sut.save(updated);
+
+        assertThat(sut.findByUuid(user.uuid())).contains(updated);
+        verify(repo).save(updated);
+        verify(repo, times(2)).findByUuid(user.uuid());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used user when full")
+    void shouldEvictLeastRecentlyUsedUserWhenFull() {
+        final ApplicationUserDto second = new ApplicationUserDto(UUID.randomUUID(), "second", "password", "second@email.com");
+        final ApplicationUserDto third = new ApplicationUserDto(UUID.randomUUID(), "third", "password", "third@email.com");
+        when(repo.findByUuid(any())).thenAnswer(invocation -> Optional.of(
+                Stream.of(user, second, third).filter(u -> u.uuid().equals(invocation.getArgument(0))).findFirst().orElseThrow()));
+        when(repo.findByUsername(user.username())).thenReturn(Optional.of(user));
+
+        sut.findByUuid(user.uuid());
+        sut.findByUuid(second.uuid());
+        sut.findByUuid(third.uuid());
+        sut.findByUsername(user.username());
+
+        assertThat(sut.statistics().evictions()).isEqualTo(2);
+        verify(repo).findByUsername(user.username());
+    }
+}
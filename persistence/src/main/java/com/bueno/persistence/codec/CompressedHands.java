@@ -0,0 +1,65 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.codec;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Packs the encoded hands of a game into a single gzip compressed blob, used where a game is stored once and read
+ * rarely, such as the archive of finished games.
+ */
+public final class CompressedHands {
+
+    private CompressedHands() {}
+
+    public static byte[] compress(List<byte[]> hands) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(hands.size());
+            for (byte[] hand : hands) {
+                out.writeInt(hand.length);
+                out.write(hand);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<byte[]> decompress(byte[] compressed) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(compressed)))) {
+            final int size = in.readInt();
+            final List<byte[]> hands = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final byte[] hand = new byte[in.readInt()];
+                in.readFully(hand);
+                hands.add(hand);
+            }
+            return hands;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
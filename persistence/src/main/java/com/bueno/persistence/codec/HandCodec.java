@@ -0,0 +1,405 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.codec;
+
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.RoundDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Versioned binary encoding of a hand as it is persisted inside a game document. Cards are single bytes, players are
+ * referenced by their index in the game (0 or 1), possible actions are bitmasks, intel timestamps are zig-zag delta
+ * encoded (clocks may step back between two intel) and everything that can be derived from the game players
+ * (usernames, bot flags and uuids) is left out.
+ * <p>
+ * The history size and the last intel timestamp are written right after the version, so they can be read without
+ * decoding the hand.
+ */
+public final class HandCodec {
+    public static final byte VERSION = 2;
+
+    private static final int NO_PLAYER = 3;
+    private static final int NO_CARD = 0xFF;
+    private static final int LITERAL = 0xFF;
+    private static final String RANKS = "X4567QJKA23";
+    private static final String SUITS = "XDSHC";
+    private static final List<String> ACTIONS = List.of("PLAY", "RAISE", "ACCEPT", "QUIT");
+    private static final List<String> EVENTS =
+            List.of("HAND_START", "PLAY", "RAISE", "ACCEPT", "QUIT", "ACCEPT_HAND", "QUIT_HAND", "GAME_OVER");
+    private static final List<String> STATES =
+            List.of("NOCARD", "ONECARD", "WAITINGMAODEONZE", "WAITINGRAISERESPONSE", "DONE");
+
+    private static final int GAME_DONE = 1;
+    private static final int MAO_DE_ONZE = 1 << 1;
+    private static final int HAS_HAND_POINTS = 1 << 2;
+    private static final int HAS_POINTS_PROPOSAL = 1 << 3;
+    private static final int HAS_EVENT = 1 << 4;
+
+    private HandCodec() {}
+
+    public static byte[] encode(HandDto hand, UUID player1, UUID player2) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + 96 * hand.history().size());
+        final Writer out = new Writer(new DataOutputStream(bytes), player1, player2);
+        try {
+            final List<IntelDto> history = hand.history();
+            out.data.writeByte(VERSION);
+            out.varint(history.size());
+            out.data.writeLong(history.isEmpty() ? 0 : history.get(history.size() - 1).timestamp().toEpochMilli());
+
+            out.card(hand.vira());
+            out.cards(hand.dealtCards());
+            out.cards(hand.openCards());
+            out.varint(hand.roundsPlayed().size());
+            for (RoundDto round : hand.roundsPlayed()) {
+                out.player(round.firstToPlay());
+                out.player(round.lastToPlay());
+                out.player(round.winner());
+                out.card(round.vira());
+                out.card(round.firstCard());
+                out.card(round.lastCard());
+            }
+            out.data.writeByte(bitmaskOf(hand.possibleActions()));
+            out.player(hand.firstToPlay());
+            out.player(hand.lastToPlay());
+            out.player(hand.currentPlayer());
+            out.player(hand.lastBetRaiser());
+            out.player(hand.eventPlayer());
+            out.card(hand.cartToPlayAgainst());
+            out.data.writeByte(hand.points());
+            out.data.writeByte(hand.pointsProposal());
+            out.player(hand.winner());
+            out.string(STATES, hand.state());
+
+            long previousTimestamp = history.isEmpty() ? 0 : history.get(0).timestamp().toEpochMilli();
+            out.data.writeLong(previousTimestamp);
+            for (IntelDto intel : history) {
+                final long timestamp = intel.timestamp().toEpochMilli();
+                out.varint(zigZag(timestamp - previousTimestamp));
+                previousTimestamp = timestamp;
+                writeIntel(out, intel, hand.winner());
+            }
+            out.data.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeIntel(Writer out, IntelDto intel, PlayerDto handWinner) throws IOException {
+        int flags = 0;
+        if (intel.isGameDone()) flags |= GAME_DONE;
+        if (intel.isMaoDeOnze()) flags |= MAO_DE_ONZE;
+        if (intel.handPoints() != null) flags |= HAS_HAND_POINTS;
+        if (intel.handPointsProposal() != null) flags |= HAS_POINTS_PROPOSAL;
+        if (intel.event() != null) flags |= HAS_EVENT;
+        out.data.writeByte(flags);
+        out.player(intel.gameWinner());
+        if (intel.handPoints() != null) out.data.writeByte(intel.handPoints());
+        if (intel.handPointsProposal() != null) out.data.writeByte(intel.handPointsProposal());
+        out.varint(intel.roundWinnersUuid().size());
+        for (Optional<UUID> winner : intel.roundWinnersUuid()) out.player(winner.orElse(null));
+        out.varint(intel.roundsPlayed());
+        out.card(intel.vira());
+        out.cards(intel.openCards());
+        out.player(handWinnerOf(intel, handWinner));
+        out.player(intel.currentPlayerUuid());
+        out.varint(intel.currentPlayerScore());
+        out.varint(intel.currentOpponentScore());
+        out.card(intel.cardToPlayAgainst());
+        out.varint(intel.players().size());
+        for (PlayerDto player : intel.players()) {
+            out.player(player);
+            out.varint(player.score());
+            out.cards(player.cards());
+        }
+        if (intel.event() != null) out.string(EVENTS, intel.event());
+        out.player(intel.eventPlayerUuid());
+        out.data.writeByte(bitmaskOf(intel.possibleActions()));
+    }
+
+    public static int historySize(byte[] encoded) {
+        final ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        checkVersion(buffer.get());
+        return varint(buffer);
+    }
+
+    public static Optional<Instant> lastTimestamp(byte[] encoded) {
+        final ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        checkVersion(buffer.get());
+        final int historySize = varint(buffer);
+        final long lastTimestamp = buffer.getLong();
+        return historySize == 0 ? Optional.empty() : Optional.of(Instant.ofEpochMilli(lastTimestamp));
+    }
+
+    public static HandDto decode(byte[] encoded, PlayerDto player1, PlayerDto player2) {
+        final Reader in = new Reader(ByteBuffer.wrap(encoded), player1, player2);
+        checkVersion(in.buffer.get());
+        final int historySize = varint(in.buffer);
+        in.buffer.getLong();
+
+        final CardDto vira = in.card();
+        final List<CardDto> dealtCards = in.cards();
+        final List<CardDto> openCards = in.cards();
+        final int numberOfRounds = varint(in.buffer);
+        final List<RoundDto> rounds = new ArrayList<>(numberOfRounds);
+        for (int i = 0; i < numberOfRounds; i++)
+            rounds.add(new RoundDto(in.player(), in.player(), in.player(), in.card(), in.card(), in.card()));
+        final Set<String> possibleActions = actionsOf(in.buffer.get());
+        final PlayerDto firstToPlay = in.player();
+        final PlayerDto lastToPlay = in.player();
+        final PlayerDto currentPlayer = in.player();
+        final PlayerDto lastBetRaiser = in.player();
+        final PlayerDto eventPlayer = in.player();
+        final CardDto cardToPlayAgainst = in.card();
+        final int points = in.buffer.get();
+        final int pointsProposal = in.buffer.get();
+        final PlayerDto winner = in.player();
+        final String state = in.string(STATES);
+
+        final List<IntelDto> history = new ArrayList<>(historySize);
+        long timestamp = in.buffer.getLong();
+        for (int i = 0; i < historySize; i++) {
+            timestamp += unZigZag(varlong(in.buffer));
+            history.add(readIntel(in, Instant.ofEpochMilli(timestamp)));
+        }
+
+        return new HandDto(vira, dealtCards, openCards, rounds, history, possibleActions, firstToPlay, lastToPlay,
+                currentPlayer, lastBetRaiser, eventPlayer, cardToPlayAgainst, points, pointsProposal, winner, state);
+    }
+
+    private static IntelDto readIntel(Reader in, Instant timestamp) {
+        final int flags = in.buffer.get();
+        final PlayerDto gameWinner = in.player();
+        final Integer handPoints = (flags & HAS_HAND_POINTS) != 0 ? (int) in.buffer.get() : null;
+        final Integer pointsProposal = (flags & HAS_POINTS_PROPOSAL) != 0 ? (int) in.buffer.get() : null;
+        final int numberOfRoundWinners = varint(in.buffer);
+        final List<Optional<String>> roundWinnersUsernames = new ArrayList<>(numberOfRoundWinners);
+        final List<Optional<UUID>> roundWinnersUuid = new ArrayList<>(numberOfRoundWinners);
+        for (int i = 0; i < numberOfRoundWinners; i++) {
+            final Optional<PlayerDto> winner = Optional.ofNullable(in.player());
+            roundWinnersUsernames.add(winner.map(PlayerDto::username));
+            roundWinnersUuid.add(winner.map(PlayerDto::uuid));
+        }
+        final int roundsPlayed = varint(in.buffer);
+        final CardDto vira = in.card();
+        final List<CardDto> openCards = in.cards();
+        final PlayerDto handWinner = in.player();
+        final PlayerDto currentPlayer = in.player();
+        final int currentPlayerScore = varint(in.buffer);
+        final int currentOpponentScore = varint(in.buffer);
+        final CardDto cardToPlayAgainst = in.card();
+        final int numberOfPlayers = varint(in.buffer);
+        final List<PlayerDto> players = new ArrayList<>(numberOfPlayers);
+        for (int i = 0; i < numberOfPlayers; i++) {
+            final PlayerDto player = in.player();
+            players.add(new PlayerDto(player.username(), player.uuid(), varint(in.buffer), player.isBot(), in.cards()));
+        }
+        final String event = (flags & HAS_EVENT) != 0 ? in.string(EVENTS) : null;
+        final PlayerDto eventPlayer = in.player();
+        final Set<String> possibleActions = actionsOf(in.buffer.get());
+        final PlayerDto currentOpponent = currentPlayer == null ? null : in.opponentOf(currentPlayer);
+
+        return new IntelDto(timestamp, (flags & GAME_DONE) != 0, uuidOf(gameWinner), (flags & MAO_DE_ONZE) != 0,
+                handPoints, pointsProposal, roundWinnersUsernames, roundWinnersUuid, roundsPlayed, vira, openCards,
+                usernameOf(handWinner), uuidOf(currentPlayer), currentPlayerScore, usernameOf(currentPlayer),
+                currentOpponentScore, usernameOf(currentOpponent), cardToPlayAgainst, players, event,
+                uuidOf(eventPlayer), usernameOf(eventPlayer), possibleActions);
+    }
+
+    private static void checkVersion(byte version) {
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported hand encoding version: " + version);
+    }
+
+    private static int bitmaskOf(Set<String> actions) {
+        int bitmask = 0;
+        for (String action : actions) {
+            final int index = ACTIONS.indexOf(action);
+            if (index < 0) throw new IllegalArgumentException("Unknown possible action: " + action);
+            bitmask |= 1 << index;
+        }
+        return bitmask;
+    }
+
+    private static Set<String> actionsOf(int bitmask) {
+        final Set<String> actions = new HashSet<>();
+        for (int i = 0; i < ACTIONS.size(); i++) if ((bitmask & 1 << i) != 0) actions.add(ACTIONS.get(i));
+        return actions;
+    }
+
+    private static long zigZag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static long unZigZag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static int varint(ByteBuffer buffer) {
+        return Math.toIntExact(varlong(buffer));
+    }
+
+    private static long varlong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Intel only names the hand winner, and both players may share a username (two instances of the same bot), so
+     * the winner of the hand is used whenever it carries that name. The username lookup is left for intel whose hand
+     * winner the hand does not know.
+     */
+    private static UUID handWinnerOf(IntelDto intel, PlayerDto handWinner) {
+        final String username = intel.handWinner();
+        if (username == null) return null;
+        if (handWinner != null && handWinner.username().equals(username)) return handWinner.uuid();
+        return intel.players().stream()
+                .filter(player -> player.username().equals(username))
+                .findFirst()
+                .map(PlayerDto::uuid)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown player username: " + username));
+    }
+
+    private static UUID uuidOf(PlayerDto player) {
+        return player == null ? null : player.uuid();
+    }
+
+    private static String usernameOf(PlayerDto player) {
+        return player == null ? null : player.username();
+    }
+
+    private static final class Writer {
+        private final DataOutputStream data;
+        private final UUID player1;
+        private final UUID player2;
+
+        private Writer(DataOutputStream data, UUID player1, UUID player2) {
+            this.data = data;
+            this.player1 = player1;
+            this.player2 = player2;
+        }
+
+        private void varint(long value) throws IOException {
+            if (value < 0) throw new IllegalArgumentException("Negative value can not be encoded: " + value);
+            while ((value & ~0x7FL) != 0) {
+                data.writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data.writeByte((int) value);
+        }
+
+        private void card(CardDto card) throws IOException {
+            if (card == null) {
+                data.writeByte(NO_CARD);
+                return;
+            }
+            final int rank = RANKS.indexOf(card.rank());
+            final int suit = SUITS.indexOf(card.suit());
+            data.writeByte(rank == 0 || suit == 0 ? 0 : (rank - 1) * 4 + suit);
+        }
+
+        private void cards(List<CardDto> cards) throws IOException {
+            varint(cards.size());
+            for (CardDto card : cards) card(card);
+        }
+
+        private void player(PlayerDto player) throws IOException {
+            player(player == null ? null : player.uuid());
+        }
+
+        private void player(UUID uuid) throws IOException {
+            if (uuid == null) data.writeByte(NO_PLAYER);
+            else if (uuid.equals(player1)) data.writeByte(0);
+            else if (uuid.equals(player2)) data.writeByte(1);
+            else throw new IllegalArgumentException("Player does not belong to the game: " + uuid);
+        }
+
+        private void string(List<String> dictionary, String value) throws IOException {
+            final int index = dictionary.indexOf(value);
+            if (index >= 0) {
+                data.writeByte(index);
+                return;
+            }
+            final byte[] utf = value.getBytes(StandardCharsets.UTF_8);
+            data.writeByte(LITERAL);
+            data.writeShort(utf.length);
+            data.write(utf);
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final PlayerDto[] players;
+
+        private Reader(ByteBuffer buffer, PlayerDto player1, PlayerDto player2) {
+            this.buffer = buffer;
+            this.players = new PlayerDto[]{player1, player2};
+        }
+
+        private CardDto card() {
+            final int id = buffer.get() & 0xFF;
+            if (id == NO_CARD) return null;
+            if (id == 0) return CardDto.closed();
+            return new CardDto(String.valueOf(RANKS.charAt((id - 1) / 4 + 1)), String.valueOf(SUITS.charAt((id - 1) % 4 + 1)));
+        }
+
+        private List<CardDto> cards() {
+            final int size = varint(buffer);
+            final List<CardDto> cards = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) cards.add(card());
+            return cards;
+        }
+
+        private PlayerDto player() {
+            final int index = buffer.get();
+            return index == NO_PLAYER ? null : players[index];
+        }
+
+        private PlayerDto opponentOf(PlayerDto player) {
+            return player.uuid().equals(players[0].uuid()) ? players[1] : players[0];
+        }
+
+        private String string(List<String> dictionary) {
+            final int index = buffer.get() & 0xFF;
+            if (index != LITERAL) return dictionary.get(index);
+            final byte[] utf = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(utf);
+            return new String(utf, StandardCharsets.UTF_8);
+        }
+    }
+}
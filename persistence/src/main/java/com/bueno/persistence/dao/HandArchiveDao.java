@@ -20,10 +20,12 @@
 
 package com.bueno.persistence.dao;
 
-import com.bueno.persistence.dto.PlayerEntity;
+import com.bueno.persistence.dto.HandArchiveEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.List;
 import java.util.UUID;
 
-public interface PlayerDao extends MongoRepository<PlayerEntity, UUID> {
+public interface HandArchiveDao extends MongoRepository<HandArchiveEntity, String> {
+    List<HandArchiveEntity> findByGameIdOrderByHandIndexAsc(UUID gameId);
 }
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dao;
+
+import com.bueno.persistence.dto.HandRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface HandRollupDao extends JpaRepository<HandRollupEntity, HandRollupEntity.Key> {
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO HAND_ROLLUP (BOT_NAME, HAND_TYPE, VIRA_RANK, HANDS, WINS, DRAWS, POINTS_WON, POINTS_LOST,
+                                     RAISED_HANDS, RAISED_HANDS_WON, FOLDS, OPPONENT_FOLDS)
+            VALUES (:#{#row.botName}, :#{#row.handType}, :#{#row.viraRank}, :#{#row.hands}, :#{#row.wins},
+                    :#{#row.draws}, :#{#row.pointsWon}, :#{#row.pointsLost}, :#{#row.raisedHands},
+                    :#{#row.raisedHandsWon}, :#{#row.folds}, :#{#row.opponentFolds})
+            ON CONFLICT (BOT_NAME, HAND_TYPE, VIRA_RANK) DO UPDATE SET
+                HANDS = HAND_ROLLUP.HANDS + EXCLUDED.HANDS,
+                WINS = HAND_ROLLUP.WINS + EXCLUDED.WINS,
+                DRAWS = HAND_ROLLUP.DRAWS + EXCLUDED.DRAWS,
+                POINTS_WON = HAND_ROLLUP.POINTS_WON + EXCLUDED.POINTS_WON,
+                POINTS_LOST = HAND_ROLLUP.POINTS_LOST + EXCLUDED.POINTS_LOST,
+                RAISED_HANDS = HAND_ROLLUP.RAISED_HANDS + EXCLUDED.RAISED_HANDS,
+                RAISED_HANDS_WON = HAND_ROLLUP.RAISED_HANDS_WON + EXCLUDED.RAISED_HANDS_WON,
+                FOLDS = HAND_ROLLUP.FOLDS + EXCLUDED.FOLDS,
+                OPPONENT_FOLDS = HAND_ROLLUP.OPPONENT_FOLDS + EXCLUDED.OPPONENT_FOLDS
+            """, nativeQuery = true)
+    void increment(@Param("row") HandRollupEntity increments);
+}
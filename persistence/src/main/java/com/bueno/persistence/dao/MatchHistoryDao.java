@@ -0,0 +1,54 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dao;
+
+import com.bueno.persistence.dto.MatchHistoryEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MatchHistoryDao extends JpaRepository<MatchHistoryEntity, MatchHistoryEntity.Key> {
+
+    @Query("""
+            SELECT m FROM MatchHistoryEntity m
+            WHERE m.playerUuid = :player
+            ORDER BY m.endingTime DESC, m.gameUuid DESC
+            """
+    )
+    List<MatchHistoryEntity> findLatest(@Param("player") UUID player, Pageable page);
+
+    @Query("""
+            SELECT m FROM MatchHistoryEntity m
+            WHERE m.playerUuid = :player
+            AND (m.endingTime < :endingTime OR (m.endingTime = :endingTime AND m.gameUuid < :game))
+            ORDER BY m.endingTime DESC, m.gameUuid DESC
+            """
+    )
+    List<MatchHistoryEntity> findBefore(@Param("player") UUID player, @Param("endingTime") LocalDateTime endingTime,
+                                        @Param("game") UUID game, Pageable page);
+}
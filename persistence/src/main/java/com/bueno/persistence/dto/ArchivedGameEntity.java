@@ -0,0 +1,98 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.persistence.codec.CompressedHands;
+import com.bueno.persistence.codec.HandCodec;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import javax.persistence.Id;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document
+public class ArchivedGameEntity {
+    private static final DateTimeFormatter PARTITION_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM").withZone(ZoneOffset.UTC);
+
+    @Id
+    private UUID id;
+    private String partition;
+    private Instant archivedAt;
+    private LocalDateTime timestamp;
+    private UUID player1;
+    private UUID player2;
+    private UUID firstToPlay;
+    private UUID lastToPlay;
+    private List<PlayerEntity> players;
+    private Long dealSeed;
+    private int summarizedHands;
+    private byte[] hands;
+
+    public static ArchivedGameEntity from(GameEntity game, Instant archivedAt){
+        return ArchivedGameEntity.builder()
+                .id(game.getId())
+                .partition(PARTITION_FORMAT.format(archivedAt))
+                .archivedAt(archivedAt)
+                .timestamp(game.getTimestamp())
+                .player1(game.getPlayer1())
+                .player2(game.getPlayer2())
+                .firstToPlay(game.getFirstToPlay())
+                .lastToPlay(game.getLastToPlay())
+                .players(game.getPlayers())
+                .dealSeed(game.getDealSeed())
+                .summarizedHands(game.getSummarizedHands())
+                .hands(CompressedHands.compress(game.getHands()))
+                .build();
+    }
+
+    public GameDto toDto(){
+        final PlayerDto playerOne = players.get(0).toDto();
+        final PlayerDto playerTwo = players.get(1).toDto();
+        return new GameDto(
+                id,
+                timestamp,
+                playerOne,
+                playerTwo,
+                firstToPlay.equals(player1) ? playerOne : playerTwo,
+                lastToPlay.equals(player1) ? playerOne : playerTwo,
+                CompressedHands.decompress(hands).stream()
+                        .map(hand -> HandCodec.decode(hand, playerOne, playerTwo))
+                        .toList(),
+                dealSeed,
+                summarizedHands
+        );
+    }
+}
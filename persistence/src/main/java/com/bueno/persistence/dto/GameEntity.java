@@ -22,6 +22,8 @@ package com.bueno.persistence.dto;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.persistence.codec.HandCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,10 +31,13 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.persistence.Id;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Data
 @AllArgsConstructor
@@ -47,7 +52,13 @@ public class GameEntity {
     private UUID player2;
     private UUID firstToPlay;
     private UUID lastToPlay;
-    private List<HandEntity> hands;
+    private List<byte[]> hands;
+    private Long dealSeed;
+    private List<PlayerEntity> players;
+    private int summarizedHands;
+    private Instant lastActivity;
+    private UUID currentPlayer;
+    private long version;
 
     public static GameEntity from(GameDto dto){
         return GameEntity.builder()
@@ -57,19 +68,47 @@ public class GameEntity {
                 .player2(dto.player2().uuid())
                 .firstToPlay(dto.firstToPlay().uuid())
                 .lastToPlay(dto.lastToPlay().uuid())
-                .hands(dto.hands().stream().map(HandEntity::from).toList())
+                .hands(dto.hands().stream().map(hand -> HandCodec.encode(hand, dto.player1().uuid(), dto.player2().uuid())).toList())
+                .dealSeed(dto.dealSeed())
+                .players(List.of(PlayerEntity.from(dto.player1()), PlayerEntity.from(dto.player2())))
+                .summarizedHands(dto.summarizedHands())
+                .lastActivity(lastActivityOf(dto))
+                .currentPlayer(currentPlayerOf(dto))
                 .build();
     }
 
+    public static Instant lastActivityOf(GameDto dto){
+        if(dto.hands().isEmpty()) return Instant.now();
+        final List<IntelDto> history = dto.hands().get(dto.hands().size() - 1).history();
+        return history.isEmpty() ? Instant.now() : history.get(history.size() - 1).timestamp();
+    }
+
+    public static UUID currentPlayerOf(GameDto dto){
+        if(dto.hands().isEmpty()) return null;
+        final PlayerDto currentPlayer = dto.hands().get(dto.hands().size() - 1).currentPlayer();
+        return currentPlayer != null ? currentPlayer.uuid() : null;
+    }
+
+    public GameDto toDto(){
+        final Map<UUID, PlayerDto> playersByUuid = players.stream()
+                .map(PlayerEntity::toDto)
+                .collect(Collectors.toMap(PlayerDto::uuid, Function.identity()));
+        return toDto(playersByUuid);
+    }
+
     public GameDto toDto(Map<UUID, PlayerDto> players){
+        final PlayerDto playerOne = players.get(player1);
+        final PlayerDto playerTwo = players.get(player2);
         return new GameDto(
                 id,
                 timestamp,
-                players.get(player1),
-                players.get(player2),
+                playerOne,
+                playerTwo,
                 players.get(firstToPlay),
                 players.get(lastToPlay),
-                hands.stream().map(hand -> hand.toDto(players)).toList()
+                hands.stream().map(hand -> HandCodec.decode(hand, playerOne, playerTwo)).toList(),
+                dealSeed,
+                summarizedHands
         );
     }
 }
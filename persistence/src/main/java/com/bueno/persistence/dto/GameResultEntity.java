@@ -25,11 +25,13 @@ import com.bueno.domain.usecases.game.dtos.GameResultDto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -38,7 +40,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @Entity
 @Table(name = "GAME_RESULT")
-public class GameResultEntity {
+public class GameResultEntity implements Persistable<UUID> {
     @Id
     @Column(name = "GAME_ID")
     private UUID gameUuid;
@@ -56,11 +58,29 @@ public class GameResultEntity {
     private UUID player2Uuid;
     @Column(name = "PLAYER2_SCORE")
     private int player2Score;
+    @Transient
+    private boolean merged;
 
+    @Override
+    public UUID getId() {
+        return gameUuid;
+    }
+
+    // Results are written as inserts, skipping the merge lookup so they can go in JDBC batches. A result saved again
+    // for the same game is written as a merge, replacing the stored one.
+    @Override
+    public boolean isNew() {
+        return !merged;
+    }
+
+    public GameResultEntity asMerge() {
+        return new GameResultEntity(gameUuid, gameStart, gameEnd, winnerUuid, player1Uuid, player1Score, player2Uuid,
+                player2Score, true);
+    }
 
     public static GameResultEntity from(GameResultDto dto){
         return new GameResultEntity(dto.gameUuid(), dto.gameStart(), dto.gameEnd(),
-                dto.winnerUuid(), dto.player1Uuid(), dto.player1Score(), dto.player2Uuid(), dto.player2Score()
+                dto.winnerUuid(), dto.player1Uuid(), dto.player1Score(), dto.player2Uuid(), dto.player2Score(), false
         );
     }
 }
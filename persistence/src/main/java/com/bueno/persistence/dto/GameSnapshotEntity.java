@@ -0,0 +1,67 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import javax.persistence.Id;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document
+public class GameSnapshotEntity {
+    @Id
+    private UUID id;
+    private UUID player1;
+    private UUID player2;
+    private long sequence;
+    private long version;
+    private int handsPlayed;
+    private Instant lastActivity;
+    private UUID currentPlayer;
+    private GameEntity game;
+
+    public static GameSnapshotEntity from(GameDto dto, long sequence){
+        return GameSnapshotEntity.builder()
+                .id(dto.gameUuid())
+                .player1(dto.player1().uuid())
+                .player2(dto.player2().uuid())
+                .sequence(sequence)
+                .handsPlayed(dto.handsPlayed())
+                .lastActivity(GameEntity.lastActivityOf(dto))
+                .currentPlayer(GameEntity.currentPlayerOf(dto))
+                .game(GameEntity.from(dto))
+                .build();
+    }
+
+    public GameDto toDto(){
+        return game.toDto();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.persistence.codec.HandCodec;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import javax.persistence.Id;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document
+public class HandArchiveEntity {
+    @Id
+    private String id;
+    private UUID gameId;
+    private int handIndex;
+    private List<PlayerEntity> players;
+    private byte[] hand;
+
+    public static HandArchiveEntity from(GameDto game, int handIndex, HandDto hand){
+        return HandArchiveEntity.builder()
+                .gameId(game.gameUuid())
+                .handIndex(handIndex)
+                .players(List.of(PlayerEntity.from(game.player1()), PlayerEntity.from(game.player2())))
+                .hand(HandCodec.encode(hand, game.player1().uuid(), game.player2().uuid()))
+                .build();
+    }
+
+    public HandDto toDto(){
+        return HandCodec.decode(hand, players.get(0).toDto(), players.get(1).toDto());
+    }
+}
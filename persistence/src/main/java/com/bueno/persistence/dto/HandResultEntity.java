@@ -38,7 +38,9 @@ import java.util.UUID;
 @Table(name = "HAND_RESULT")
 public class HandResultEntity {
 
-    @Id @GeneratedValue(strategy= GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "HAND_RESULT_SEQ")
+    @SequenceGenerator(name = "HAND_RESULT_SEQ", sequenceName = "HAND_RESULT_SEQ", allocationSize = 50)
     private long id;
 
     @Column(name = "HAND_TYPE", length = 9)
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * Hand counters of a bot, for one hand type and vira rank, summed over every instance. Rows are only ever
+ * incremented, by {@link com.bueno.persistence.dao.HandRollupDao#increment}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(HandRollupEntity.Key.class)
+@Table(name = "HAND_ROLLUP")
+public class HandRollupEntity {
+    @Id
+    @Column(name = "BOT_NAME")
+    private String botName;
+    @Id
+    @Column(name = "HAND_TYPE", length = 9)
+    private String handType;
+    @Id
+    @Column(name = "VIRA_RANK", length = 1)
+    private String viraRank;
+
+    private long hands;
+    private long wins;
+    private long draws;
+    private long pointsWon;
+    private long pointsLost;
+    private long raisedHands;
+    private long raisedHandsWon;
+    private long folds;
+    private long opponentFolds;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private String botName;
+        private String handType;
+        private String viraRank;
+    }
+}
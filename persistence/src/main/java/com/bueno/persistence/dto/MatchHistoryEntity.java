@@ -0,0 +1,91 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row per (player, game), with the usernames copied in when the result is saved, so a player's
+ * history is a single index range scan instead of a join over every game result.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(MatchHistoryEntity.Key.class)
+@Table(name = "MATCH_HISTORY", indexes = {
+        @Index(name = "IDX_MATCH_HISTORY_PLAYER_ENDING", columnList = "PLAYER_ID, ENDING_TIME, GAME_ID")
+})
+public class MatchHistoryEntity implements Persistable<MatchHistoryEntity.Key> {
+    @Id
+    @Column(name = "PLAYER_ID")
+    private UUID playerUuid;
+    @Id
+    @Column(name = "GAME_ID")
+    private UUID gameUuid;
+    @Column(name = "ENDING_TIME")
+    private LocalDateTime endingTime;
+    @Column(name = "PLAYER1")
+    private String player1;
+    @Column(name = "PLAYER2")
+    private String player2;
+    @Column(name = "WINNER")
+    private String winner;
+    @Transient
+    private boolean merged;
+
+    @Override
+    public Key getId() {
+        return new Key(playerUuid, gameUuid);
+    }
+
+    // Rows are written as inserts, skipping the merge lookup so they can go in JDBC batches. A row saved again for the
+    // same game, as when its game result is saved again, is written as a merge, replacing the stored one.
+    @Override
+    public boolean isNew() {
+        return !merged;
+    }
+
+    public MatchHistoryEntity asMerge() {
+        return new MatchHistoryEntity(playerUuid, gameUuid, endingTime, player1, player2, winner, true);
+    }
+
+    public GameResultUsernamesDto toDto() {
+        return new GameResultUsernamesDto(gameUuid, endingTime, player1, player2, winner);
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private UUID playerUuid;
+        private UUID gameUuid;
+    }
+}
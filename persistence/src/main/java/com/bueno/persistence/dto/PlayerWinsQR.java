@@ -20,7 +20,10 @@
 
 package com.bueno.persistence.dto;
 
+import java.util.UUID;
+
 public interface PlayerWinsQR {
+    UUID getUuid();
     String getUsername();
     Long getWins();
 }
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.export;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+
+/**
+ * Streams the result tables row by row to an output stream. Rows are read through a server-side cursor: the query
+ * runs in a read-only transaction with auto-commit off and a fetch size, so the driver holds one batch of rows at a
+ * time instead of the whole table. Nothing is collected in memory on the way out.
+ */
+@Component
+public class ResultsExporter {
+
+    public enum Table {
+        GAME_RESULTS("""
+                SELECT game_id, game_start_time, game_end_time, winner, player1, player1_score, player2, player2_score
+                FROM game_result
+                """),
+        HAND_RESULTS("""
+                SELECT id, game_uuid, hand_type, hand_winner, points, points_proposal,
+                    r1_winner, r2_winner, r3_winner, vira, r1_c1, r1_c2, r2_c1, r2_c2, r3_c1, r3_c2
+                FROM hand_result
+                """);
+
+        private final String query;
+
+        Table(String query) {
+            this.query = query;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ConnectionSource {
+        Connection open() throws SQLException;
+    }
+
+    private final ConnectionSource connections;
+    private final int fetchSize;
+
+    public ResultsExporter(ConnectionSource connections, int fetchSize) {
+        this.connections = connections;
+        this.fetchSize = fetchSize;
+    }
+
+    @Autowired
+    public ResultsExporter(DataSource dataSource, @Value("${application.export.fetchSize:1000}") int fetchSize) {
+        this(dataSource::getConnection, fetchSize);
+    }
+
+    /**
+     * Writes every row of {@code table} to {@code out} and returns the number of rows written. The stream is flushed
+     * but not closed.
+     */
+    public long export(Table table, ExportFormat format, OutputStream out) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Connection connection = connections.open()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(table.query,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet rows = statement.executeQuery()) {
+                    return write(rows, format, writer);
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not export " + table + ": " + e.getMessage(), e);
+        } finally {
+            writer.flush();
+        }
+    }
+
+    private long write(ResultSet rows, ExportFormat format, Writer writer) throws SQLException, IOException {
+        final ResultSetMetaData metaData = rows.getMetaData();
+        final int columns = metaData.getColumnCount();
+        final String[] names = new String[columns];
+        final boolean[] numeric = new boolean[columns];
+        for (int i = 0; i < columns; i++) {
+            names[i] = metaData.getColumnLabel(i + 1).toLowerCase();
+            numeric[i] = isNumeric(metaData.getColumnType(i + 1));
+        }
+
+        if (format == ExportFormat.CSV) writeCsvLine(writer, names);
+        final String[] values = new String[columns];
+        long count = 0;
+        while (rows.next()) {
+            for (int i = 0; i < columns; i++) {
+                final Object value = rows.getObject(i + 1);
+                values[i] = value == null ? null : value.toString();
+            }
+            if (format == ExportFormat.CSV) writeCsvLine(writer, values);
+            else writeJsonLine(writer, names, values, numeric);
+            count++;
+        }
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            final String value = values[i];
+            if (value == null) continue;
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) writer.write(value);
+            else writer.write('"' + value.replace("\"", "\"\"") + '"');
+        }
+        writer.write('\n');
+    }
+
+    private static void writeJsonLine(Writer writer, String[] names, String[] values, boolean[] numeric) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write('"' + names[i] + "\":");
+            if (values[i] == null) writer.write("null");
+            else if (numeric[i]) writer.write(values[i]);
+            else writeJsonString(writer, values[i]);
+        }
+        writer.write("}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) writer.write(String.format("\\u%04x", (int) c));
+                    else writer.write(c);
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    private static boolean isNumeric(int sqlType) {
+        return switch (sqlType) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT,
+                    Types.REAL, Types.FLOAT, Types.DOUBLE, Types.NUMERIC, Types.DECIMAL -> true;
+            default -> false;
+        };
+    }
+}
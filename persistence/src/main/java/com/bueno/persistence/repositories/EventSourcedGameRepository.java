@@ -0,0 +1,222 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.log.GameDecisions;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.utils.exceptions.ConcurrentGameUpdateException;
+import com.bueno.domain.usecases.utils.exceptions.EntityAlreadyExistsException;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import com.bueno.persistence.codec.HandCodec;
+import com.bueno.persistence.dao.GameEventDao;
+import com.bueno.persistence.dao.GameSnapshotDao;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.GameEventEntity;
+import com.bueno.persistence.dto.GameSnapshotEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Stores each game as a snapshot taken when a hand starts or ends, plus one small event per decision taken in the
+ * current hand. The game is rebuilt by replaying the events after the snapshot. Enabled by the "event-sourced"
+ * profile.
+ */
+@Repository
+@Qualifier("gameStore")
+@Profile("event-sourced")
+public class EventSourcedGameRepository implements GameRepository {
+
+    private final GameSnapshotDao snapshotDao;
+    private final GameEventDao eventDao;
+    private final MongoTemplate mongoTemplate;
+
+    public EventSourcedGameRepository(GameSnapshotDao snapshotDao, GameEventDao eventDao, MongoTemplate mongoTemplate) {
+        this.snapshotDao = snapshotDao;
+        this.eventDao = eventDao;
+        this.mongoTemplate = mongoTemplate;
+        GameRepositoryImpl.ensurePlayerIndexes(mongoTemplate.indexOps(GameSnapshotEntity.class), "_id", "version");
+        mongoTemplate.indexOps(GameEventEntity.class).ensureIndex(new Index()
+                .on("gameId", Sort.Direction.ASC)
+                .on("sequence", Sort.Direction.ASC)
+                .unique());
+        mongoTemplate.indexOps(GameSnapshotEntity.class).ensureIndex(new Index().on("lastActivity", Sort.Direction.ASC));
+    }
+
+    @Override
+    public void save(GameDto dto) {
+        try {
+            snapshotDao.insert(GameSnapshotEntity.from(dto, 0));
+        } catch (DuplicateKeyException e) {
+            throw new EntityAlreadyExistsException("Game already exists: " + dto.gameUuid());
+        }
+    }
+
+    /**
+     * Reads only the head of the snapshot (sequence, hands played, players and the encoded current hand) and the last
+     * event of the game, then converts just the new intel into events. Every write is guarded by the version of the
+     * head that was read, so of two concurrent updates of the same game the second one is rejected; the unique
+     * (gameId, sequence) index backs that up for the events. New events first advance the head (version, last
+     * activity and current player) and are appended after it, so a head never lags its events: if the append fails,
+     * the game only looks changed and active a bit early, and the next update appends the missing events again.
+     */
+    @Override
+    public void update(GameDto dto) {
+        final GameSnapshotEntity snapshot = findHead(dto.gameUuid())
+                .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid()));
+        final long lastSequence = eventDao.findFirstByGameIdOrderBySequenceDesc(dto.gameUuid())
+                .map(GameEventEntity::getSequence)
+                .filter(sequence -> sequence > snapshot.getSequence())
+                .orElse(snapshot.getSequence());
+        final long tailSize = lastSequence - snapshot.getSequence();
+
+        if (isHandBoundary(snapshot, dto)) {
+            final GameSnapshotEntity next = GameSnapshotEntity.from(dto, lastSequence);
+            next.setVersion(snapshot.getVersion() + 1);
+            final Query atReadVersion = Query.query(where("id").is(dto.gameUuid()).and("version").is(snapshot.getVersion()));
+            if (mongoTemplate.findAndReplace(atReadVersion, next) == null)
+                throw new ConcurrentGameUpdateException("Game was updated concurrently: " + dto.gameUuid());
+            eventDao.deleteByGameIdAndSequenceLessThanEqual(dto.gameUuid(), lastSequence);
+            return;
+        }
+
+        final List<byte[]> storedHands = snapshot.getGame().getHands();
+        final int storedHistorySize = HandCodec.historySize(storedHands.get(storedHands.size() - 1)) + (int) tailSize;
+        final List<IntelDto> history = dto.hands().get(dto.hands().size() - 1).history();
+        final byte[] decisions = GameDecisions.since(dto, storedHistorySize);
+        if (decisions.length == 0) return;
+
+        final List<GameEventEntity> events = new ArrayList<>(decisions.length);
+        for (int i = 0; i < decisions.length; i++) {
+            events.add(GameEventEntity.builder()
+                    .gameId(dto.gameUuid())
+                    .sequence(lastSequence + i + 1)
+                    .decision(decisions[i])
+                    .timestamp(history.get(storedHistorySize + i).timestamp())
+                    .build());
+        }
+        final Query atReadVersion = Query.query(where("id").is(dto.gameUuid()).and("version").is(snapshot.getVersion()));
+        atReadVersion.fields().include("id");
+        final Update head = new Update()
+                .set("lastActivity", events.get(events.size() - 1).getTimestamp())
+                .set("currentPlayer", GameEntity.currentPlayerOf(dto))
+                .inc("version", 1);
+        if (mongoTemplate.findAndModify(atReadVersion, head, GameSnapshotEntity.class) == null)
+            throw new ConcurrentGameUpdateException("Game was updated concurrently: " + dto.gameUuid());
+        try {
+            eventDao.insert(events);
+        } catch (DuplicateKeyException e) {
+            throw new ConcurrentGameUpdateException("Game was updated concurrently: " + dto.gameUuid());
+        }
+    }
+
+    private Optional<GameSnapshotEntity> findHead(UUID uuid) {
+        final Query byId = Query.query(where("id").is(uuid));
+        byId.fields().include("sequence", "version", "handsPlayed", "game.players").slice("game.hands", -1);
+        return Optional.ofNullable(mongoTemplate.findOne(byId, GameSnapshotEntity.class));
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        final GameSnapshotEntity snapshot = snapshotDao.findById(uuid)
+                .orElseThrow(() -> new EntityNotFoundException("Can not delete non-existing game: " + uuid));
+        eventDao.deleteByGameId(uuid);
+        snapshotDao.delete(snapshot);
+    }
+
+    @Override
+    public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        return snapshotDao.findByPlayer1OrPlayer2(uuid, uuid).map(this::rebuild);
+    }
+
+    @Override
+    public Optional<GameVersionDto> findVersionByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        final Query byPlayer = Query.query(new Criteria().orOperator(where("player1").is(uuid), where("player2").is(uuid)));
+        byPlayer.fields().include("id", "version");
+        return Optional.ofNullable(mongoTemplate.findOne(byPlayer, GameSnapshotEntity.class))
+                .map(snapshot -> new GameVersionDto(snapshot.getId(), snapshot.getVersion()));
+    }
+
+    @Override
+    public List<InactiveGameDto> findInactiveAfter(int minutes, int limit) {
+        final Instant threshold = Instant.now().minus(minutes, ChronoUnit.MINUTES);
+        final Query query = Query.query(where("lastActivity").lt(threshold)).limit(limit);
+        query.fields().include("id", "game.timestamp", "player1", "player2", "currentPlayer");
+        return mongoTemplate.find(query, GameSnapshotEntity.class).stream()
+                .map(snapshot -> new InactiveGameDto(snapshot.getId(), snapshot.getGame().getTimestamp(),
+                        snapshot.getPlayer1(), snapshot.getPlayer2(), snapshot.getCurrentPlayer()))
+                .toList();
+    }
+
+    @Override
+    public List<UUID> deleteInactiveAfter(Collection<UUID> uuids, int minutes) {
+        final Instant threshold = Instant.now().minus(minutes, ChronoUnit.MINUTES);
+        final List<UUID> removed = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            final Query stillInactive = Query.query(where("id").is(uuid).and("lastActivity").lt(threshold));
+            stillInactive.fields().include("id");
+            if (mongoTemplate.findAndRemove(stillInactive, GameSnapshotEntity.class) == null) continue;
+            eventDao.deleteByGameId(uuid);
+            removed.add(uuid);
+        }
+        return removed;
+    }
+
+    private boolean isHandBoundary(GameSnapshotEntity snapshot, GameDto dto) {
+        if (snapshot.getHandsPlayed() != dto.handsPlayed()) return true;
+        final Map<UUID, Integer> storedScores = new HashMap<>();
+        for (PlayerEntity player : snapshot.getGame().getPlayers()) storedScores.put(player.getId(), player.getScore());
+        return storedScores.get(dto.player1().uuid()) != dto.player1().score()
+                || storedScores.get(dto.player2().uuid()) != dto.player2().score();
+    }
+
+    private GameDto rebuild(GameSnapshotEntity snapshot) {
+        final List<GameEventEntity> tail =
+                eventDao.findByGameIdAndSequenceGreaterThanOrderBySequenceAsc(snapshot.getId(), snapshot.getSequence());
+        final byte[] decisions = new byte[tail.size()];
+        final List<Instant> timestamps = new ArrayList<>(tail.size());
+        for (int i = 0; i < decisions.length; i++) {
+            decisions[i] = tail.get(i).getDecision();
+            timestamps.add(tail.get(i).getTimestamp());
+        }
+        return GameDecisions.apply(snapshot.toDto(), decisions, timestamps);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.persistence.dao.ArchivedGameDao;
+import com.bueno.persistence.dao.GameDao;
+import com.bueno.persistence.dto.ArchivedGameEntity;
+import com.bueno.persistence.dto.GameEntity;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only archive of games that left active play. Archived games are written once, with their hands compressed,
+ * and partitioned by the month they were archived in. Writes run on a single background thread, so archiving never
+ * delays the request that finished or removed the game. Pending writes are drained on shutdown, and games archived
+ * after that are written synchronously.
+ */
+@Repository
+public class GameArchive implements DisposableBean {
+    private static final Logger LOGGER = Logger.getLogger(GameArchive.class.getName());
+    private static final long DRAIN_TIMEOUT_SECONDS = 10;
+
+    private final ArchivedGameDao archivedGameDao;
+    private final GameDao gameDao;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "game-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public GameArchive(ArchivedGameDao archivedGameDao, GameDao gameDao, MongoTemplate mongoTemplate) {
+        this.archivedGameDao = archivedGameDao;
+        this.gameDao = gameDao;
+        final IndexOperations indexOperations = mongoTemplate.indexOps(ArchivedGameEntity.class);
+        GameRepositoryImpl.ensurePlayerIndexes(indexOperations, "archivedAt");
+        indexOperations.ensureIndex(new Index().on("partition", Sort.Direction.ASC));
+    }
+
+    void archiveAsync(UUID gameUuid) {
+        execute(gameUuid, () -> gameDao.findById(gameUuid).ifPresent(this::archive));
+    }
+
+    void archiveAsync(GameEntity game) {
+        execute(game.getId(), () -> archive(game));
+    }
+
+    private void execute(UUID gameUuid, Runnable archiving) {
+        final Runnable task = () -> {
+            try {
+                archiving.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Could not archive game: " + gameUuid, e);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException shutDown) {
+            task.run();
+        }
+    }
+
+    private void archive(GameEntity game) {
+        try {
+            archivedGameDao.insert(ArchivedGameEntity.from(game, Instant.now()));
+        } catch (DuplicateKeyException ignored) {
+            // Already archived when it finished, before being removed from active play.
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+            LOGGER.warning("Game archive did not drain within " + DRAIN_TIMEOUT_SECONDS + " seconds.");
+    }
+
+    public Optional<GameDto> findByGameUuid(UUID gameUuid) {
+        return archivedGameDao.findById(gameUuid).map(ArchivedGameEntity::toDto);
+    }
+
+    public List<GameDto> findByPlayerUuid(UUID playerUuid) {
+        return archivedGameDao.findByPlayer1OrPlayer2OrderByArchivedAtDesc(playerUuid, playerUuid).stream()
+                .map(ArchivedGameEntity::toDto)
+                .toList();
+    }
+}
@@ -21,57 +21,213 @@
 package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.utils.exceptions.EntityAlreadyExistsException;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import com.bueno.persistence.codec.HandCodec;
 import com.bueno.persistence.dao.GameDao;
-import com.bueno.persistence.dao.PlayerDao;
+import com.bueno.persistence.dao.HandArchiveDao;
 import com.bueno.persistence.dto.GameEntity;
-import com.bueno.persistence.dto.HandEntity;
-import com.bueno.persistence.dto.IntelEntity;
+import com.bueno.persistence.dto.HandArchiveEntity;
 import com.bueno.persistence.dto.PlayerEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
-import java.time.Duration;
+import javax.annotation.PostConstruct;
+
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.logging.Logger;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Repository
+@Qualifier("gameStore")
+@Profile("!event-sourced")
 public class GameRepositoryImpl implements GameRepository {
 
+    private static final Logger LOGGER = Logger.getLogger(GameRepositoryImpl.class.getName());
+
     private final GameDao gameDao;
-    private final PlayerDao playerDao;
+    private final HandArchiveDao handArchiveDao;
+    private final GameArchive gameArchive;
+    private final MongoTemplate mongoTemplate;
+    private final HandRetention retention;
+    private final boolean archiveSummarizedHands;
+    private final Map<UUID, SavedState> savedStates;
 
-    public GameRepositoryImpl(GameDao dao, PlayerDao playerDao) {
+    public GameRepositoryImpl(GameDao dao, HandArchiveDao handArchiveDao, GameArchive gameArchive,
+                              MongoTemplate mongoTemplate,
+                              @Value("${application.games.summarizeCompletedHands:false}") boolean summarizeCompletedHands,
+                              @Value("${application.games.archiveSummarizedHands:false}") boolean archiveSummarizedHands,
+                              @Value("${application.games.savedStatesSize:10000}") int savedStatesSize) {
+        if (savedStatesSize < 1) throw new IllegalArgumentException("Saved states size must be positive: " + savedStatesSize);
         this.gameDao = dao;
-        this.playerDao = playerDao;
+        this.handArchiveDao = handArchiveDao;
+        this.gameArchive = gameArchive;
+        this.mongoTemplate = mongoTemplate;
+        this.retention = new HandRetention(summarizeCompletedHands);
+        this.archiveSummarizedHands = archiveSummarizedHands;
+        this.savedStates = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, SavedState> eldest) {
+                return size() > savedStatesSize;
+            }
+        });
+        ensurePlayerIndexes(mongoTemplate.indexOps(GameEntity.class), "_id", "version");
+        mongoTemplate.indexOps(GameEntity.class).ensureIndex(new Index().on("lastActivity", Sort.Direction.ASC));
+        if (archiveSummarizedHands) mongoTemplate.indexOps(HandArchiveEntity.class).ensureIndex(new Index()
+                .on("gameId", Sort.Direction.ASC)
+                .on("handIndex", Sort.Direction.ASC));
+    }
+
+    /**
+     * Runs once the repository is created, before the application serves any game: games stored before games were
+     * versioned can only be read once migrated.
+     */
+    @PostConstruct
+    public void migrateLegacyGames() {
+        final int migrated = new LegacyGameMigration(mongoTemplate).run();
+        if (migrated > 0) LOGGER.info("Migrated " + migrated + " games stored before games were versioned.");
+    }
+
+    /**
+     * A player lookup is an $or of player1 and player2, which MongoDB answers with one index per branch. Each index
+     * starts with its player field and goes on with the given fields, so reads that need only those fields besides
+     * the player can be answered from the index.
+     */
+    static void ensurePlayerIndexes(IndexOperations indexOperations, String... thenFields) {
+        for (String player : List.of("player1", "player2")) {
+            final Index index = new Index().on(player, Sort.Direction.ASC);
+            for (String field : thenFields) index.on(field, Sort.Direction.ASC);
+            indexOperations.ensureIndex(index);
+        }
     }
 
     @Override
     public void save(GameDto dto) {
-        gameDao.findById(dto.gameUuid())
-                .ifPresent(game -> {throw new EntityNotFoundException("Game already exists: " + game.getId());});
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        try {
+            gameDao.insert(GameEntity.from(dto));
+        } catch (DuplicateKeyException e) {
+            throw new EntityAlreadyExistsException("Game already exists: " + dto.gameUuid());
+        }
+        savedStates.put(dto.gameUuid(), SavedState.of(dto, 0));
     }
 
+    /**
+     * The incremental update is computed against the state this instance last saved or loaded, so it only applies
+     * while the stored document is still at the version of that state. Otherwise (another instance or a concurrent
+     * writer changed the game, or this one restarted) the whole game is replaced instead. Saved states are kept for
+     * the most recently used games only, and dropped once a game is done, so a game whose state was evicted is just
+     * replaced whole on its next update.
+     */
     @Override
     public void update(GameDto dto) {
-        gameDao.findById(dto.gameUuid())
-                .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid()));
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        final HandRetention.Retained retained = retention.apply(dto);
+        final GameDto game = retained.game();
+        final SavedState saved = savedStates.get(game.gameUuid());
+
+        GameEntity stored = null;
+        if (saved != null && saved.isBefore(game)) {
+            final Query atSavedVersion = Query.query(where("id").is(game.gameUuid()).and("version").is(saved.version()));
+            stored = modify(atSavedVersion, gameUpdateSince(saved, retained));
+        }
+        if (stored == null) stored = modify(byId(game.gameUuid()), fullUpdateOf(game));
+        if (stored == null) throw new EntityNotFoundException("Can not update non-existing game: " + game.gameUuid());
+
+        if (archiveSummarizedHands) archive(retained);
+        if (game.isDone()) {
+            gameArchive.archiveAsync(game.gameUuid());
+            savedStates.remove(game.gameUuid());
+            return;
+        }
+        savedStates.put(game.gameUuid(), SavedState.of(game, stored.getVersion()));
+    }
+
+    private GameEntity modify(Query query, Update update) {
+        query.fields().include("id", "version");
+        return mongoTemplate.findAndModify(query, update.inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true), GameEntity.class);
+    }
+
+    private static Update fullUpdateOf(GameDto dto) {
+        final GameEntity entity = GameEntity.from(dto);
+        return new Update()
+                .set("timestamp", entity.getTimestamp())
+                .set("player1", entity.getPlayer1())
+                .set("player2", entity.getPlayer2())
+                .set("firstToPlay", entity.getFirstToPlay())
+                .set("lastToPlay", entity.getLastToPlay())
+                .set("hands", entity.getHands())
+                .set("dealSeed", entity.getDealSeed())
+                .set("players", entity.getPlayers())
+                .set("summarizedHands", entity.getSummarizedHands())
+                .set("lastActivity", entity.getLastActivity())
+                .set("currentPlayer", entity.getCurrentPlayer());
+    }
+
+    private Update gameUpdateSince(SavedState saved, HandRetention.Retained retained) {
+        final GameDto dto = retained.game();
+        final Update update = new Update()
+                .set("firstToPlay", dto.firstToPlay().uuid())
+                .set("lastToPlay", dto.lastToPlay().uuid())
+                .set("lastActivity", GameEntity.lastActivityOf(dto))
+                .set("currentPlayer", GameEntity.currentPlayerOf(dto));
+        final List<HandDto> hands = dto.hands();
+        final UUID player1 = dto.player1().uuid();
+        final UUID player2 = dto.player2().uuid();
+
+        if (hasChanged(saved.player1(), dto.player1())) update.set("players.0", PlayerEntity.from(dto.player1()));
+        if (hasChanged(saved.player2(), dto.player2())) update.set("players.1", PlayerEntity.from(dto.player2()));
+
+        if (!retained.collapsed().isEmpty())
+            return update
+                    .set("summarizedHands", dto.summarizedHands())
+                    .set("hands", hands.stream().map(hand -> HandCodec.encode(hand, player1, player2)).toList());
+
+        for (int i = saved.numberOfHands() - 1; i < hands.size(); i++)
+            update.set("hands." + i, HandCodec.encode(hands.get(i), player1, player2));
+        return update;
+    }
+
+    private static boolean hasChanged(PlayerDto saved, PlayerDto current) {
+        return saved.score() != current.score() || !saved.cards().equals(current.cards());
+    }
+
+    private void archive(HandRetention.Retained retained) {
+        final List<HandDto> collapsed = retained.collapsed();
+        final List<HandArchiveEntity> archived = new ArrayList<>(collapsed.size());
+        for (int i = 0; i < collapsed.size(); i++)
+            archived.add(HandArchiveEntity.from(retained.game(), retained.firstCollapsedIndex() + i, collapsed.get(i)));
+        handArchiveDao.saveAll(archived);
+    }
+
+    private static Query byId(UUID uuid) {
+        return Query.query(where("id").is(uuid));
     }
 
     @Override
     public void delete(UUID uuid) {
-        final GameEntity game = gameDao.findById(uuid)
-                .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + uuid));
-        playerDao.deleteById(game.getPlayer1());
-        playerDao.deleteById(game.getPlayer2());
-        gameDao.delete(game);
+        final GameEntity removed = mongoTemplate.findAndRemove(byId(uuid), GameEntity.class);
+        if (removed == null) throw new EntityNotFoundException("Can not delete non-existing game: " + uuid);
+        savedStates.remove(uuid);
+        gameArchive.archiveAsync(removed);
     }
 
     @Override
@@ -81,32 +237,64 @@ public class GameRepositoryImpl implements GameRepository {
         return getGameDto(possibleGame.orElse(null));
     }
 
+    /**
+     * Reads only the id and version of the game, which the player indexes cover.
+     */
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return gameDao.findAll().stream()
-                .filter(game -> isInactive(game, minutes))
-                .map(this::getGameDto)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+    public Optional<GameVersionDto> findVersionByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        final Query byPlayer = Query.query(new Criteria().orOperator(where("player1").is(uuid), where("player2").is(uuid)));
+        byPlayer.fields().include("id", "version");
+        return Optional.ofNullable(mongoTemplate.findOne(byPlayer, GameEntity.class))
+                .map(game -> new GameVersionDto(game.getId(), game.getVersion()));
+    }
+
+    @Override
+    public List<InactiveGameDto> findInactiveAfter(int minutes, int limit) {
+        final Instant threshold = Instant.now().minus(minutes, ChronoUnit.MINUTES);
+        final Query query = Query.query(where("lastActivity").lt(threshold)).limit(limit);
+        query.fields().include("id", "timestamp", "player1", "player2", "currentPlayer");
+        return mongoTemplate.find(query, GameEntity.class).stream()
+                .map(game -> new InactiveGameDto(game.getId(), game.getTimestamp(), game.getPlayer1(),
+                        game.getPlayer2(), game.getCurrentPlayer()))
                 .toList();
     }
 
-    public boolean isInactive(GameEntity game, int minutes){
-        if(game.getHands().isEmpty()) return false;
-        final int index = game.getHands().size() - 1;
-        final HandEntity hand = game.getHands().get(index);
-        final IntelEntity intel = hand.getHistory().get(hand.getHistory().size() - 1);
-        final Instant lastInteraction = intel.getTimestamp();
-        final Instant now = Instant.now();
-        final long inactivityInMinutes = Duration.between(lastInteraction, now).toMinutes();
-        System.out.println("Inactive during (minutes): " + inactivityInMinutes);
-        return inactivityInMinutes >= minutes;
+    @Override
+    public List<UUID> deleteInactiveAfter(Collection<UUID> uuids, int minutes) {
+        final Instant threshold = Instant.now().minus(minutes, ChronoUnit.MINUTES);
+        final List<UUID> removed = new ArrayList<>(uuids.size());
+        // One findAndRemove per game, so the inactivity check and the removal are a single atomic operation.
+        for (UUID uuid : uuids) {
+            final Query stillInactive = Query.query(where("id").is(uuid).and("lastActivity").lt(threshold));
+            final GameEntity game = mongoTemplate.findAndRemove(stillInactive, GameEntity.class);
+            if (game == null) continue;
+            savedStates.remove(uuid);
+            gameArchive.archiveAsync(game);
+            removed.add(uuid);
+        }
+        return removed;
     }
 
     private Optional<GameDto> getGameDto(GameEntity game) {
         if(game == null) return Optional.empty();
-        final PlayerDto player1 = playerDao.findById(game.getPlayer1()).orElseThrow().toDto();
-        final PlayerDto player2 = playerDao.findById(game.getPlayer2()).orElseThrow().toDto();
-        return Optional.of(game.toDto(Map.of(player1.uuid(), player1, player2.uuid(), player2)));
+        final GameDto dto = game.toDto();
+        if (!dto.isDone()) savedStates.put(dto.gameUuid(), SavedState.of(dto, game.getVersion()));
+        return Optional.of(dto);
+    }
+
+    private record SavedState(long version, int handsPlayed, int numberOfHands, int historySize, PlayerDto player1,
+                              PlayerDto player2) {
+        static SavedState of(GameDto dto, long version) {
+            final List<HandDto> hands = dto.hands();
+            final int historySize = hands.isEmpty() ? 0 : hands.get(hands.size() - 1).history().size();
+            return new SavedState(version, dto.handsPlayed(), hands.size(), historySize, dto.player1(), dto.player2());
+        }
+
+        boolean isBefore(GameDto dto) {
+            final List<HandDto> hands = dto.hands();
+            if (dto.handsPlayed() != handsPlayed) return dto.handsPlayed() > handsPlayed;
+            return hands.get(hands.size() - 1).history().size() >= historySize;
+        }
     }
 }
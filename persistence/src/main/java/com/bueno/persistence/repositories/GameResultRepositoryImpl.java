@@ -22,43 +22,150 @@ package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
 import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import com.bueno.domain.usecases.game.dtos.LeaderboardWindow;
 import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.user.UserRepository;
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
 import com.bueno.persistence.dao.GameResultDao;
+import com.bueno.persistence.dao.MatchHistoryDao;
 import com.bueno.persistence.dto.GameResultEntity;
-import com.bueno.persistence.dto.GameResultQR;
-import org.springframework.data.domain.Pageable;
+import com.bueno.persistence.dto.MatchHistoryEntity;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 @Repository
-public class GameResultRepositoryImpl implements GameResultRepository {
+public class GameResultRepositoryImpl implements GameResultRepository, DisposableBean {
+
+    private static final Logger LOGGER = Logger.getLogger(GameResultRepositoryImpl.class.getName());
 
     private final GameResultDao repo;
+    private final UserRepository userRepository;
+    private final MatchHistoryDao matchHistoryDao;
+    private final WriteBehindQueue<GameResultEntity> writeBehind;
+    private final WriteBehindQueue<MatchHistoryEntity> matchHistoryWriteBehind;
+    // Same order as the history queries. The database compares uuids as unsigned bytes, which is the order of their
+    // lower-case hex strings, not the signed one of UUID.compareTo.
+    private static final Comparator<UUID> BY_GAME = Comparator.comparing(UUID::toString);
+    private static final Comparator<MatchHistoryEntity> LATEST_FIRST = Comparator
+            .comparing(MatchHistoryEntity::getEndingTime)
+            .thenComparing(MatchHistoryEntity::getGameUuid, BY_GAME)
+            .reversed();
+
+    private final Leaderboard leaderboard;
+    private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "leaderboard-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    public GameResultRepositoryImpl(GameResultDao repo) {
+    public GameResultRepositoryImpl(GameResultDao repo, UserRepository userRepository, MatchHistoryDao matchHistoryDao,
+                                    @Value("${application.results.queueCapacity:10000}") int queueCapacity,
+                                    @Value("${application.results.batchSize:200}") int batchSize,
+                                    @Value("${application.results.flushIntervalMillis:1000}") long flushIntervalMillis,
+                                    @Value("${application.leaderboard.reconcileIntervalMinutes:10}") long reconcileIntervalMinutes) {
         this.repo = repo;
+        this.userRepository = userRepository;
+        this.matchHistoryDao = matchHistoryDao;
+        this.writeBehind = new WriteBehindQueue<>("game-result-writer", queueCapacity, batchSize,
+                flushIntervalMillis, repo::saveAll, result -> repo.save(result.asMerge()));
+        this.matchHistoryWriteBehind = new WriteBehindQueue<>("match-history-writer", 2 * queueCapacity, batchSize,
+                flushIntervalMillis, matchHistoryDao::saveAll, row -> matchHistoryDao.save(row.asMerge()));
+        this.leaderboard = new Leaderboard(queueCapacity);
+        reconciler.scheduleWithFixedDelay(this::reconcileLeaderboard, 0, reconcileIntervalMinutes, TimeUnit.MINUTES);
     }
 
     @Override
     public void save(GameResultDto gameResult) {
-        repo.save(GameResultEntity.from(gameResult));
+        final String player1 = usernameOf(gameResult.player1Uuid());
+        final String player2 = usernameOf(gameResult.player2Uuid());
+        final UUID winnerUuid = gameResult.winnerUuid();
+        final String winner = winnerUuid == null ? null
+                : winnerUuid.equals(gameResult.player1Uuid()) ? player1
+                : winnerUuid.equals(gameResult.player2Uuid()) ? player2
+                : usernameOf(winnerUuid);
+
+        leaderboard.record(gameResult.gameUuid(), winnerUuid, winner, gameResult.gameEnd(),
+                () -> writeBehind.add(GameResultEntity.from(gameResult)));
+        addToMatchHistory(gameResult, player1, player2, winner);
     }
 
     @Override
-    public List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers){
-        return repo.findTopWinners(Pageable.ofSize(maxNumberOfUsers)).stream()
-                .map(playerWins -> new PlayerWinsDto(playerWins.getUsername(), playerWins.getWins().intValue()))
-                .toList();
+    public void saveAll(Collection<GameResultDto> gameResults) {
+        gameResults.forEach(this::save);
+    }
+
+    private void addToMatchHistory(GameResultDto gameResult, String player1, String player2, String winner) {
+        // Only registered users have a match history; bots are kept as opponents with no username.
+        if (player1 != null) matchHistoryWriteBehind.add(new MatchHistoryEntity(gameResult.player1Uuid(),
+                gameResult.gameUuid(), gameResult.gameEnd(), player1, player2, winner, false));
+        if (player2 != null) matchHistoryWriteBehind.add(new MatchHistoryEntity(gameResult.player2Uuid(),
+                gameResult.gameUuid(), gameResult.gameEnd(), player1, player2, winner, false));
+    }
+
+    // Lookups go through the user cache, which keeps only users that exist, so bot uuids are not remembered.
+    private String usernameOf(UUID uuid) {
+        if (uuid == null) return null;
+        return userRepository.findByUuid(uuid).map(ApplicationUserDto::username).orElse(null);
+    }
+
+    private void reconcileLeaderboard() {
+        try {
+            leaderboard.reconcile(writeBehind::flushThen, periodStart -> repo.countWinsSince(periodStart).stream()
+                    .map(row -> new Leaderboard.Standing(row.getUuid(), row.getUsername(), row.getWins().intValue()))
+                    .toList());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not reconcile the leaderboard with the database.", e);
+        }
     }
 
     @Override
-    public List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid) {
-        final List<GameResultQR> result = repo.findAllByPlayerUuid(uuid);
-        return result.stream()
-                .map(r -> new GameResultUsernamesDto(r.getEnding(), r.getPlayer1(), r.getPlayer2(), r.getWinner()))
+    public void destroy() {
+        reconciler.shutdown();
+        writeBehind.close();
+        matchHistoryWriteBehind.close();
+    }
+
+    @Override
+    public List<PlayerWinsDto> findTopWinners(int maxNumberOfUsers, LeaderboardWindow window){
+        return leaderboard.top(window, maxNumberOfUsers);
+    }
+
+    @Override
+    public List<GameResultUsernamesDto> findMatchesByUserUuid(UUID uuid, LocalDateTime endedBefore, UUID beforeGame, int limit) {
+        // Rows not written yet are laid over the stored page, the latest one of a game replacing the others. They are
+        // taken before the query, so a row written meanwhile is found in one or the other.
+        final List<MatchHistoryEntity> pending = matchHistoryWriteBehind.pending();
+        final PageRequest page = PageRequest.of(0, limit);
+        final List<MatchHistoryEntity> stored = endedBefore == null
+                ? matchHistoryDao.findLatest(uuid, page)
+                : matchHistoryDao.findBefore(uuid, endedBefore, beforeGame, page);
+
+        final Map<UUID, MatchHistoryEntity> matches = new HashMap<>();
+        stored.forEach(match -> matches.put(match.getGameUuid(), match));
+        pending.stream()
+                .filter(match -> match.getPlayerUuid().equals(uuid) && isBefore(match, endedBefore, beforeGame))
+                .forEach(match -> matches.put(match.getGameUuid(), match));
+        return matches.values().stream()
+                .sorted(LATEST_FIRST)
+                .limit(limit)
+                .map(MatchHistoryEntity::toDto)
                 .toList();
     }
+
+    private static boolean isBefore(MatchHistoryEntity match, LocalDateTime endedBefore, UUID beforeGame) {
+        if (endedBefore == null) return true;
+        final int byEndingTime = match.getEndingTime().compareTo(endedBefore);
+        return byEndingTime < 0 || byEndingTime == 0 && BY_GAME.compare(match.getGameUuid(), beforeGame) < 0;
+    }
 }
@@ -21,22 +21,89 @@
 package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.hand.HandResultRepository;
+import com.bueno.domain.usecases.hand.dtos.BotHandStatisticsDto;
 import com.bueno.domain.usecases.hand.dtos.HandResultDto;
 import com.bueno.persistence.dao.HandResultDao;
+import com.bueno.persistence.dao.HandRollupDao;
 import com.bueno.persistence.dto.HandResultEntity;
+import com.bueno.persistence.dto.HandRollupEntity;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 @Repository
-public class HandResultRepositoryImpl implements HandResultRepository {
+public class HandResultRepositoryImpl implements HandResultRepository, DisposableBean {
+
+    private static final Logger LOGGER = Logger.getLogger(HandResultRepositoryImpl.class.getName());
 
-    private final HandResultDao dao;
+    private final WriteBehindQueue<HandResultEntity> writeBehind;
+    private final HandRollupDao rollupDao;
+    private final HandRollups rollups = new HandRollups();
+    private final ScheduledExecutorService rollupWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "hand-rollup-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    public HandResultRepositoryImpl(HandResultDao dao) {
-        this.dao = dao;
+    public HandResultRepositoryImpl(HandResultDao dao, HandRollupDao rollupDao,
+                                    @Value("${application.results.queueCapacity:10000}") int queueCapacity,
+                                    @Value("${application.results.batchSize:200}") int batchSize,
+                                    @Value("${application.results.flushIntervalMillis:1000}") long flushIntervalMillis,
+                                    @Value("${application.rollups.persistIntervalMinutes:5}") long persistIntervalMinutes) {
+        this.writeBehind = new WriteBehindQueue<>("hand-result-writer", queueCapacity, batchSize,
+                flushIntervalMillis, dao::saveAll, dao::save);
+        this.rollupDao = rollupDao;
+        loadRollups();
+        rollupWriter.scheduleWithFixedDelay(this::persistRollups, persistIntervalMinutes, persistIntervalMinutes, TimeUnit.MINUTES);
     }
 
     @Override
     public void save(HandResultDto handResultDto) {
-        dao.save(HandResultEntity.from(handResultDto));
+        writeBehind.add(HandResultEntity.from(handResultDto));
+        rollups.add(handResultDto);
+    }
+
+    @Override
+    public List<BotHandStatisticsDto> findBotStatistics() {
+        return rollups.statistics();
+    }
+
+    private void loadRollups() {
+        try {
+            rollups.load(rollupDao.findAll());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not load hand rollups; keeping the counts of this instance.", e);
+        }
+    }
+
+    // Stored rows are only incremented, so instances sharing the database never overwrite each other's counts.
+    private void persistRollups() {
+        final List<HandRollupEntity> increments = rollups.drainIncrements();
+        final List<HandRollupEntity> failed = new ArrayList<>();
+        for (HandRollupEntity increment : increments) {
+            try {
+                rollupDao.increment(increment);
+            } catch (RuntimeException e) {
+                failed.add(increment);
+                LOGGER.log(Level.WARNING, "Could not persist hand rollup " + increment + "; retrying on the next run.", e);
+            }
+        }
+        rollups.restore(failed);
+        loadRollups();
+    }
+
+    @Override
+    public void destroy() {
+        rollupWriter.shutdown();
+        persistRollups();
+        writeBehind.close();
     }
 }
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+
+import java.util.List;
+
+/**
+ * Decides which hands of an active game keep their full history. When summarizing, every completed hand but the
+ * last one is collapsed: the current hand and the one just finished are kept, so clients polling for intel still see
+ * how the previous hand ended.
+ */
+final class HandRetention {
+    private static final int RETAINED_HANDS = 2;
+
+    private final boolean summarizeCompletedHands;
+
+    HandRetention(boolean summarizeCompletedHands) {
+        this.summarizeCompletedHands = summarizeCompletedHands;
+    }
+
+    Retained apply(GameDto game) {
+        final List<HandDto> hands = game.hands();
+        final int handsToCollapse = summarizeCompletedHands ? Math.max(0, hands.size() - RETAINED_HANDS) : 0;
+        if (handsToCollapse == 0) return new Retained(game, List.of());
+
+        final GameDto retained = new GameDto(game.gameUuid(), game.timestamp(), game.player1(), game.player2(),
+                game.firstToPlay(), game.lastToPlay(), hands.subList(handsToCollapse, hands.size()), game.dealSeed(),
+                game.summarizedHands() + handsToCollapse);
+        return new Retained(retained, hands.subList(0, handsToCollapse));
+    }
+
+    record Retained(GameDto game, List<HandDto> collapsed) {
+        int firstCollapsedIndex() {
+            return game.summarizedHands() - collapsed.size();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.hand.dtos.BotHandStatisticsDto;
+import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+import com.bueno.domain.usecases.hand.dtos.ViraStatisticsDto;
+import com.bueno.persistence.dto.HandRollupEntity;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory counters of the hands played by each bot, kept per hand type and vira rank. Each saved hand result
+ * updates a fixed-size array of counters; the report sums the vira ranks of each bot and hand type on demand.
+ * Each counter also keeps what was added since it was last drained, so the database is only ever incremented and
+ * several instances can add to the same rows. Loading the stored rows again picks up what the others added.
+ */
+final class HandRollups {
+
+    private static final int HANDS = 0;
+    private static final int WINS = 1;
+    private static final int DRAWS = 2;
+    private static final int POINTS_WON = 3;
+    private static final int POINTS_LOST = 4;
+    private static final int RAISED_HANDS = 5;
+    private static final int RAISED_HANDS_WON = 6;
+    private static final int FOLDS = 7;
+    private static final int OPPONENT_FOLDS = 8;
+    private static final int SIZE = 9;
+
+    private final Map<Key, Counters> counters = new ConcurrentHashMap<>();
+
+    void add(HandResultDto result) {
+        final String viraRank = viraRankOf(result.openCards());
+        result.bots().forEach((uuid, botName) -> counters
+                .computeIfAbsent(new Key(botName, result.handType(), viraRank), key -> new Counters())
+                .add(uuid, result));
+    }
+
+    /**
+     * Sets the counters to the stored totals plus what was added here and not drained yet.
+     */
+    void load(Collection<HandRollupEntity> rows) {
+        rows.forEach(row -> counters.computeIfAbsent(keyOf(row), key -> new Counters()).load(valuesOf(row)));
+    }
+
+    /**
+     * Returns what was added to each counter since it was last drained, to be added to the stored rows.
+     */
+    List<HandRollupEntity> drainIncrements() {
+        final List<HandRollupEntity> rows = new ArrayList<>();
+        counters.forEach((key, value) -> {
+            final long[] increments = value.drainIncrements();
+            if (increments != null) rows.add(toEntity(key, increments));
+        });
+        return rows;
+    }
+
+    /**
+     * Gives back increments that could not be stored, so the next drain returns them again.
+     */
+    void restore(Collection<HandRollupEntity> increments) {
+        increments.forEach(row -> counters.computeIfAbsent(keyOf(row), key -> new Counters()).restore(valuesOf(row)));
+    }
+
+    List<BotHandStatisticsDto> statistics() {
+        final Map<List<String>, Map<String, long[]>> grouped = new TreeMap<>(
+                Comparator.<List<String>, String>comparing(group -> group.get(0)).thenComparing(group -> group.get(1)));
+        counters.forEach((key, value) -> grouped
+                .computeIfAbsent(List.of(key.botName(), key.handType()), group -> new TreeMap<>())
+                .put(key.viraRank(), value.snapshot()));
+
+        return grouped.entrySet().stream()
+                .map(entry -> toDto(entry.getKey().get(0), entry.getKey().get(1), entry.getValue()))
+                .toList();
+    }
+
+    private static BotHandStatisticsDto toDto(String botName, String handType, Map<String, long[]> byVira) {
+        final long[] total = new long[SIZE];
+        byVira.values().forEach(values -> {
+            for (int i = 0; i < SIZE; i++) total[i] += values[i];
+        });
+        final Map<String, ViraStatisticsDto> viraStatistics = byVira.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        entry -> new ViraStatisticsDto(entry.getValue()[HANDS], entry.getValue()[WINS],
+                                ratio(entry.getValue()[WINS], entry.getValue()[HANDS])),
+                        (first, second) -> first, TreeMap::new));
+
+        return new BotHandStatisticsDto(botName, handType, total[HANDS], total[WINS], total[DRAWS],
+                total[POINTS_WON], total[POINTS_LOST], total[RAISED_HANDS], total[RAISED_HANDS_WON],
+                total[FOLDS], total[OPPONENT_FOLDS], ratio(total[WINS], total[HANDS]),
+                ratio(total[POINTS_WON] - total[POINTS_LOST], total[HANDS]), viraStatistics);
+    }
+
+    private static HandRollupEntity toEntity(Key key, long[] values) {
+        return new HandRollupEntity(key.botName(), key.handType(), key.viraRank(), values[HANDS], values[WINS],
+                values[DRAWS], values[POINTS_WON], values[POINTS_LOST], values[RAISED_HANDS], values[RAISED_HANDS_WON],
+                values[FOLDS], values[OPPONENT_FOLDS]);
+    }
+
+    private static Key keyOf(HandRollupEntity row) {
+        return new Key(row.getBotName(), row.getHandType(), row.getViraRank());
+    }
+
+    private static long[] valuesOf(HandRollupEntity row) {
+        final long[] values = new long[SIZE];
+        values[HANDS] = row.getHands();
+        values[WINS] = row.getWins();
+        values[DRAWS] = row.getDraws();
+        values[POINTS_WON] = row.getPointsWon();
+        values[POINTS_LOST] = row.getPointsLost();
+        values[RAISED_HANDS] = row.getRaisedHands();
+        values[RAISED_HANDS_WON] = row.getRaisedHandsWon();
+        values[FOLDS] = row.getFolds();
+        values[OPPONENT_FOLDS] = row.getOpponentFolds();
+        return values;
+    }
+
+    private static double ratio(long dividend, long divisor) {
+        return divisor == 0 ? 0.0 : (double) dividend / divisor;
+    }
+
+    private static String viraRankOf(List<String> openCards) {
+        if (openCards.isEmpty()) return "-";
+        final String vira = openCards.get(0);
+        return vira.substring(0, vira.length() - 1);
+    }
+
+    private record Key(String botName, String handType, String viraRank) {}
+
+    private static final class Counters {
+        private final long[] values = new long[SIZE];
+        private final long[] increments = new long[SIZE];
+        private boolean incremented;
+
+        synchronized void add(UUID bot, HandResultDto result) {
+            final boolean won = bot.equals(result.handWinner());
+            increment(HANDS, 1);
+            if (result.handWinner() == null) {
+                increment(DRAWS, 1);
+                return;
+            }
+            if (won) {
+                increment(WINS, 1);
+                increment(POINTS_WON, result.points());
+            } else increment(POINTS_LOST, result.points());
+
+            if (result.points() > 1) {
+                increment(RAISED_HANDS, 1);
+                if (won) increment(RAISED_HANDS_WON, 1);
+            }
+            // A proposal still pending when the hand ends means it was refused.
+            if (result.pointsProposal() > 0) increment(won ? OPPONENT_FOLDS : FOLDS, 1);
+        }
+
+        private void increment(int counter, long amount) {
+            values[counter] += amount;
+            increments[counter] += amount;
+            incremented = true;
+        }
+
+        synchronized void load(long[] stored) {
+            for (int i = 0; i < SIZE; i++) values[i] = stored[i] + increments[i];
+        }
+
+        synchronized void restore(long[] drained) {
+            for (int i = 0; i < SIZE; i++) increments[i] += drained[i];
+            incremented = true;
+        }
+
+        synchronized long[] snapshot() {
+            return values.clone();
+        }
+
+        synchronized long[] drainIncrements() {
+            if (!incremented) return null;
+            final long[] drained = increments.clone();
+            Arrays.fill(increments, 0);
+            incremented = false;
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.LeaderboardWindow;
+import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory ranking of winners for each leaderboard window. Wins are added as results are saved and the whole
+ * ranking is periodically replaced by the counts stored in the database. Each window keeps its standings sorted by
+ * wins, so the top N players are read by walking the first N entries.
+ * <p>
+ * A reconcile cuts the pending results while no result is being recorded, writes the ones before the cut and reads
+ * the counts, holding nothing up meanwhile. Wins recorded after the cut are kept aside and added to the counts when
+ * they replace the ranking, so every win is counted once. The winners of the most recent games are
+ * remembered, so a result saved again for the same game is not counted twice and moves the win if the winner changed,
+ * as the stored result is replaced.
+ */
+final class Leaderboard {
+
+    private final Map<LeaderboardWindow, Ranking> rankings = new EnumMap<>(LeaderboardWindow.class);
+    private final Map<UUID, Win> winsByGame;
+    private final ReadWriteLock reconciling = new ReentrantReadWriteLock();
+    private List<Delta> recordedSinceCut;
+
+    Leaderboard(int rememberedGames) {
+        if (rememberedGames < 1) throw new IllegalArgumentException("Remembered games must be positive: " + rememberedGames);
+        for (LeaderboardWindow window : LeaderboardWindow.values()) rankings.put(window, new Ranking(window));
+        this.winsByGame = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Win> eldest) {
+                return size() > rememberedGames;
+            }
+        };
+    }
+
+    /**
+     * Runs the write of a game result and counts its win, if it has a ranked winner (a null username means it has
+     * not). Both happen on the same side of the cut of a reconcile.
+     */
+    void record(UUID game, UUID winner, String username, LocalDateTime gameEnd, Runnable write) {
+        reconciling.readLock().lock();
+        try {
+            write.run();
+            addResult(game, username == null ? null : new Win(winner, username, gameEnd));
+        } finally {
+            reconciling.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the ranking of every window by the wins counted since the start of its period. flushThen cuts the
+     * pending results by running the step it is given, writes the results before the cut and then reads the counts,
+     * before writing any later result. Only the cut and the replacement wait for the results being recorded.
+     */
+    void reconcile(BiConsumer<Consumer<Runnable>, Runnable> flushThen,
+                   Function<LocalDateTime, Collection<Standing>> winsSince) {
+        final LocalDateTime now = LocalDateTime.now();
+        final Map<LeaderboardWindow, Collection<Standing>> counts = new EnumMap<>(LeaderboardWindow.class);
+        try {
+            flushThen.accept(this::cut, () -> {
+                for (LeaderboardWindow window : LeaderboardWindow.values())
+                    counts.put(window, winsSince.apply(window.periodStart(now)));
+            });
+        } catch (RuntimeException e) {
+            withoutRecording(() -> recordedSinceCut = null);
+            throw e;
+        }
+        withoutRecording(() -> {
+            final LocalDateTime replacedAt = LocalDateTime.now();
+            counts.forEach((window, standings) -> rankings.get(window).replace(window.periodStart(now), standings));
+            recordedSinceCut.forEach(delta ->
+                    rankings.values().forEach(ranking -> ranking.add(delta.win(), delta.wins(), replacedAt)));
+            recordedSinceCut = null;
+        });
+    }
+
+    private void cut(Runnable takePending) {
+        withoutRecording(() -> {
+            takePending.run();
+            recordedSinceCut = new ArrayList<>();
+        });
+    }
+
+    private void withoutRecording(Runnable action) {
+        reconciling.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            reconciling.writeLock().unlock();
+        }
+    }
+
+    List<PlayerWinsDto> top(LeaderboardWindow window, int size) {
+        return rankings.get(window).top(size, LocalDateTime.now());
+    }
+
+    private synchronized void addResult(UUID game, Win win) {
+        final Win previous = winsByGame.get(game);
+        if (winsByGame.containsKey(game) && Objects.equals(previous, win)) return;
+        final LocalDateTime now = LocalDateTime.now();
+        if (previous != null) rankings.values().forEach(ranking -> ranking.add(previous, -1, now));
+        if (win != null) rankings.values().forEach(ranking -> ranking.add(win, 1, now));
+        winsByGame.put(game, win);
+        if (recordedSinceCut == null) return;
+        if (previous != null) recordedSinceCut.add(new Delta(previous, -1));
+        if (win != null) recordedSinceCut.add(new Delta(win, 1));
+    }
+
+    record Standing(UUID uuid, String username, int wins) implements Comparable<Standing> {
+        private static final Comparator<Standing> ORDER = Comparator.comparingInt(Standing::wins).reversed()
+                .thenComparing(Standing::username)
+                .thenComparing(Standing::uuid);
+
+        @Override
+        public int compareTo(Standing other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record Win(UUID winner, String username, LocalDateTime gameEnd) {}
+
+    private record Delta(Win win, int wins) {}
+
+    private static final class Ranking {
+        private final LeaderboardWindow window;
+        private final Map<UUID, Standing> standings = new ConcurrentHashMap<>();
+        private final NavigableSet<Standing> sorted = new ConcurrentSkipListSet<>();
+        private volatile LocalDateTime periodStart;
+
+        private Ranking(LeaderboardWindow window) {
+            this.window = window;
+            this.periodStart = window.periodStart(LocalDateTime.now());
+        }
+
+        synchronized void add(Win win, int wins, LocalDateTime now) {
+            rollOver(now);
+            if (win.gameEnd().isBefore(periodStart)) return;
+            final Standing previous = standings.remove(win.winner());
+            if (previous != null) sorted.remove(previous);
+            final int total = (previous == null ? 0 : previous.wins()) + wins;
+            if (total <= 0) return;
+            final Standing current = new Standing(win.winner(), win.username(), total);
+            standings.put(win.winner(), current);
+            sorted.add(current);
+        }
+
+        synchronized void replace(LocalDateTime start, Collection<Standing> replacement) {
+            standings.clear();
+            sorted.clear();
+            periodStart = start;
+            replacement.forEach(standing -> standings.put(standing.uuid(), standing));
+            sorted.addAll(standings.values());
+        }
+
+        List<PlayerWinsDto> top(int size, LocalDateTime now) {
+            if (!window.periodStart(now).equals(periodStart)) rollOver(now);
+            return sorted.stream()
+                    .limit(size)
+                    .map(standing -> new PlayerWinsDto(standing.username(), standing.wins()))
+                    .toList();
+        }
+
+        private synchronized void rollOver(LocalDateTime now) {
+            final LocalDateTime currentStart = window.periodStart(now);
+            if (currentStart.equals(periodStart)) return;
+            standings.clear();
+            sorted.clear();
+            periodStart = currentStart;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.RoundDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.persistence.codec.HandCodec;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import lombok.Data;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Rewrites game documents stored before games were versioned. Those documents kept their players in the separate
+ * player collection and their hands as embedded documents. The migration embeds the players, encodes the hands with
+ * {@link HandCodec} and sets the version, so every game can be read as a {@link GameEntity}. The last activity and
+ * current player, which the search for inactive games relies on, are backfilled from the last hand. Documents are
+ * matched by the missing version, so the migration only touches each game once and is a no-op on an up-to-date
+ * database. A game that can not be migrated, e.g. because one of its player documents is missing, is logged and
+ * left as it is, to be retried on the next run. The old player documents are left in place.
+ */
+final class LegacyGameMigration {
+
+    private static final Logger LOGGER = Logger.getLogger(LegacyGameMigration.class.getName());
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoConverter converter;
+
+    LegacyGameMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.converter = mongoTemplate.getConverter();
+    }
+
+    int run() {
+        final Query legacyGames = Query.query(where("version").exists(false));
+        final String collection = mongoTemplate.getCollectionName(GameEntity.class);
+        int migrated = 0;
+        int skipped = 0;
+        try (CloseableIterator<Document> games = mongoTemplate.stream(legacyGames, Document.class, collection)) {
+            while (games.hasNext()) {
+                final Document game = games.next();
+                try {
+                    final Query unmigrated = Query.query(where("id").is(game.get("_id")).and("version").exists(false));
+                    mongoTemplate.updateFirst(unmigrated, migrationOf(game), GameEntity.class);
+                    migrated++;
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Skipped legacy game " + game.get("_id") + ": " + e.getMessage(), e);
+                    skipped++;
+                }
+                if ((migrated + skipped) % PROGRESS_INTERVAL == 0)
+                    LOGGER.info("Migrating legacy games: " + migrated + " migrated, " + skipped + " skipped so far.");
+            }
+        }
+        if (skipped > 0) LOGGER.warning("Skipped " + skipped + " legacy games that could not be migrated.");
+        return migrated;
+    }
+
+    private Update migrationOf(Document game) {
+        final List<PlayerEntity> players = playersOf(game);
+        final PlayerDto player1 = players.get(0).toDto();
+        final PlayerDto player2 = players.get(1).toDto();
+        final Map<UUID, PlayerDto> playersByUuid = Map.of(player1.uuid(), player1, player2.uuid(), player2);
+        final List<byte[]> hands = game.getList("hands", Object.class, List.of()).stream()
+                .map(hand -> hand instanceof Document legacy
+                        ? HandCodec.encode(converter.read(Hand.class, legacy).toDto(playersByUuid), player1.uuid(), player2.uuid())
+                        : bytesOf(hand))
+                .toList();
+        final Update update = new Update()
+                .set("players", players)
+                .set("hands", hands)
+                .set("version", 0L);
+        if (hands.isEmpty()) return game.containsKey("lastActivity") ? update : update.set("lastActivity", Instant.now());
+
+        final byte[] lastHand = hands.get(hands.size() - 1);
+        if (!game.containsKey("lastActivity"))
+            update.set("lastActivity", HandCodec.lastTimestamp(lastHand).orElseGet(Instant::now));
+        if (!game.containsKey("currentPlayer"))
+            update.set("currentPlayer", uuidOf(HandCodec.decode(lastHand, player1, player2).currentPlayer()));
+        return update;
+    }
+
+    private static byte[] bytesOf(Object encodedHand) {
+        return encodedHand instanceof Binary binary ? binary.getData() : (byte[]) encodedHand;
+    }
+
+    private static UUID uuidOf(PlayerDto player) {
+        return player != null ? player.uuid() : null;
+    }
+
+    private List<PlayerEntity> playersOf(Document game) {
+        final List<Document> embedded = game.getList("players", Document.class);
+        if (embedded != null) return embedded.stream().map(player -> converter.read(PlayerEntity.class, player)).toList();
+        return List.of(playerOf(game.get("player1", UUID.class)), playerOf(game.get("player2", UUID.class)));
+    }
+
+    private PlayerEntity playerOf(UUID uuid) {
+        return Optional.ofNullable(mongoTemplate.findById(uuid, PlayerEntity.class))
+                .orElseThrow(() -> new IllegalStateException("Legacy game refers to a missing player: " + uuid));
+    }
+
+    private static CardDto cardOf(String card) {
+        return card != null ? new CardDto(card.substring(0, 1), card.substring(1, 2)) : null;
+    }
+
+    private static <T> T orNull(UUID uuid, Function<UUID, T> lookup) {
+        return uuid != null ? lookup.apply(uuid) : null;
+    }
+
+    @Data
+    static class Hand {
+        private String vira;
+        private List<String> dealtCard;
+        private List<String> openCards;
+        private List<Round> roundsPlayed;
+        private List<Intel> history;
+        private Set<String> possibleActions;
+        private UUID firstToPlay;
+        private UUID lastToPlay;
+        private UUID currentPlayer;
+        private UUID lastBetRaiser;
+        private UUID eventPlayer;
+        private String cartToPlayAgainst;
+        private int points;
+        private int pointsProposal;
+        private UUID winner;
+        private String state;
+
+        HandDto toDto(Map<UUID, PlayerDto> players) {
+            return new HandDto(
+                    cardOf(vira),
+                    dealtCard.stream().map(LegacyGameMigration::cardOf).toList(),
+                    openCards.stream().map(LegacyGameMigration::cardOf).toList(),
+                    roundsPlayed.stream().map(round -> round.toDto(players)).toList(),
+                    history.stream().map(Intel::toDto).toList(),
+                    possibleActions,
+                    players.get(firstToPlay),
+                    players.get(lastToPlay),
+                    orNull(currentPlayer, players::get),
+                    orNull(lastBetRaiser, players::get),
+                    orNull(eventPlayer, players::get),
+                    cardOf(cartToPlayAgainst),
+                    points,
+                    pointsProposal,
+                    orNull(winner, players::get),
+                    state);
+        }
+    }
+
+    @Data
+    static class Round {
+        private UUID firstToPlay;
+        private UUID lastToPlay;
+        private UUID winner;
+        private String vira;
+        private String firstCard;
+        private String lastCard;
+
+        RoundDto toDto(Map<UUID, PlayerDto> players) {
+            return new RoundDto(players.get(firstToPlay), players.get(lastToPlay), orNull(winner, players::get),
+                    cardOf(vira), cardOf(firstCard), cardOf(lastCard));
+        }
+    }
+
+    @Data
+    static class Intel {
+        private Instant timestamp;
+        private boolean isGameDone;
+        private UUID gameWinner;
+        private boolean isMaoDeOnze;
+        private Integer handPoints;
+        private Integer handPointsProposal;
+        private List<String> roundWinnersUsernames;
+        private List<UUID> roundWinnersUuid;
+        private int roundsPlayed;
+        private String vira;
+        private List<String> openCards;
+        private String handWinner;
+        private UUID currentPlayerUuid;
+        private int currentPlayerScore;
+        private String currentPlayerUsername;
+        private int currentOpponentScore;
+        private String currentOpponentUsername;
+        private String cardToPlayAgainst;
+        private List<PlayerEntity> players;
+        private String event;
+        private UUID eventPlayerUUID;
+        private String eventPlayerUsername;
+        private Set<String> possibleActions;
+
+        IntelDto toDto() {
+            return new IntelDto(timestamp, isGameDone, gameWinner, isMaoDeOnze, handPoints, handPointsProposal,
+                    roundWinnersUsernames.stream().map(Optional::ofNullable).toList(),
+                    roundWinnersUuid.stream().map(Optional::ofNullable).toList(),
+                    roundsPlayed, cardOf(vira), openCards.stream().map(LegacyGameMigration::cardOf).toList(),
+                    handWinner, currentPlayerUuid, currentPlayerScore, currentPlayerUsername, currentOpponentScore,
+                    currentOpponentUsername, cardOf(cardToPlayAgainst),
+                    players.stream().map(PlayerEntity::toDto).toList(),
+                    event, eventPlayerUUID, eventPlayerUsername, possibleActions);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded write-behind queue for analytics rows. Rows are written in batches by a background thread every
+ * flush interval, or earlier when a full batch is waiting. When the queue is full the caller waits for a short while
+ * and, if there is still no room, writes its row synchronously, so rows are never dropped. Once closed, rows are
+ * written synchronously as they arrive.
+ */
+final class WriteBehindQueue<T> {
+    private static final Logger LOGGER = Logger.getLogger(WriteBehindQueue.class.getName());
+    private static final long OFFER_TIMEOUT_MILLIS = 50;
+
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final Consumer<List<T>> batchWriter;
+    private final Consumer<T> writer;
+    private final ScheduledExecutorService flusher;
+    private List<T> writing = List.of();
+    private volatile boolean closed;
+
+    WriteBehindQueue(String name, int capacity, int batchSize, long flushIntervalMillis,
+                     Consumer<List<T>> batchWriter, Consumer<T> writer) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.batchWriter = batchWriter;
+        this.writer = writer;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void add(T row) {
+        if (closed) {
+            writer.accept(row);
+            return;
+        }
+        try {
+            if (queue.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                // A row queued while closing may have missed the final flush.
+                if (queue.size() >= batchSize || closed) flushInBackground();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.accept(row);
+    }
+
+    private void flushInBackground() {
+        try {
+            flusher.execute(this::flush);
+        } catch (RejectedExecutionException shutDown) {
+            flush();
+        }
+    }
+
+    synchronized void flush() {
+        for (List<T> batch = nextBatch(); !batch.isEmpty(); batch = nextBatch()) write(batch);
+    }
+
+    /**
+     * Writes the rows queued when the queue is cut and runs read before any row queued later is written, so read sees
+     * those rows and none of the later ones. cut receives the step taking the queued rows and runs it, so the caller
+     * can take them in step with its own state. Rows that overflow to a synchronous write meanwhile are not held back.
+     */
+    synchronized void flushThen(Consumer<Runnable> cut, Runnable read) {
+        final List<T> rows = new ArrayList<>();
+        cut.accept(() -> {
+            synchronized (queue) {
+                queue.drainTo(rows);
+                writing = rows;
+            }
+        });
+        for (int from = 0; from < rows.size(); from += batchSize)
+            write(rows.subList(from, Math.min(from + batchSize, rows.size())));
+        synchronized (queue) {
+            writing = List.of();
+        }
+        read.run();
+    }
+
+    // Takes the next batch and marks it as being written in one step, so pending() sees each row in one of the two.
+    private List<T> nextBatch() {
+        synchronized (queue) {
+            final List<T> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            writing = batch;
+            return batch;
+        }
+    }
+
+    /**
+     * Rows added but maybe not written yet, oldest first: the batch being written and the queued rows. Rows that
+     * overflowed to a synchronous write are not included.
+     */
+    List<T> pending() {
+        synchronized (queue) {
+            final List<T> pending = new ArrayList<>(writing);
+            pending.addAll(queue);
+            return pending;
+        }
+    }
+
+    private void write(List<T> batch) {
+        try {
+            batchWriter.accept(batch);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Batch write failed, writing " + batch.size() + " rows one by one.", e);
+            for (T row : batch) {
+                try {
+                    writer.accept(row);
+                } catch (RuntimeException rowFailure) {
+                    LOGGER.log(Level.SEVERE, "Could not write row: " + row, rowFailure);
+                }
+            }
+        }
+    }
+
+    void close() {
+        closed = true;
+        flusher.shutdown();
+        flush();
+    }
+}
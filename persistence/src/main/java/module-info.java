@@ -1,5 +1,8 @@
 module application.persistence {
     requires domain;
+    requires java.logging;
+    requires java.annotation;
+    requires java.sql;
     requires lombok;
     requires java.persistence;
     requires spring.data.jpa;
@@ -7,7 +10,10 @@ module application.persistence {
     requires spring.beans;
     requires spring.data.mongodb;
     requires spring.data.commons;
+    requires spring.tx;
+    requires org.mongodb.bson;
     exports com.bueno.persistence.repositories;
     exports com.bueno.persistence.dao;
     exports com.bueno.persistence.dto;
+    exports com.bueno.persistence.export;
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Small game snapshots built directly from the domain dtos, for tests that only care about how games are stored.
+ */
+public final class GameDtos {
+
+    public static final CardDto VIRA = new CardDto("7", "H");
+    public static final Instant START = LocalDateTime.of(2022, 3, 1, 20, 0).toInstant(ZoneOffset.UTC);
+
+    private GameDtos() {}
+
+    public static PlayerDto player(String username, int score, String... cards) {
+        return new PlayerDto(username, UUID.randomUUID(), score, false, cardsOf(cards));
+    }
+
+    public static PlayerDto withCards(PlayerDto player, int score, String... cards) {
+        return new PlayerDto(player.username(), player.uuid(), score, player.isBot(), cardsOf(cards));
+    }
+
+    public static IntelDto intel(Instant timestamp, String event, PlayerDto current, PlayerDto opponent) {
+        return new IntelDto(timestamp, false, null, false, 1, null, List.of(), List.of(), 0, VIRA, List.of(VIRA), null,
+                current.uuid(), current.score(), current.username(), opponent.score(), opponent.username(), null,
+                List.of(current, opponent), event, current.uuid(), current.username(), Set.of("PLAY", "RAISE"));
+    }
+
+    public static HandDto hand(PlayerDto firstToPlay, PlayerDto lastToPlay, List<IntelDto> history) {
+        return new HandDto(VIRA, List.of(VIRA), List.of(VIRA), List.of(), history, Set.of("PLAY", "RAISE"), firstToPlay,
+                lastToPlay, firstToPlay, null, null, null, 1, 0, null, "NOCARD");
+    }
+
+    public static GameDto game(UUID uuid, PlayerDto player1, PlayerDto player2, List<HandDto> hands) {
+        return new GameDto(uuid, LocalDateTime.ofInstant(START, ZoneOffset.UTC), player1, player2, player1,
+                player2, hands, 42L);
+    }
+
+    public static Instant secondsAfterStart(int seconds) {
+        return START.plus(seconds, ChronoUnit.SECONDS);
+    }
+
+    private static List<CardDto> cardsOf(String... cards) {
+        return Arrays.stream(cards).map(card -> new CardDto(card.substring(0, 1), card.substring(1, 2))).toList();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.codec;
+
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.RoundDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.bueno.persistence.GameDtos.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandCodecTest {
+
+    private PlayerDto player1;
+    private PlayerDto player2;
+
+    @BeforeEach
+    void setUp() {
+        player1 = player("Player1", 10, "AS", "4C");
+        player2 = player("Player2", 11, "2D");
+    }
+
+    private HandDto handOf(List<IntelDto> history, PlayerDto winner) {
+        final RoundDto round = new RoundDto(player1, player2, player2, VIRA, new CardDto("A", "S"), new CardDto("3", "C"));
+        return new HandDto(VIRA, List.of(new CardDto("A", "S"), new CardDto("3", "C")), List.of(VIRA),
+                List.of(round), history, Set.of("PLAY", "RAISE", "ACCEPT", "QUIT"), player1, player2, player1, player2,
+                player2, new CardDto("3", "C"), 3, 6, winner, winner == null ? "WAITINGRAISERESPONSE" : "DONE");
+    }
+
+    private IntelDto fullIntel(PlayerDto handWinner) {
+        return new IntelDto(secondsAfterStart(5), true, player2.uuid(), true, 3, 6,
+                List.of(Optional.of(player2.username()), Optional.empty()),
+                List.of(Optional.of(player2.uuid()), Optional.empty()), 2, VIRA, List.of(VIRA, new CardDto("3", "C")),
+                handWinner == null ? null : handWinner.username(), player1.uuid(), player1.score(), player1.username(),
+                player2.score(), player2.username(), new CardDto("3", "C"), List.of(player1, player2), "GAME_OVER",
+                player2.uuid(), player2.username(), Set.of("ACCEPT", "QUIT"));
+    }
+
+    private HandDto roundTrip(HandDto hand) {
+        return HandCodec.decode(HandCodec.encode(hand, player1.uuid(), player2.uuid()), player1, player2);
+    }
+
+    @Test
+    @DisplayName("Should decode every field of the hand and of its intel")
+    void shouldDecodeEveryFieldOfTheHandAndOfItsIntel() {
+        final HandDto hand = handOf(List.of(intel(secondsAfterStart(0), "HAND_START", player1, player2),
+                fullIntel(player2)), player2);
+
+        assertThat(roundTrip(hand)).usingRecursiveComparison().isEqualTo(hand);
+    }
+
+    @Test
+    @DisplayName("Should decode a hand with no history")
+    void shouldDecodeAHandWithNoHistory() {
+        final HandDto hand = handOf(List.of(), null);
+        final byte[] encoded = HandCodec.encode(hand, player1.uuid(), player2.uuid());
+
+        assertThat(HandCodec.decode(encoded, player1, player2)).usingRecursiveComparison().isEqualTo(hand);
+        assertThat(HandCodec.historySize(encoded)).isZero();
+        assertThat(HandCodec.lastTimestamp(encoded)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read the history size and last timestamp without decoding the hand")
+    void shouldReadTheHistorySizeAndLastTimestampWithoutDecodingTheHand() {
+        final HandDto hand = handOf(List.of(intel(secondsAfterStart(0), "HAND_START", player1, player2),
+                fullIntel(player2)), player2);
+        final byte[] encoded = HandCodec.encode(hand, player1.uuid(), player2.uuid());
+
+        assertThat(HandCodec.historySize(encoded)).isEqualTo(2);
+        assertThat(HandCodec.lastTimestamp(encoded)).contains(secondsAfterStart(5));
+    }
+
+    @Test
+    @DisplayName("Should decode a hand that ended in a draw")
+    void shouldDecodeAHandThatEndedInADraw() {
+        final HandDto hand = handOf(List.of(fullIntel(null)), null);
+
+        final HandDto decoded = roundTrip(hand);
+
+        assertThat(decoded.winner()).isNull();
+        assertThat(decoded.history()).singleElement().extracting(IntelDto::handWinner).isNull();
+    }
+
+    @Test
+    @DisplayName("Should record the hand winner when both players share a username")
+    void shouldRecordTheHandWinnerWhenBothPlayersShareAUsername() {
+        player1 = new PlayerDto("SameBot", player1.uuid(), 0, true, List.of());
+        player2 = new PlayerDto("SameBot", player2.uuid(), 0, true, List.of());
+        final HandDto hand = handOf(List.of(fullIntel(player2)), player2);
+        final byte[] encoded = HandCodec.encode(hand, player1.uuid(), player2.uuid());
+
+        final PlayerDto first = new PlayerDto("First", player1.uuid(), 0, true, List.of());
+        final PlayerDto second = new PlayerDto("Second", player2.uuid(), 0, true, List.of());
+        final HandDto decoded = HandCodec.decode(encoded, first, second);
+
+        assertThat(decoded.winner().uuid()).isEqualTo(player2.uuid());
+        assertThat(decoded.history()).singleElement().extracting(IntelDto::handWinner).isEqualTo("Second");
+    }
+
+    @Test
+    @DisplayName("Should decode intel whose timestamp is earlier than the one before it")
+    void shouldDecodeIntelWhoseTimestampIsEarlierThanTheOneBeforeIt() {
+        final HandDto hand = handOf(List.of(intel(secondsAfterStart(10), "HAND_START", player1, player2),
+                intel(secondsAfterStart(4), "PLAY", player1, player2),
+                intel(secondsAfterStart(6), "PLAY", player2, player1)), null);
+
+        assertThat(roundTrip(hand).history()).extracting(IntelDto::timestamp)
+                .containsExactly(secondsAfterStart(10), secondsAfterStart(4), secondsAfterStart(6));
+    }
+}
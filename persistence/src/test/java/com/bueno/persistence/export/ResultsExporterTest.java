@@ -0,0 +1,128 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.export;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultsExporterTest {
+
+    private static final String URL = "jdbc:h2:mem:results-export;DB_CLOSE_DELAY=-1";
+
+    private Connection keepAlive;
+    private ResultsExporter sut;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        keepAlive = DriverManager.getConnection(URL);
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE game_result (game_id VARCHAR(64), game_start_time VARCHAR(64),
+                        game_end_time VARCHAR(64), winner VARCHAR(64), player1 VARCHAR(64), player1_score INT,
+                        player2 VARCHAR(64), player2_score INT)
+                    """);
+        }
+        sut = new ResultsExporter(() -> DriverManager.getConnection(URL), 2);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DROP TABLE game_result");
+        }
+        keepAlive.close();
+    }
+
+    private void insert(String gameId, String winner, int player1Score) throws SQLException {
+        try (var statement = keepAlive.prepareStatement("INSERT INTO game_result VALUES (?, 'start', 'end', ?, 'p1', ?, 'p2', 3)")) {
+            statement.setString(1, gameId);
+            statement.setString(2, winner);
+            statement.setInt(3, player1Score);
+            statement.executeUpdate();
+        }
+    }
+
+    private String export(ExportFormat format) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sut.export(ResultsExporter.Table.GAME_RESULTS, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and leave plain values unquoted")
+    void shouldWriteACsvHeaderAndLeavePlainValuesUnquoted() throws SQLException, IOException {
+        insert("g1", "p1", 12);
+
+        assertThat(export(ExportFormat.CSV)).isEqualTo("""
+                game_id,game_start_time,game_end_time,winner,player1,player1_score,player2,player2_score
+                g1,start,end,p1,p1,12,p2,3
+                """);
+    }
+
+    @Test
+    @DisplayName("Should quote CSV values with separators, quotes or line breaks and leave nulls empty")
+    void shouldQuoteCsvValuesWithSeparatorsQuotesOrLineBreaksAndLeaveNullsEmpty() throws SQLException, IOException {
+        insert("a,b", "say \"hi\"", 1);
+        insert("line\nbreak", null, 2);
+        insert("carriage\rreturn", "p1", 3);
+
+        assertThat(export(ExportFormat.CSV).lines().skip(1).toList()).containsExactly(
+                "\"a,b\",start,end,\"say \"\"hi\"\"\",p1,1,p2,3",
+                "\"line",
+                "break\",start,end,,p1,2,p2,3",
+                "\"carriage",
+                "return\",start,end,p1,p1,3,p2,3");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line with numbers unquoted and nulls as null")
+    void shouldWriteOneJsonObjectPerLineWithNumbersUnquotedAndNullsAsNull() throws SQLException, IOException {
+        insert("g1", null, 12);
+        insert("g2", "p2", 0);
+
+        assertThat(export(ExportFormat.NDJSON)).isEqualTo("""
+                {"game_id":"g1","game_start_time":"start","game_end_time":"end","winner":null,"player1":"p1","player1_score":12,"player2":"p2","player2_score":3}
+                {"game_id":"g2","game_start_time":"start","game_end_time":"end","winner":"p2","player1":"p1","player1_score":0,"player2":"p2","player2_score":3}
+                """);
+    }
+
+    @Test
+    @DisplayName("Should escape quotes, backslashes and control characters in JSON strings")
+    void shouldEscapeQuotesBackslashesAndControlCharactersInJsonStrings() throws SQLException, IOException {
+        insert("q\"b\\n\nt\tc\u0001", "p1", 1);
+
+        assertThat(export(ExportFormat.NDJSON))
+                .startsWith("{\"game_id\":\"q\\\"b\\\\n\\nt\\tc\\u0001\",")
+                .endsWith("}\n")
+                .hasLineCount(1);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.utils.exceptions.ConcurrentGameUpdateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class EventSourcedGameRepositoryTest {
+
+    private InMemoryEventStore store;
+    private EventSourcedGameRepository sut;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryEventStore();
+        sut = new EventSourcedGameRepository(store.snapshotDao(), store.eventDao(), store.mongoTemplate());
+    }
+
+    @Test
+    @DisplayName("Should rebuild a game from its snapshot and the events stored within the hand")
+    void shouldRebuildAGameFromItsSnapshotAndTheEventsStoredWithinTheHand() {
+        final Game game = newGame(3L);
+        sut.save(GameConverter.toDto(game));
+        playCard(game.currentHand());
+        sut.update(GameConverter.toDto(game));
+        playCard(game.currentHand());
+        final GameDto played = GameConverter.toDto(game);
+        sut.update(played);
+
+        final GameDto rebuilt = sut.findByPlayerUuid(game.getPlayer2().getUuid()).orElseThrow();
+
+        assertSameState(rebuilt, played);
+        assertThat(store.events(game.getUuid())).extracting(event -> event.getSequence()).containsExactly(1L, 2L);
+        assertThat(store.snapshot(game.getUuid()).orElseThrow().getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should replace the snapshot and drop its events when a hand ends")
+    void shouldReplaceTheSnapshotAndDropItsEventsWhenAHandEnds() {
+        final Game game = newGame(5L);
+        sut.save(GameConverter.toDto(game));
+        playCard(game.currentHand());
+        sut.update(GameConverter.toDto(game));
+        while (!game.currentHand().isDone()) playCard(game.currentHand());
+        game.updateScores();
+        game.prepareNewHand();
+        sut.update(GameConverter.toDto(game));
+        playCard(game.currentHand());
+        final GameDto played = GameConverter.toDto(game);
+        sut.update(played);
+
+        final GameDto rebuilt = sut.findByPlayerUuid(game.getPlayer1().getUuid()).orElseThrow();
+
+        assertSameState(rebuilt, played);
+        assertThat(rebuilt.handsPlayed()).isEqualTo(2);
+        assertThat(store.snapshot(game.getUuid()).orElseThrow().getHandsPlayed()).isEqualTo(2);
+        assertThat(store.events(game.getUuid())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an update of a game that was updated after it was read")
+    void shouldRejectAnUpdateOfAGameThatWasUpdatedAfterItWasRead() {
+        final GameDto start = GameConverter.toDto(newGame(8L));
+        sut.save(start);
+        final Game here = GameConverter.fromDto(start);
+        final Game elsewhere = GameConverter.fromDto(start);
+        playCard(here.currentHand(), 0);
+        playCard(here.currentHand(), 0);
+        playCard(elsewhere.currentHand(), 1);
+        final GameDto playedElsewhere = GameConverter.toDto(elsewhere);
+        store.beforeNextEventRead(() -> sut.update(playedElsewhere));
+
+        assertThatExceptionOfType(ConcurrentGameUpdateException.class)
+                .isThrownBy(() -> sut.update(GameConverter.toDto(here)));
+        assertSameState(sut.findByPlayerUuid(start.player1().uuid()).orElseThrow(), playedElsewhere);
+        assertThat(store.events(start.gameUuid())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should delete only the inactive games that did not get a move since they were found")
+    void shouldDeleteOnlyTheInactiveGamesThatDidNotGetAMoveSinceTheyWereFound() {
+        final GameDto inactive = lastActiveAgo(GameConverter.toDto(newGame(13L)), Duration.ofMinutes(10));
+        final GameDto resumed = lastActiveAgo(GameConverter.toDto(newGame(21L)), Duration.ofMinutes(10));
+        sut.save(inactive);
+        sut.save(resumed);
+
+        final List<InactiveGameDto> found = sut.findInactiveAfter(5, 10);
+        final Game resumedGame = GameConverter.fromDto(resumed);
+        playCard(resumedGame.currentHand());
+        sut.update(GameConverter.toDto(resumedGame));
+
+        assertThat(found).extracting(InactiveGameDto::gameUuid).containsExactly(inactive.gameUuid(), resumed.gameUuid());
+        assertThat(sut.deleteInactiveAfter(found.stream().map(InactiveGameDto::gameUuid).toList(), 5))
+                .containsExactly(inactive.gameUuid());
+        assertThat(sut.findByPlayerUuid(inactive.player1().uuid())).isEmpty();
+        assertThat(sut.findByPlayerUuid(resumed.player1().uuid())).isPresent();
+        assertThat(store.events(resumed.gameUuid())).hasSize(1);
+    }
+
+    private static Game newGame(long dealSeed) {
+        return new Game(Player.ofBot("BotA"), Player.ofBot("BotB"), dealSeed);
+    }
+
+    private static void playCard(Hand hand) {
+        playCard(hand, 0);
+    }
+
+    private static void playCard(Hand hand, int cardIndex) {
+        final Player player = hand.getCurrentPlayer();
+        if (hand.getCardToPlayAgainst().isEmpty())
+            hand.playFirstCard(player, player.play(player.getCards().get(cardIndex)));
+        else hand.playSecondCard(player, player.play(player.getCards().get(cardIndex)));
+    }
+
+    private static GameDto lastActiveAgo(GameDto game, Duration ago) {
+        final HandDto hand = game.hands().get(game.hands().size() - 1);
+        final List<IntelDto> history = hand.history().stream()
+                .map(intel -> intel.withTimestamp(intel.timestamp().minus(ago)))
+                .toList();
+        return game.withHands(List.of(hand.withHistory(history)));
+    }
+
+    private static void assertSameState(GameDto actual, GameDto expected) {
+        final HandDto actualHand = actual.hands().get(actual.hands().size() - 1);
+        final HandDto expectedHand = expected.hands().get(expected.hands().size() - 1);
+        assertThat(actual.player1().cards()).isEqualTo(expected.player1().cards());
+        assertThat(actual.player2().cards()).isEqualTo(expected.player2().cards());
+        assertThat(actual.player1().score()).isEqualTo(expected.player1().score());
+        assertThat(actual.player2().score()).isEqualTo(expected.player2().score());
+        assertThat(actualHand.openCards()).isEqualTo(expectedHand.openCards());
+        assertThat(actualHand.history()).extracting(IntelDto::event)
+                .containsExactlyElementsOf(expectedHand.history().stream().map(IntelDto::event).toList());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.persistence.dao.ArchivedGameDao;
+import com.bueno.persistence.dao.GameDao;
+import com.bueno.persistence.dto.ArchivedGameEntity;
+import com.bueno.persistence.dto.GameEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static com.bueno.persistence.GameDtos.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class GameArchiveTest {
+
+    private ArchivedGameDao archivedGameDao;
+    private GameArchive sut;
+
+    @BeforeEach
+    void setUp() {
+        archivedGameDao = mock(ArchivedGameDao.class);
+        final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+        sut = new GameArchive(archivedGameDao, mock(GameDao.class), mongoTemplate);
+    }
+
+    private static GameEntity newGame() {
+        final PlayerDto player1 = player("Player1", 12);
+        final PlayerDto player2 = player("Player2", 4);
+        return GameEntity.from(game(UUID.randomUUID(), player1, player2, List.of()));
+    }
+
+    private static ArchivedGameEntity archiveOf(GameEntity game) {
+        return argThat(archived -> archived.getId().equals(game.getId()));
+    }
+
+    @Test
+    @DisplayName("Should write pending archives before shutting down")
+    void shouldWritePendingArchivesBeforeShuttingDown() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final GameEntity first = newGame();
+        final GameEntity second = newGame();
+        when(archivedGameDao.insert(archiveOf(first))).thenAnswer(invocation -> {
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        sut.archiveAsync(first);
+        sut.archiveAsync(second);
+        release.countDown();
+        sut.destroy();
+
+        verify(archivedGameDao).insert(archiveOf(first));
+        verify(archivedGameDao).insert(archiveOf(second));
+    }
+
+    @Test
+    @DisplayName("Should archive synchronously after shutting down")
+    void shouldArchiveSynchronouslyAfterShuttingDown() throws InterruptedException {
+        final GameEntity game = newGame();
+        sut.destroy();
+
+        sut.archiveAsync(game);
+
+        verify(archivedGameDao).insert(archiveOf(game));
+    }
+
+    @Test
+    @DisplayName("Should keep archiving after a failed write")
+    void shouldKeepArchivingAfterAFailedWrite() throws InterruptedException {
+        final GameEntity failing = newGame();
+        final GameEntity next = newGame();
+        when(archivedGameDao.insert(archiveOf(failing))).thenThrow(new IllegalStateException("Archive is down"));
+
+        sut.archiveAsync(failing);
+        sut.archiveAsync(next);
+        sut.destroy();
+
+        verify(archivedGameDao).insert(archiveOf(next));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.persistence.dao.HandArchiveDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.bueno.persistence.GameDtos.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class GameRepositoryImplTest {
+
+    private InMemoryGameDocuments documents;
+    private PlayerDto player1;
+    private PlayerDto player2;
+    private GameDto game;
+
+    @BeforeEach
+    void setUp() {
+        documents = new InMemoryGameDocuments();
+        player1 = player("Player1", 0, "AS", "4C", "KH");
+        player2 = player("Player2", 0, "2D", "QS", "5H");
+        final IntelDto start = intel(secondsAfterStart(0), "HAND_START", player1, player2);
+        game = game(UUID.randomUUID(), player1, player2, List.of(hand(player1, player2, List.of(start))));
+    }
+
+    private GameRepositoryImpl newRepository() {
+        return newRepository(false);
+    }
+
+    private GameRepositoryImpl newRepository(boolean summarizeCompletedHands) {
+        return newRepository(summarizeCompletedHands, 10);
+    }
+
+    private GameRepositoryImpl newRepository(boolean summarizeCompletedHands, int savedStatesSize) {
+        return new GameRepositoryImpl(documents.gameDao(), mock(HandArchiveDao.class), mock(GameArchive.class),
+                documents.mongoTemplate(), summarizeCompletedHands, false, savedStatesSize);
+    }
+
+    private GameDto afterPlay(GameDto game, PlayerDto played, PlayerDto opponent, int second) {
+        final HandDto hand = game.hands().get(game.hands().size() - 1);
+        final List<IntelDto> history = new ArrayList<>(hand.history());
+        history.add(intel(secondsAfterStart(second), "PLAY", played, opponent));
+        final PlayerDto playerOne = played.uuid().equals(game.player1().uuid()) ? played : game.player1();
+        final PlayerDto playerTwo = played.uuid().equals(game.player2().uuid()) ? played : game.player2();
+        return new GameDto(game.gameUuid(), game.timestamp(), playerOne, playerTwo, game.firstToPlay(),
+                game.lastToPlay(), List.of(hand.withHistory(history)), game.dealSeed());
+    }
+
+    @Test
+    @DisplayName("Should write the cards and score of a player on an incremental update")
+    void shouldWriteTheCardsAndScoreOfAPlayerOnAnIncrementalUpdate() {
+        final GameRepositoryImpl sut = newRepository();
+        sut.save(game);
+        sut.update(afterPlay(game, withCards(player1, 2, "4C", "KH"), player2, 1));
+
+        final GameDto reloaded = newRepository().findByPlayerUuid(player1.uuid()).orElseThrow();
+
+        assertThat(reloaded.player1().score()).isEqualTo(2);
+        assertThat(reloaded.player1().cards()).containsExactlyElementsOf(withCards(player1, 2, "4C", "KH").cards());
+        assertThat(reloaded.hands().get(0).history()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should replace the whole game when it changed after this instance last saved it")
+    void shouldReplaceTheWholeGameWhenItChangedAfterThisInstanceLastSavedIt() {
+        final GameRepositoryImpl sut = newRepository();
+        sut.save(game);
+        final GameRepositoryImpl otherInstance = newRepository();
+        final GameDto loaded = otherInstance.findByPlayerUuid(player1.uuid()).orElseThrow();
+        final GameDto playedElsewhere = afterPlay(loaded, withCards(player1, 0, "4C", "KH"), player2, 1);
+        otherInstance.update(playedElsewhere);
+        final GameDto playedHere = afterPlay(playedElsewhere, withCards(player2, 0, "QS", "5H"), player1, 2);
+
+        sut.update(playedHere);
+        final GameDto reloaded = newRepository().findByPlayerUuid(player1.uuid()).orElseThrow();
+
+        assertThat(reloaded.player1().cards()).hasSize(2);
+        assertThat(reloaded.player2().cards()).hasSize(2);
+        assertThat(reloaded.hands().get(0).history()).extracting(IntelDto::event).containsExactly("HAND_START", "PLAY", "PLAY");
+        assertThat(documents.stored(game.gameUuid()).orElseThrow().getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should read the stored version of a game, also when another instance updated it")
+    void shouldReadTheStoredVersionOfAGameAlsoWhenAnotherInstanceUpdatedIt() {
+        final GameRepositoryImpl sut = newRepository();
+        sut.save(game);
+        assertThat(sut.findVersionByPlayerUuid(player2.uuid())).contains(new GameVersionDto(game.gameUuid(), 0));
+
+        newRepository().update(afterPlay(game, withCards(player1, 0, "4C", "KH"), player2, 1));
+
+        assertThat(sut.findVersionByPlayerUuid(player2.uuid())).contains(new GameVersionDto(game.gameUuid(), 1));
+        assertThat(sut.findVersionByPlayerUuid(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace the whole game when its saved state was evicted")
+    void shouldReplaceTheWholeGameWhenItsSavedStateWasEvicted() {
+        final GameRepositoryImpl sut = newRepository(false, 1);
+        sut.save(game);
+        final PlayerDto player3 = player("Player3", 0, "AS");
+        final PlayerDto player4 = player("Player4", 0, "2D");
+        final IntelDto start = intel(secondsAfterStart(0), "HAND_START", player3, player4);
+        sut.save(game(UUID.randomUUID(), player3, player4, List.of(hand(player3, player4, List.of(start)))));
+
+        sut.update(afterPlay(game, withCards(player1, 0, "4C", "KH"), player2, 1));
+        final GameDto reloaded = newRepository().findByPlayerUuid(player1.uuid()).orElseThrow();
+
+        assertThat(reloaded.player1().cards()).hasSize(2);
+        assertThat(reloaded.hands().get(0).history()).extracting(IntelDto::event).containsExactly("HAND_START", "PLAY");
+        assertThat(documents.stored(game.gameUuid()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep only the last two hands and count the collapsed ones when summarizing")
+    void shouldKeepOnlyTheLastTwoHandsAndCountTheCollapsedOnesWhenSummarizing() {
+        final GameRepositoryImpl sut = newRepository(true);
+        sut.save(game);
+        final List<HandDto> hands = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+            hands.add(hand(player1, player2, List.of(intel(secondsAfterStart(i), "HAND_START", player1, player2))));
+
+        sut.update(game.withHands(hands));
+        final GameDto reloaded = newRepository(true).findByPlayerUuid(player1.uuid()).orElseThrow();
+
+        assertThat(reloaded.summarizedHands()).isEqualTo(2);
+        assertThat(reloaded.hands()).hasSize(2);
+        assertThat(reloaded.handsPlayed()).isEqualTo(4);
+    }
+}
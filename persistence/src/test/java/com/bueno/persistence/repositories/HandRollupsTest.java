@@ -0,0 +1,83 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.hand.dtos.BotHandStatisticsDto;
+import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+import com.bueno.persistence.dto.HandRollupEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandRollupsTest {
+
+    private final HandRollups sut = new HandRollups();
+    private final UUID bot = UUID.randomUUID();
+
+    private HandResultDto wonHand() {
+        return new HandResultDto("BOT_BOT", UUID.randomUUID(), bot, 1, 0, List.of(), List.of("7H"), Map.of(bot, "DummyBot"));
+    }
+
+    private static HandRollupEntity storedHands(long hands) {
+        return new HandRollupEntity("DummyBot", "BOT_BOT", "7", hands, hands, 0, hands, 0, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Should drain only what was added since the last drain")
+    void shouldDrainOnlyWhatWasAddedSinceTheLastDrain() {
+        sut.add(wonHand());
+        sut.add(wonHand());
+
+        assertThat(sut.drainIncrements()).extracting(HandRollupEntity::getHands).containsExactly(2L);
+        assertThat(sut.drainIncrements()).isEmpty();
+        sut.add(wonHand());
+        assertThat(sut.drainIncrements()).extracting(HandRollupEntity::getHands).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should drain restored increments again")
+    void shouldDrainRestoredIncrementsAgain() {
+        sut.add(wonHand());
+        final List<HandRollupEntity> increments = sut.drainIncrements();
+        sut.add(wonHand());
+
+        sut.restore(increments);
+
+        assertThat(sut.drainIncrements()).extracting(HandRollupEntity::getHands).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should report stored totals plus the increments not drained yet after loading")
+    void shouldReportStoredTotalsPlusTheIncrementsNotDrainedYetAfterLoading() {
+        sut.add(wonHand());
+        sut.drainIncrements();
+        sut.add(wonHand());
+
+        sut.load(List.of(storedHands(5)));
+
+        assertThat(sut.statistics()).extracting(BotHandStatisticsDto::hands).containsExactly(6L);
+        assertThat(sut.drainIncrements()).extracting(HandRollupEntity::getHands).containsExactly(1L);
+    }
+}
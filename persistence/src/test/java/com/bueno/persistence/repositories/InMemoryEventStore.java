@@ -0,0 +1,197 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.repositories;
+
+import com.bueno.persistence.dao.GameEventDao;
+import com.bueno.persistence.dao.GameSnapshotDao;
+import com.bueno.persistence.dto.GameEventEntity;
+import com.bueno.persistence.dto.GameSnapshotEntity;
+import org.bson.Document;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Snapshots and events of event-sourced games kept in memory, behind mocks of {@link MongoTemplate},
+ * {@link GameSnapshotDao} and {@link GameEventDao}. Snapshots are stored as copies and updated with $set and $inc on
+ * their top-level fields; queries match fields by equality or $lt, optionally combined with $or. Projections are
+ * ignored, so reads return whole snapshots. Events keep the unique (gameId, sequence) index.
+ */
+class InMemoryEventStore {
+
+    private final Map<UUID, GameSnapshotEntity> snapshots = new LinkedHashMap<>();
+    private final List<GameEventEntity> events = new ArrayList<>();
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final GameSnapshotDao snapshotDao = mock(GameSnapshotDao.class);
+    private final GameEventDao eventDao = mock(GameEventDao.class);
+    private Runnable beforeNextEventRead;
+
+    InMemoryEventStore() {
+        when(mongoTemplate.indexOps(any(Class.class))).thenAnswer(invocation -> mock(IndexOperations.class));
+        when(mongoTemplate.findOne(any(Query.class), eq(GameSnapshotEntity.class)))
+                .thenAnswer(invocation -> find(invocation.getArgument(0)).findFirst().map(InMemoryEventStore::copy).orElse(null));
+        when(mongoTemplate.find(any(Query.class), eq(GameSnapshotEntity.class))).thenAnswer(invocation -> {
+            final Query query = invocation.getArgument(0);
+            return find(query).limit(query.getLimit() > 0 ? query.getLimit() : Long.MAX_VALUE).map(InMemoryEventStore::copy).toList();
+        });
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(GameSnapshotEntity.class))).thenAnswer(invocation -> {
+            final Optional<GameSnapshotEntity> found = find(invocation.getArgument(0)).findFirst();
+            if (found.isEmpty()) return null;
+            final GameSnapshotEntity before = copy(found.get());
+            apply(found.get(), invocation.<Update>getArgument(1).getUpdateObject());
+            return before;
+        });
+        when(mongoTemplate.findAndReplace(any(Query.class), any(GameSnapshotEntity.class))).thenAnswer(invocation -> {
+            final Optional<GameSnapshotEntity> found = find(invocation.getArgument(0)).findFirst();
+            if (found.isEmpty()) return null;
+            final GameSnapshotEntity before = copy(found.get());
+            snapshots.put(before.getId(), copy(invocation.getArgument(1)));
+            return before;
+        });
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(GameSnapshotEntity.class))).thenAnswer(invocation ->
+                find(invocation.getArgument(0)).findFirst().map(snapshot -> snapshots.remove(snapshot.getId())).orElse(null));
+
+        when(snapshotDao.insert(any(GameSnapshotEntity.class))).thenAnswer(invocation -> {
+            final GameSnapshotEntity snapshot = invocation.getArgument(0);
+            if (snapshots.containsKey(snapshot.getId())) throw new DuplicateKeyException("Duplicate game " + snapshot.getId());
+            snapshots.put(snapshot.getId(), copy(snapshot));
+            return snapshot;
+        });
+        when(snapshotDao.findById(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.ofNullable(snapshots.get(invocation.<UUID>getArgument(0))).map(InMemoryEventStore::copy));
+        when(snapshotDao.findByPlayer1OrPlayer2(any(UUID.class), any(UUID.class))).thenAnswer(invocation ->
+                snapshots.values().stream()
+                        .filter(snapshot -> snapshot.getPlayer1().equals(invocation.getArgument(0))
+                                || snapshot.getPlayer2().equals(invocation.getArgument(1)))
+                        .findFirst()
+                        .map(InMemoryEventStore::copy));
+        doAnswer(invocation -> snapshots.remove(invocation.<GameSnapshotEntity>getArgument(0).getId()))
+                .when(snapshotDao).delete(any(GameSnapshotEntity.class));
+
+        when(eventDao.insert(ArgumentMatchers.<Iterable<GameEventEntity>>any())).thenAnswer(invocation -> {
+            final List<GameEventEntity> inserted = new ArrayList<>();
+            invocation.<Iterable<GameEventEntity>>getArgument(0).forEach(inserted::add);
+            for (GameEventEntity event : inserted)
+                if (eventsOf(event.getGameId()).anyMatch(stored -> stored.getSequence() == event.getSequence()))
+                    throw new DuplicateKeyException("Duplicate event " + event.getGameId() + "/" + event.getSequence());
+            events.addAll(inserted);
+            return inserted;
+        });
+        when(eventDao.findFirstByGameIdOrderBySequenceDesc(any(UUID.class))).thenAnswer(invocation -> {
+            final Runnable hook = beforeNextEventRead;
+            beforeNextEventRead = null;
+            if (hook != null) hook.run();
+            return eventsOf(invocation.getArgument(0)).max(Comparator.comparingLong(GameEventEntity::getSequence));
+        });
+        when(eventDao.findByGameIdAndSequenceGreaterThanOrderBySequenceAsc(any(UUID.class), anyLong())).thenAnswer(invocation ->
+                eventsOf(invocation.getArgument(0))
+                        .filter(event -> event.getSequence() > invocation.<Long>getArgument(1))
+                        .sorted(Comparator.comparingLong(GameEventEntity::getSequence))
+                        .toList());
+        doAnswer(invocation -> events.removeIf(event -> event.getGameId().equals(invocation.getArgument(0))
+                && event.getSequence() <= invocation.<Long>getArgument(1)))
+                .when(eventDao).deleteByGameIdAndSequenceLessThanEqual(any(UUID.class), anyLong());
+        doAnswer(invocation -> events.removeIf(event -> event.getGameId().equals(invocation.getArgument(0))))
+                .when(eventDao).deleteByGameId(any(UUID.class));
+    }
+
+    MongoTemplate mongoTemplate() {
+        return mongoTemplate;
+    }
+
+    GameSnapshotDao snapshotDao() {
+        return snapshotDao;
+    }
+
+    GameEventDao eventDao() {
+        return eventDao;
+    }
+
+    Optional<GameSnapshotEntity> snapshot(UUID gameUuid) {
+        return Optional.ofNullable(snapshots.get(gameUuid)).map(InMemoryEventStore::copy);
+    }
+
+    List<GameEventEntity> events(UUID gameUuid) {
+        return eventsOf(gameUuid).toList();
+    }
+
+    /**
+     * Runs the given action once, right before the next read of the last event of a game, to interleave a
+     * concurrent writer with the update that is reading.
+     */
+    void beforeNextEventRead(Runnable action) {
+        beforeNextEventRead = action;
+    }
+
+    private Stream<GameEventEntity> eventsOf(UUID gameUuid) {
+        return events.stream().filter(event -> event.getGameId().equals(gameUuid));
+    }
+
+    private Stream<GameSnapshotEntity> find(Query query) {
+        return snapshots.values().stream().filter(snapshot -> matches(snapshot, query.getQueryObject()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean matches(GameSnapshotEntity snapshot, Document criteria) {
+        final BeanWrapper fields = PropertyAccessorFactory.forBeanPropertyAccess(snapshot);
+        return criteria.entrySet().stream().allMatch(criterion -> {
+            if (criterion.getKey().equals("$or"))
+                return ((List<?>) criterion.getValue()).stream().anyMatch(branch -> matches(snapshot, (Document) branch));
+            final Object value = fields.getPropertyValue(criterion.getKey().equals("_id") ? "id" : criterion.getKey());
+            if (criterion.getValue() instanceof Document operator && operator.containsKey("$lt"))
+                return value != null && ((Comparable<Object>) value).compareTo(operator.get("$lt")) < 0;
+            return Objects.equals(value, criterion.getValue());
+        });
+    }
+
+    private static void apply(GameSnapshotEntity snapshot, Document update) {
+        final BeanWrapper fields = PropertyAccessorFactory.forBeanPropertyAccess(snapshot);
+        update.forEach((operator, values) -> ((Document) values).forEach((field, value) -> {
+            switch (operator) {
+                case "$set" -> fields.setPropertyValue(field, value);
+                case "$inc" -> fields.setPropertyValue(field,
+                        ((Number) fields.getPropertyValue(field)).longValue() + ((Number) value).longValue());
+                default -> throw new UnsupportedOperationException("Unsupported update operator: " + operator);
+            }
+        }));
+    }
+
+    private static GameSnapshotEntity copy(GameSnapshotEntity snapshot) {
+        final GameSnapshotEntity copy = new GameSnapshotEntity();
+        BeanUtils.copyProperties(snapshot, copy);
+        return copy;
+    }
+}
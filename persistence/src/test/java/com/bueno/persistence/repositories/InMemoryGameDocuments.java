@@ -0,0 +1,230 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.persistence.dao.GameDao;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Game documents kept as BSON documents in memory, behind mocks of {@link MongoTemplate} and {@link GameDao}. Entities
+ * go through the Spring Data mapping and updates are applied to the stored document ($set, $push with $each and $inc,
+ * on dotted paths with list indexes), so tests see what a later read of the database would return. Queries match
+ * fields by equality or $exists, optionally combined with $or. Players of legacy games live in their own collection, as they used to.
+ */
+class InMemoryGameDocuments {
+
+    private final Map<Object, Document> documents = new LinkedHashMap<>();
+    private final Map<UUID, PlayerEntity> legacyPlayers = new HashMap<>();
+    private final MappingMongoConverter converter;
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final GameDao gameDao = mock(GameDao.class);
+
+    InMemoryGameDocuments() {
+        final MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        final MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.getCollectionName(GameEntity.class)).thenReturn("gameEntity");
+        when(mongoTemplate.indexOps(any(Class.class))).thenAnswer(invocation -> mock(IndexOperations.class));
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("gameEntity"))).thenAnswer(invocation ->
+                iteratorOf(documents.values().stream()
+                        .filter(document -> matches(document, invocation.<Query>getArgument(0).getQueryObject()))
+                        .map(Document::new)
+                        .toList()));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class))).thenAnswer(invocation -> {
+            final Optional<Document> found = find(invocation.getArgument(0));
+            found.ifPresent(document -> apply(document, invocation.<Update>getArgument(1).getUpdateObject()));
+            return UpdateResult.acknowledged(found.isPresent() ? 1 : 0, found.isPresent() ? 1L : 0L, null);
+        });
+        when(mongoTemplate.findById(any(UUID.class), eq(PlayerEntity.class)))
+                .thenAnswer(invocation -> legacyPlayers.get(invocation.<UUID>getArgument(0)));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(GameEntity.class)))
+                .thenAnswer(invocation -> findAndModify(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2)));
+        when(mongoTemplate.findOne(any(Query.class), eq(GameEntity.class)))
+                .thenAnswer(invocation -> find(invocation.getArgument(0)).map(this::read).orElse(null));
+        when(gameDao.insert(any(GameEntity.class))).thenAnswer(invocation -> insert(invocation.getArgument(0)));
+        when(gameDao.findByPlayer1OrPlayer2(any(UUID.class), any(UUID.class))).thenAnswer(invocation ->
+                documents.values().stream()
+                        .filter(document -> document.get("player1").equals(invocation.getArgument(0))
+                                || document.get("player2").equals(invocation.getArgument(1)))
+                        .findFirst()
+                        .map(this::read));
+    }
+
+    MongoTemplate mongoTemplate() {
+        return mongoTemplate;
+    }
+
+    GameDao gameDao() {
+        return gameDao;
+    }
+
+    void storeRaw(Document document) {
+        documents.put(document.get("_id"), document);
+    }
+
+    void storeLegacyPlayer(PlayerEntity player) {
+        legacyPlayers.put(player.getId(), player);
+    }
+
+    void removeLegacyPlayer(UUID uuid) {
+        legacyPlayers.remove(uuid);
+    }
+
+    Document raw(UUID gameUuid) {
+        return documents.get(gameUuid);
+    }
+
+    Document toDocument(Object entity) {
+        final Document document = new Document();
+        converter.write(entity, document);
+        return document;
+    }
+
+    Optional<GameEntity> stored(UUID gameUuid) {
+        return Optional.ofNullable(documents.get(gameUuid)).map(this::read);
+    }
+
+    private GameEntity insert(GameEntity entity) {
+        if (documents.containsKey(entity.getId())) throw new DuplicateKeyException("Duplicate game " + entity.getId());
+        documents.put(entity.getId(), toDocument(entity));
+        return entity;
+    }
+
+    private GameEntity findAndModify(Query query, Update update, FindAndModifyOptions options) {
+        final Optional<Document> found = find(query);
+        if (found.isEmpty()) return null;
+        final Document document = found.get();
+        final GameEntity before = read(document);
+        apply(document, update.getUpdateObject());
+        return options.isReturnNew() ? read(document) : before;
+    }
+
+    private Optional<Document> find(Query query) {
+        return documents.values().stream().filter(document -> matches(document, query.getQueryObject())).findFirst();
+    }
+
+    private static boolean matches(Document document, Document criteria) {
+        return criteria.entrySet().stream().allMatch(criterion -> {
+            if (criterion.getKey().equals("$or"))
+                return ((List<?>) criterion.getValue()).stream().anyMatch(branch -> matches(document, (Document) branch));
+            final String key = criterion.getKey().equals("id") ? "_id" : criterion.getKey();
+            if (criterion.getValue() instanceof Document operator && operator.containsKey("$exists"))
+                return document.containsKey(key) == (Boolean) operator.get("$exists");
+            return Objects.equals(document.get(key), criterion.getValue());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void apply(Document document, Document update) {
+        update.forEach((operator, fields) -> ((Document) fields).forEach((path, value) -> {
+            switch (operator) {
+                case "$set" -> set(document, path, converter.convertToMongoType(value));
+                case "$inc" -> set(document, path, ((Number) Optional.ofNullable(get(document, path)).orElse(0L)).longValue()
+                        + ((Number) value).longValue());
+                case "$push" -> {
+                    final List<Object> list = (List<Object>) Optional.ofNullable(get(document, path)).orElseGet(ArrayList::new);
+                    for (Update.Modifier modifier : ((Update.Modifiers) value).getModifiers())
+                        for (Object element : (Object[]) modifier.getValue()) list.add(converter.convertToMongoType(element));
+                    set(document, path, list);
+                }
+                default -> throw new UnsupportedOperationException("Unsupported update operator: " + operator);
+            }
+        }));
+    }
+
+    private static Object get(Document document, String path) {
+        Object current = document;
+        for (String segment : path.split("\\.")) {
+            if (current == null) return null;
+            current = current instanceof List<?> list ? list.get(Integer.parseInt(segment)) : ((Document) current).get(segment);
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void set(Document document, String path, Object value) {
+        final String[] segments = path.split("\\.");
+        Object parent = document;
+        for (int i = 0; i < segments.length - 1; i++)
+            parent = parent instanceof List<?> list ? list.get(Integer.parseInt(segments[i])) : ((Document) parent).get(segments[i]);
+        final String last = segments[segments.length - 1];
+        if (parent instanceof List<?>) {
+            final List<Object> list = (List<Object>) parent;
+            final int index = Integer.parseInt(last);
+            if (index == list.size()) list.add(value);
+            else list.set(index, value);
+        } else {
+            ((Document) parent).put(last, value);
+        }
+    }
+
+    private static CloseableIterator<Document> iteratorOf(List<Document> found) {
+        final Iterator<Document> iterator = found.iterator();
+        return new CloseableIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Document next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private GameEntity read(Document document) {
+        return converter.read(GameEntity.class, document);
+    }
+}
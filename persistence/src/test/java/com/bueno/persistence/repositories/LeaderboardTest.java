@@ -0,0 +1,151 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.LeaderboardWindow;
+import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaderboardTest {
+
+    private static final Runnable NO_WRITE = () -> {};
+    private static final BiConsumer<Consumer<Runnable>, Runnable> FLUSH_NOTHING = (cut, read) -> {
+        cut.accept(() -> {});
+        read.run();
+    };
+
+    private final Leaderboard sut = new Leaderboard(10);
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should rank winners in every window")
+    void shouldRankWinnersInEveryWindow() {
+        sut.record(UUID.randomUUID(), alice, "Alice", LocalDateTime.now(), NO_WRITE);
+        sut.record(UUID.randomUUID(), alice, "Alice", LocalDateTime.now(), NO_WRITE);
+        sut.record(UUID.randomUUID(), bob, "Bob", LocalDateTime.now(), NO_WRITE);
+
+        for (LeaderboardWindow window : LeaderboardWindow.values())
+            assertThat(sut.top(window, 10)).containsExactly(new PlayerWinsDto("Alice", 2), new PlayerWinsDto("Bob", 1));
+    }
+
+    @Test
+    @DisplayName("Should not count a win outside the period of a window")
+    void shouldNotCountAWinOutsideThePeriodOfAWindow() {
+        sut.record(UUID.randomUUID(), alice, "Alice", LocalDateTime.now().minusDays(8), NO_WRITE);
+
+        assertThat(sut.top(LeaderboardWindow.ALL_TIME, 10)).containsExactly(new PlayerWinsDto("Alice", 1));
+        assertThat(sut.top(LeaderboardWindow.WEEKLY, 10)).isEmpty();
+        assertThat(sut.top(LeaderboardWindow.DAILY, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not count a result saved again for the same game twice")
+    void shouldNotCountAResultSavedAgainForTheSameGameTwice() {
+        final UUID game = UUID.randomUUID();
+        sut.record(game, alice, "Alice", LocalDateTime.now(), NO_WRITE);
+        sut.record(game, alice, "Alice", LocalDateTime.now(), NO_WRITE);
+
+        assertThat(sut.top(LeaderboardWindow.ALL_TIME, 10)).containsExactly(new PlayerWinsDto("Alice", 1));
+    }
+
+    @Test
+    @DisplayName("Should move the win when a result saved again for the same game has another winner")
+    void shouldMoveTheWinWhenAResultSavedAgainForTheSameGameHasAnotherWinner() {
+        final UUID game = UUID.randomUUID();
+        sut.record(UUID.randomUUID(), alice, "Alice", LocalDateTime.now(), NO_WRITE);
+        sut.record(game, alice, "Alice", LocalDateTime.now(), NO_WRITE);
+        sut.record(game, bob, "Bob", LocalDateTime.now(), NO_WRITE);
+
+        assertThat(sut.top(LeaderboardWindow.ALL_TIME, 10))
+                .containsExactly(new PlayerWinsDto("Alice", 1), new PlayerWinsDto("Bob", 1));
+    }
+
+    @Test
+    @DisplayName("Should replace the ranking by the stored counts on reconcile")
+    void shouldReplaceTheRankingByTheStoredCountsOnReconcile() {
+        sut.record(UUID.randomUUID(), alice, "Alice", LocalDateTime.now(), NO_WRITE);
+
+        sut.reconcile(FLUSH_NOTHING, periodStart -> List.of(new Leaderboard.Standing(bob, "Bob", 3)));
+
+        assertThat(sut.top(LeaderboardWindow.DAILY, 10)).containsExactly(new PlayerWinsDto("Bob", 3));
+    }
+
+    @Test
+    @DisplayName("Should not hold up a result recorded while the counts are read and count its win once")
+    void shouldNotHoldUpAResultRecordedWhileTheCountsAreReadAndCountItsWinOnce() throws InterruptedException {
+        final List<UUID> queued = new CopyOnWriteArrayList<>();
+        final List<UUID> stored = new CopyOnWriteArrayList<>();
+        final AtomicBoolean recordedWhileReading = new AtomicBoolean();
+        sut.record(UUID.randomUUID(), alice, "Alice", LocalDateTime.now(), () -> queued.add(alice));
+
+        sut.reconcile((cut, read) -> {
+            cut.accept(() -> {
+                stored.addAll(queued);
+                queued.clear();
+            });
+            read.run();
+        }, periodStart -> {
+            if (recordedWhileReading.get()) return List.of(new Leaderboard.Standing(alice, "Alice", stored.size()));
+            final Thread saving = new Thread(() ->
+                    sut.record(UUID.randomUUID(), alice, "Alice", LocalDateTime.now(), () -> queued.add(alice)));
+            saving.start();
+            try {
+                saving.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            recordedWhileReading.set(!saving.isAlive());
+            return List.of(new Leaderboard.Standing(alice, "Alice", stored.size()));
+        });
+
+        assertThat(recordedWhileReading).isTrue();
+        assertThat(queued).hasSize(1);
+        for (LeaderboardWindow window : LeaderboardWindow.values())
+            assertThat(sut.top(window, 10)).containsExactly(new PlayerWinsDto("Alice", 2));
+    }
+
+    @Test
+    @DisplayName("Should keep the ranking when the counts can not be read")
+    void shouldKeepTheRankingWhenTheCountsCanNotBeRead() {
+        sut.record(UUID.randomUUID(), alice, "Alice", LocalDateTime.now(), NO_WRITE);
+
+        assertThatThrownBy(() -> sut.reconcile(FLUSH_NOTHING, periodStart -> {
+            throw new IllegalStateException("Database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+        sut.record(UUID.randomUUID(), bob, "Bob", LocalDateTime.now(), NO_WRITE);
+        sut.reconcile(FLUSH_NOTHING, periodStart -> List.of(new Leaderboard.Standing(bob, "Bob", 1)));
+
+        assertThat(sut.top(LeaderboardWindow.ALL_TIME, 10)).containsExactly(new PlayerWinsDto("Bob", 1));
+    }
+}
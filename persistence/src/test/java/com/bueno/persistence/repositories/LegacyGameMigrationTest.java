@@ -0,0 +1,178 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.persistence.dao.HandArchiveDao;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.bueno.persistence.GameDtos.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class LegacyGameMigrationTest {
+
+    private InMemoryGameDocuments documents;
+    private PlayerDto player1;
+    private PlayerDto player2;
+    private GameDto game;
+
+    @BeforeEach
+    void setUp() {
+        documents = new InMemoryGameDocuments();
+        player1 = player("Player1", 3, "AS", "4C", "KH");
+        player2 = player("Player2", 1, "2D", "QS", "5H");
+        final IntelDto start = intel(secondsAfterStart(0), "HAND_START", player1, player2);
+        final IntelDto play = intel(secondsAfterStart(1), "PLAY", player1, player2);
+        game = game(UUID.randomUUID(), player1, player2, List.of(hand(player1, player2, List.of(start, play))));
+    }
+
+    private GameRepositoryImpl newRepository() {
+        final GameRepositoryImpl repository = new GameRepositoryImpl(documents.gameDao(), mock(HandArchiveDao.class),
+                mock(GameArchive.class), documents.mongoTemplate(), false, false, 10);
+        repository.migrateLegacyGames();
+        return repository;
+    }
+
+    private void storeAsBeforeVersioning(GameDto game) {
+        final Document legacy = new Document("_id", game.gameUuid())
+                .append("timestamp", game.timestamp())
+                .append("player1", game.player1().uuid())
+                .append("player2", game.player2().uuid())
+                .append("firstToPlay", game.firstToPlay().uuid())
+                .append("lastToPlay", game.lastToPlay().uuid())
+                .append("hands", game.hands().stream().map(hand -> documents.toDocument(legacyHandOf(hand))).toList());
+        documents.storeRaw(legacy);
+        documents.storeLegacyPlayer(PlayerEntity.from(game.player1()));
+        documents.storeLegacyPlayer(PlayerEntity.from(game.player2()));
+    }
+
+    private static LegacyGameMigration.Hand legacyHandOf(HandDto dto) {
+        final LegacyGameMigration.Hand hand = new LegacyGameMigration.Hand();
+        hand.setVira(dto.vira().toString());
+        hand.setDealtCard(dto.dealtCards().stream().map(CardDto::toString).toList());
+        hand.setOpenCards(dto.openCards().stream().map(CardDto::toString).toList());
+        hand.setRoundsPlayed(List.of());
+        hand.setHistory(dto.history().stream().map(LegacyGameMigrationTest::legacyIntelOf).toList());
+        hand.setPossibleActions(dto.possibleActions());
+        hand.setFirstToPlay(dto.firstToPlay().uuid());
+        hand.setLastToPlay(dto.lastToPlay().uuid());
+        hand.setCurrentPlayer(dto.currentPlayer().uuid());
+        hand.setPoints(dto.points());
+        hand.setPointsProposal(dto.pointsProposal());
+        hand.setState(dto.state());
+        return hand;
+    }
+
+    private static LegacyGameMigration.Intel legacyIntelOf(IntelDto dto) {
+        final LegacyGameMigration.Intel intel = new LegacyGameMigration.Intel();
+        intel.setTimestamp(dto.timestamp());
+        intel.setHandPoints(dto.handPoints());
+        intel.setRoundWinnersUsernames(List.of());
+        intel.setRoundWinnersUuid(List.of());
+        intel.setVira(dto.vira().toString());
+        intel.setOpenCards(dto.openCards().stream().map(CardDto::toString).toList());
+        intel.setCurrentPlayerUuid(dto.currentPlayerUuid());
+        intel.setCurrentPlayerScore(dto.currentPlayerScore());
+        intel.setCurrentPlayerUsername(dto.currentPlayerUsername());
+        intel.setCurrentOpponentScore(dto.currentOpponentScore());
+        intel.setCurrentOpponentUsername(dto.currentOpponentUsername());
+        intel.setPlayers(dto.players().stream().map(PlayerEntity::from).toList());
+        intel.setEvent(dto.event());
+        intel.setEventPlayerUUID(dto.eventPlayerUuid());
+        intel.setEventPlayerUsername(dto.eventPlayerUsername());
+        intel.setPossibleActions(dto.possibleActions());
+        return intel;
+    }
+
+    @Test
+    @DisplayName("Should read a game stored with separate players and embedded hands after migrating it")
+    void shouldReadAGameStoredWithSeparatePlayersAndEmbeddedHandsAfterMigratingIt() {
+        storeAsBeforeVersioning(game);
+
+        final Optional<GameDto> migrated = newRepository().findByPlayerUuid(player2.uuid());
+
+        assertThat(migrated).hasValueSatisfying(dto -> {
+            assertThat(dto.player1().score()).isEqualTo(3);
+            assertThat(dto.player2().cards()).containsExactlyElementsOf(player2.cards());
+            assertThat(dto.hands()).singleElement().satisfies(hand -> {
+                assertThat(hand.vira()).isEqualTo(VIRA);
+                assertThat(hand.history()).extracting(IntelDto::event).containsExactly("HAND_START", "PLAY");
+                assertThat(hand.history()).extracting(IntelDto::timestamp)
+                        .containsExactly(secondsAfterStart(0), secondsAfterStart(1));
+            });
+        });
+        assertThat(documents.raw(game.gameUuid()).get("version")).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Should backfill the last activity and current player used to find inactive games")
+    void shouldBackfillTheLastActivityAndCurrentPlayerUsedToFindInactiveGames() {
+        storeAsBeforeVersioning(game);
+
+        newRepository();
+
+        final GameEntity migrated = documents.stored(game.gameUuid()).orElseThrow();
+        assertThat(migrated.getLastActivity()).isEqualTo(secondsAfterStart(1));
+        assertThat(migrated.getCurrentPlayer()).isEqualTo(player1.uuid());
+    }
+
+    @Test
+    @DisplayName("Should skip a game whose player is missing and migrate the others")
+    void shouldSkipAGameWhosePlayerIsMissingAndMigrateTheOthers() {
+        final PlayerDto orphan = player("Orphan", 0, "AS");
+        final IntelDto start = intel(secondsAfterStart(0), "HAND_START", orphan, player2);
+        final GameDto orphaned = game(UUID.randomUUID(), orphan, player2, List.of(hand(orphan, player2, List.of(start))));
+        storeAsBeforeVersioning(orphaned);
+        documents.removeLegacyPlayer(orphan.uuid());
+        storeAsBeforeVersioning(game);
+
+        newRepository();
+
+        assertThat(documents.raw(orphaned.gameUuid()).containsKey("version")).isFalse();
+        assertThat(documents.raw(game.gameUuid()).get("version")).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Should leave versioned games untouched")
+    void shouldLeaveVersionedGamesUntouched() {
+        final GameRepositoryImpl repository = newRepository();
+        repository.save(game);
+        final Document stored = new Document(documents.raw(game.gameUuid()));
+
+        newRepository();
+
+        assertThat(documents.raw(game.gameUuid())).isEqualTo(stored);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindQueueTest {
+
+    private static final long NEVER = TimeUnit.HOURS.toMillis(1);
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final List<String> rows = new CopyOnWriteArrayList<>();
+    private WriteBehindQueue<String> sut;
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    private WriteBehindQueue<String> queue(int capacity, int batchSize, Consumer<List<String>> batchWriter) {
+        return new WriteBehindQueue<>("test-writer", capacity, batchSize, NEVER, batchWriter, rows::add);
+    }
+
+    @Test
+    @DisplayName("Should write rows in a batch as soon as a full batch is waiting")
+    void shouldWriteRowsInABatchAsSoonAsAFullBatchIsWaiting() throws InterruptedException {
+        final CountDownLatch written = new CountDownLatch(1);
+        sut = queue(10, 3, batch -> {
+            batches.add(List.copyOf(batch));
+            written.countDown();
+        });
+
+        List.of("a", "b", "c").forEach(sut::add);
+
+        assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(List.of("a", "b", "c"));
+        assertThat(rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write a row synchronously when the queue stays full")
+    void shouldWriteARowSynchronouslyWhenTheQueueStaysFull() {
+        sut = queue(1, 10, batch -> batches.add(List.copyOf(batch)));
+
+        sut.add("queued");
+        sut.add("overflow");
+
+        assertThat(rows).containsExactly("overflow");
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch row by row and keep the rows that can be written")
+    void shouldRetryAFailedBatchRowByRowAndKeepTheRowsThatCanBeWritten() {
+        sut = new WriteBehindQueue<>("test-writer", 10, 10, NEVER, batch -> {
+            throw new IllegalStateException("Batch rejected");
+        }, row -> {
+            if (row.equals("bad")) throw new IllegalArgumentException("Row rejected");
+            rows.add(row);
+        });
+        List.of("a", "bad", "b").forEach(sut::add);
+
+        sut.flush();
+
+        assertThat(rows).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("Should report rows as pending until their batch is written")
+    void shouldReportRowsAsPendingUntilTheirBatchIsWritten() throws InterruptedException {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        sut = queue(10, 2, batch -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(List.copyOf(batch));
+        });
+        List.of("a", "b").forEach(sut::add);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        sut.add("c");
+
+        assertThat(sut.pending()).containsExactly("a", "b", "c");
+        release.countDown();
+        sut.flush();
+        assertThat(sut.pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write the rows queued before the cut and read before writing the later ones")
+    void shouldWriteTheRowsQueuedBeforeTheCutAndReadBeforeWritingTheLaterOnes() {
+        sut = queue(10, 2, batch -> batches.add(List.copyOf(batch)));
+        List.of("a", "b", "c").forEach(sut::add);
+        final List<List<String>> writtenWhenRead = new CopyOnWriteArrayList<>();
+
+        sut.flushThen(Runnable::run, () -> {
+            sut.add("d");
+            sut.add("e");
+            writtenWhenRead.addAll(batches);
+        });
+
+        assertThat(writtenWhenRead).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(sut.pending()).containsExactly("d", "e");
+    }
+
+    @Test
+    @DisplayName("Should write pending rows on close and later rows synchronously")
+    void shouldWritePendingRowsOnCloseAndLaterRowsSynchronously() {
+        sut = queue(10, 10, batch -> batches.add(List.copyOf(batch)));
+        sut.add("pending");
+
+        sut.close();
+        sut.add("late");
+
+        assertThat(batches).containsExactly(List.of("pending"));
+        assertThat(rows).containsExactly("late");
+    }
+}
@@ -21,13 +21,23 @@
 package com.bueno;
 
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.repos.IntelPublishingGameRepository;
+import com.bueno.domain.usecases.intel.IntelHub;
+import com.bueno.domain.usecases.user.CachingUserRepository;
 import com.bueno.domain.usecases.user.RegisterUserUseCase;
 import com.bueno.domain.usecases.user.dtos.RegisterUserRequestDto;
+import com.bueno.persistence.repositories.UserRepositoryImpl;
+import com.bueno.responses.IntelCachingGameRepository;
+import com.bueno.responses.IntelJsonCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -40,6 +50,29 @@ public class WebApp {
     public static void main(String[] args) {
         SpringApplication.run(WebApp.class, args);
     }
+
+    @Bean
+    @Primary
+    CachingUserRepository cachingUserRepository(UserRepositoryImpl userRepository,
+                                                @Value("${application.users.cacheSize:10000}") int cacheSize){
+        return new CachingUserRepository(userRepository, cacheSize);
+    }
+
+    @Bean
+    IntelHub intelHub(@Qualifier("gameStore") GameRepository gameStore,
+                      @Value("${application.intel.streamBufferCapacity:256}") int bufferCapacity){
+        return new IntelHub(gameStore, bufferCapacity);
+    }
+
+    @Bean
+    @Primary
+    GameRepository gameRepository(@Qualifier("gameStore") GameRepository gameStore,
+                                  IntelHub intelHub,
+                                  IntelJsonCache intelJsonCache){
+        final GameRepository publishing = new IntelPublishingGameRepository(gameStore, intelHub);
+        return new IntelCachingGameRepository(publishing, intelJsonCache);
+    }
+
     @Bean
     CommandLineRunner run(RegisterUserUseCase registerUserUseCase,
                           GameResultRepository gameResultRepository,
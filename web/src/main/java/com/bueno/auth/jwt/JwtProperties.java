@@ -33,6 +33,8 @@ public class JwtProperties {
     private String tokenPrefix;
     private Integer tokenExpirationAfterMinutes;
     private Integer refreshTokenExpirationAfterDays;
+    private Integer verifiedTokenCacheSeconds = 60;
+    private Integer verifiedTokenCacheSize = 10000;
 
     public JwtProperties() {
     }
@@ -69,6 +71,22 @@ public class JwtProperties {
         this.refreshTokenExpirationAfterDays = refreshTokenExpirationAfterDays;
     }
 
+    public Integer getVerifiedTokenCacheSeconds() {
+        return verifiedTokenCacheSeconds;
+    }
+
+    public void setVerifiedTokenCacheSeconds(Integer verifiedTokenCacheSeconds) {
+        this.verifiedTokenCacheSeconds = verifiedTokenCacheSeconds;
+    }
+
+    public Integer getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(Integer verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
+
     @Bean
     public String getAuthorizationHeader() {
         return HttpHeaders.AUTHORIZATION;
@@ -22,9 +22,11 @@ package com.bueno.auth.jwt;
 
 import com.bueno.auth.security.ApplicationUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.base.Strings;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -33,6 +35,7 @@ import javax.crypto.SecretKey;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.Date;
 import java.util.HashMap;
@@ -48,10 +51,19 @@ public class JwtTokenHelper {
     public static final int SECONDS_OF_DAY = 86400;
     private final SecretKey secretKey;
     private final JwtProperties jwtProperties;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
+    private final ObjectWriter jsonWriter;
+    private final ObjectReader authenticationRequestReader;
 
-    public JwtTokenHelper(SecretKey secretKey, JwtProperties jwtProperties) {
+    public JwtTokenHelper(SecretKey secretKey, JwtProperties jwtProperties, ObjectMapper objectMapper) {
         this.secretKey = secretKey;
         this.jwtProperties = jwtProperties;
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        this.verifiedTokens = new VerifiedTokenCache(jwtProperties.getVerifiedTokenCacheSeconds() * 1000L,
+                jwtProperties.getVerifiedTokenCacheSize());
+        this.jsonWriter = objectMapper.writer();
+        this.authenticationRequestReader = objectMapper.readerFor(AuthenticationRequest.class);
     }
 
     public String createAccessToken(ApplicationUser user, String issuer){
@@ -99,8 +111,16 @@ public class JwtTokenHelper {
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
         Map<String, String> error = new HashMap<>();
         error.put("ErrorDescription", message);
+        writeJson(response, error);
+    }
+
+    public void writeJson(HttpServletResponse response, Object body) throws IOException {
         response.setContentType(APPLICATION_JSON_VALUE);
-        new ObjectMapper().writeValue(response.getOutputStream(), error);
+        jsonWriter.writeValue(response.getOutputStream(), body);
+    }
+
+    public AuthenticationRequest readAuthenticationRequest(InputStream body) throws IOException {
+        return authenticationRequestReader.readValue(body);
     }
 
     public boolean hasInvalidAuthorization(String authorizationHeader) {
@@ -108,11 +128,6 @@ public class JwtTokenHelper {
     }
 
     public Claims extractClaims(String token){
-        final Jws<Claims> claimsJws = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
-
-        return claimsJws.getBody();
+        return verifiedTokens.get(token, verified -> parser.parseClaimsJws(verified).getBody());
     }
 }
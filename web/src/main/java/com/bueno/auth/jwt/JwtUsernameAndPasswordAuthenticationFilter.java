@@ -21,7 +21,6 @@
 package com.bueno.auth.jwt;
 
 import com.bueno.auth.security.ApplicationUser;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -38,8 +37,6 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
-import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
-
 @Slf4j
 public class JwtUsernameAndPasswordAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
@@ -58,8 +55,7 @@ public class JwtUsernameAndPasswordAuthenticationFilter extends UsernamePassword
     public Authentication attemptAuthentication(HttpServletRequest request,
                                                 HttpServletResponse response) throws AuthenticationException {
         try {
-            final var authenticationRequest = new ObjectMapper()
-                    .readValue(request.getInputStream(), AuthenticationRequest.class);
+            final var authenticationRequest = jwtTokenHelper.readAuthenticationRequest(request.getInputStream());
 
             final var authentication = new UsernamePasswordAuthenticationToken(
                     authenticationRequest.getUsername(),
@@ -90,8 +86,7 @@ public class JwtUsernameAndPasswordAuthenticationFilter extends UsernamePassword
 
         final Map<String, String> body = new HashMap<>();
         body.put("uuid", user.getUuid().toString());
-        response.setContentType(APPLICATION_JSON_VALUE);
-        new ObjectMapper().writeValue(response.getOutputStream(), body);
+        jwtTokenHelper.writeJson(response, body);
         log.info("Granted access and refresh tokens for: {}", user.getUsername());
     }
 }
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of tokens whose signature was already verified, keyed by the SHA-256 of the token so raw tokens
+ * are not kept in memory. An entry lives until the token expires or for the configured time, whichever comes first,
+ * so an expired token is always parsed again and rejected by the parser. When full, the least recently used entry
+ * makes room for the new one.
+ */
+final class VerifiedTokenCache {
+
+    private record Entry(Claims claims, long validUntil) {}
+
+    private final Map<String, Entry> entries;
+    private final long timeToLiveMillis;
+    private final int maxSize;
+
+    VerifiedTokenCache(long timeToLiveMillis, int maxSize) {
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    Claims get(String token, Function<String, Claims> verifier) {
+        if (maxSize <= 0 || timeToLiveMillis <= 0) return verifier.apply(token);
+
+        final String key = hashOf(token);
+        final Entry cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        final long now = System.currentTimeMillis();
+        if (cached != null && now < cached.validUntil()) return cached.claims();
+
+        final Claims claims = verifier.apply(token);
+        final Date expiration = claims.getExpiration();
+        final long validUntil = expiration == null
+                ? now + timeToLiveMillis
+                : Math.min(now + timeToLiveMillis, expiration.getTime());
+        synchronized (entries) {
+            entries.put(key, new Entry(claims, validUntil));
+        }
+        return claims;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String hashOf(String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+}
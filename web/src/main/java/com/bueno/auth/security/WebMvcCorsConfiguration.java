@@ -22,6 +22,7 @@ package com.bueno.auth.security;
 
 import com.bueno.auth.jwt.JwtProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -41,6 +42,6 @@ public class WebMvcCorsConfiguration implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")
                 .allowedMethods("*")
                 .allowCredentials(true)
-                .exposedHeaders(jwtProperties.getAuthorizationHeader());
+                .exposedHeaders(jwtProperties.getAuthorizationHeader(), HttpHeaders.ETAG);
     }
 }
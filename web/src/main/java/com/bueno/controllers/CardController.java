@@ -24,8 +24,10 @@ import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.intel.HandleIntelUseCase;
 import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.responses.ConditionalResponses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -35,10 +37,13 @@ public class CardController {
 
     private final PlayCardUseCase playCardUseCase;
     private final HandleIntelUseCase intelUseCase;
+    private final ConditionalResponses conditionalResponses;
 
-    public CardController(PlayCardUseCase playCardUseCase, HandleIntelUseCase intelUseCase) {
+    public CardController(PlayCardUseCase playCardUseCase, HandleIntelUseCase intelUseCase,
+                          ConditionalResponses conditionalResponses) {
         this.playCardUseCase = playCardUseCase;
         this.intelUseCase = intelUseCase;
+        this.conditionalResponses = conditionalResponses;
     }
 
     @PostMapping("/played")
@@ -56,8 +61,7 @@ public class CardController {
     }
 
     @GetMapping
-    private ResponseEntity<?> getCards(@PathVariable UUID uuid){
-        final var responseModel = intelUseCase.ownedCards(uuid);
-        return ResponseEntity.ok(responseModel);
+    private ResponseEntity<?> getCards(@PathVariable UUID uuid, WebRequest request){
+        return conditionalResponses.ofGame(uuid, request, () -> ResponseEntity.ok(intelUseCase.ownedCards(uuid)));
     }
 }
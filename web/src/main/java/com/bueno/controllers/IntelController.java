@@ -21,11 +21,15 @@
 package com.bueno.controllers;
 
 import com.bueno.domain.usecases.intel.HandleIntelUseCase;
+import com.bueno.responses.ConditionalResponses;
+import com.bueno.responses.IntelJsonCache;
+import com.bueno.streams.IntelStreams;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -35,26 +39,45 @@ import java.util.UUID;
 public class IntelController {
 
     private final HandleIntelUseCase intelUseCase;
+    private final IntelStreams intelStreams;
+    private final ConditionalResponses conditionalResponses;
+    private final IntelJsonCache intelJsonCache;
 
-    public IntelController(HandleIntelUseCase intelUseCase) {
+    public IntelController(HandleIntelUseCase intelUseCase, IntelStreams intelStreams,
+                           ConditionalResponses conditionalResponses, IntelJsonCache intelJsonCache) {
         this.intelUseCase = intelUseCase;
+        this.intelStreams = intelStreams;
+        this.conditionalResponses = conditionalResponses;
+        this.intelJsonCache = intelJsonCache;
     }
 
     @GetMapping(path = "/in-turn")
-    private ResponseEntity<?> isPlayerTurn(@PathVariable UUID uuid){
-        final var responseModel = intelUseCase.isPlayerTurn(uuid);
-        return ResponseEntity.ok(responseModel);
+    private ResponseEntity<?> isPlayerTurn(@PathVariable UUID uuid, WebRequest request){
+        return conditionalResponses.ofGame(uuid, request, () -> ResponseEntity.ok(intelUseCase.isPlayerTurn(uuid)));
     }
 
     @GetMapping(path = "/last-intel")
-    private ResponseEntity<?> getLastIntel(@PathVariable UUID uuid){
-        final var responseModel = intelUseCase.findLastIntel(uuid);
-        return ResponseEntity.ok(responseModel);
+    private ResponseEntity<?> getLastIntel(@PathVariable UUID uuid, WebRequest request){
+        return conditionalResponses.ofGame(uuid, request, () -> intelJsonCache.lastIntel(uuid)
+                .map(IntelController::json)
+                .orElseGet(() -> ResponseEntity.ok(intelUseCase.findLastIntel(uuid))));
     }
 
     @GetMapping(path = "/intel-since/{timestamp}")
-    private ResponseEntity<?> getIntelSince(@PathVariable UUID uuid, @PathVariable Instant timestamp){
-        final var intelSince = intelUseCase.findIntelSince(uuid, timestamp);
-        return ResponseEntity.ok(intelSince);
+    private ResponseEntity<?> getIntelSince(@PathVariable UUID uuid, @PathVariable Instant timestamp, WebRequest request){
+        return conditionalResponses.ofGame(uuid, request, () -> intelJsonCache.intelSince(uuid, timestamp)
+                .map(IntelController::json)
+                .orElseGet(() -> ResponseEntity.ok(intelUseCase.findIntelSince(uuid, timestamp))));
+    }
+
+    @GetMapping(path = "/intel-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    private SseEmitter streamIntel(@PathVariable UUID uuid,
+                                   @RequestHeader(value = "Last-Event-ID", required = false) Instant lastEventId,
+                                   @RequestParam(required = false) Instant since){
+        return intelStreams.open(uuid, lastEventId != null ? lastEventId : since);
+    }
+
+    private static ResponseEntity<?> json(StreamingResponseBody body){
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
@@ -25,7 +25,6 @@ import com.bueno.auth.jwt.JwtProperties;
 import com.bueno.auth.jwt.JwtTokenHelper;
 import com.bueno.auth.security.ApplicationUser;
 import com.bueno.auth.security.ApplicationUserService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -39,8 +38,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
-import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
-
 @Slf4j
 @RestController
 @RequestMapping(path = "/refresh-token")
@@ -85,8 +82,7 @@ public class RefreshTokenController {
             final Map<String, String> body = new HashMap<>();
             body.put("uuid", user.getUuid().toString());
             body.put("username", user.getUsername());
-            response.setContentType(APPLICATION_JSON_VALUE);
-            new ObjectMapper().writeValue(response.getOutputStream(), body);
+            jwtTokenHelper.writeJson(response, body);
 
             log.info("Refreshed access token for: {}", user.getUsername());
         } catch (Exception e) {
@@ -21,24 +21,49 @@
 package com.bueno.controllers;
 
 import com.bueno.domain.usecases.game.usecase.ReportTopWinnersUseCase;
+import com.bueno.domain.usecases.game.dtos.LeaderboardWindow;
 import com.bueno.domain.usecases.game.dtos.TopWinnersDto;
+import com.bueno.domain.usecases.hand.ReportBotStatisticsUseCase;
+import com.bueno.domain.usecases.hand.dtos.BotHandStatisticsDto;
+import com.bueno.domain.usecases.user.CachingUserRepository;
+import com.bueno.domain.usecases.user.dtos.UserCacheStatisticsDto;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping(path = "/api/v1/reports")
 public class ReportController {
 
     private final ReportTopWinnersUseCase reportTopWinnersUseCase;
+    private final ReportBotStatisticsUseCase reportBotStatisticsUseCase;
+    private final CachingUserRepository userCache;
 
-    public ReportController(ReportTopWinnersUseCase reportTopWinnersUseCase) {
+    public ReportController(ReportTopWinnersUseCase reportTopWinnersUseCase,
+                            ReportBotStatisticsUseCase reportBotStatisticsUseCase,
+                            CachingUserRepository userCache) {
         this.reportTopWinnersUseCase = reportTopWinnersUseCase;
+        this.reportBotStatisticsUseCase = reportBotStatisticsUseCase;
+        this.userCache = userCache;
     }
 
     @GetMapping(path = "/top-winners/{numberOfTopWinners}")
-    public TopWinnersDto topWinners(@PathVariable int numberOfTopWinners){
-        return reportTopWinnersUseCase.create(numberOfTopWinners);
+    public TopWinnersDto topWinners(@PathVariable int numberOfTopWinners,
+                                    @RequestParam(defaultValue = "ALL_TIME") LeaderboardWindow window){
+        return reportTopWinnersUseCase.create(numberOfTopWinners, window);
+    }
+
+    @GetMapping(path = "/bot-hands")
+    public List<BotHandStatisticsDto> botHandStatistics(@RequestParam(required = false) String bot){
+        return reportBotStatisticsUseCase.create(bot);
+    }
+
+    @GetMapping(path = "/user-cache")
+    public UserCacheStatisticsDto userCacheStatistics(){
+        return userCache.statistics();
     }
 }
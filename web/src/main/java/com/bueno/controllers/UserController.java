@@ -27,11 +27,13 @@ import com.bueno.domain.usecases.user.RegisterUserUseCase;
 import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
 import com.bueno.domain.usecases.user.dtos.RegisterUserRequestDto;
 import com.bueno.domain.usecases.user.dtos.RegisterUserResponseDto;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -75,7 +77,10 @@ public class UserController {
     }
 
     @GetMapping(path = "/api/v1/users/{uuid}/matches")
-    public UserRecordDto removeGame(@PathVariable UUID uuid){
-        return userRecordUseCase.listByUuid(uuid);
+    public UserRecordDto removeGame(@PathVariable UUID uuid,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endedBefore,
+                                    @RequestParam(required = false) UUID beforeGame,
+                                    @RequestParam(defaultValue = "20") int size){
+        return userRecordUseCase.listByUuid(uuid, endedBefore, beforeGame, size);
     }
 }
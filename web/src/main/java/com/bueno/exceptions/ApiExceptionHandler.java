@@ -130,4 +130,16 @@ public class ApiExceptionHandler {
                 .build();
         return new ResponseEntity<>(apiException, conflict);
     }
+
+    @ExceptionHandler(value = ConcurrentGameUpdateException.class)
+    public ResponseEntity<?> handleConcurrentGameUpdateException(ConcurrentGameUpdateException e){
+        final HttpStatus conflict = CONFLICT;
+        final ApiException apiException = ApiException.builder()
+                .status(conflict)
+                .message(e.getMessage())
+                .developerMessage(e.getClass().getName())
+                .timestamp(ZonedDateTime.now(ZoneId.of("Z")))
+                .build();
+        return new ResponseEntity<>(apiException, conflict);
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.responses;
+
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Tags responses about the game of a player with the version of that game, and answers 304 Not Modified to requests
+ * that already hold it, without building the response.
+ */
+@Component
+public class ConditionalResponses {
+
+    private final GameRepository gameRepository;
+
+    public ConditionalResponses(GameRepository gameRepository) {
+        this.gameRepository = gameRepository;
+    }
+
+    /**
+     * Returns null when the request was answered as not modified, as Spring MVC expects after
+     * {@link WebRequest#checkNotModified(String)}. The ETag header is set by that check as well. The stored version
+     * is read before the response is built, so a game stored in between only makes the tag older than the data.
+     */
+    public ResponseEntity<?> ofGame(UUID playerUuid, WebRequest request, Supplier<? extends ResponseEntity<?>> response) {
+        final Optional<String> tag = gameRepository.findVersionByPlayerUuid(playerUuid).map(GameVersionDto::tag);
+        if (tag.isPresent() && request.checkNotModified(tag.get())) return null;
+        return response.get();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.responses;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.intel.dtos.IntelSinceDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the JSON of the intel of each active game, serialized once when the game is stored, so intel responses are
+ * written by concatenating cached chunks instead of loading, converting and serializing the game on every poll.
+ * Each game keeps at most {@code maxBytesPerGame}, evicting its oldest intel first, and all games together at most
+ * {@code maxBytes}, evicting the games least recently recorded or read first; requests reaching past what is cached,
+ * and requests for finished games (whose game over intel is not part of the history), are left to the caller to
+ * answer the usual way. Intel is cached with its timestamp truncated to milliseconds, as games are stored, so cached
+ * and stored answers agree on which intel comes after a given timestamp.
+ */
+@Component
+public class IntelJsonCache {
+
+    private static final byte[] INTEL_SINCE_PREFIX = "{\"baseTimestamp\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INTEL_SINCE_LIST = ",\"intelSinceBaseTimestamp\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INTEL_SINCE_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytesPerGame;
+    private final long maxBytes;
+    private final Map<UUID, GameChunks> games = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, UUID> gameOfPlayer = new ConcurrentHashMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+
+    public IntelJsonCache(ObjectMapper objectMapper,
+                          @Value("${application.intel.jsonCacheBytesPerGame:262144}") long maxBytesPerGame,
+                          @Value("${application.intel.jsonCacheMaxBytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxBytesPerGame = maxBytesPerGame;
+        this.maxBytes = maxBytes;
+    }
+
+    public void record(GameDto game) {
+        final GameChunks chunks;
+        synchronized (games) {
+            chunks = games.computeIfAbsent(game.gameUuid(), GameChunks::new);
+        }
+        chunks.append(game);
+        evictLeastRecentlyUsed(game.gameUuid());
+    }
+
+    public void forget(Collection<UUID> gameUuids) {
+        gameUuids.forEach(this::drop);
+    }
+
+    /**
+     * The body of {@link IntelSinceDto} for the game of the player, or empty if the cache cannot answer it.
+     */
+    public Optional<StreamingResponseBody> intelSince(UUID playerUuid, Instant since) {
+        return gameOf(playerUuid).flatMap(chunks -> chunks.since(since)).map(json -> out -> {
+            out.write(INTEL_SINCE_PREFIX);
+            out.write(objectMapper.writeValueAsBytes(since));
+            out.write(INTEL_SINCE_LIST);
+            for (int i = 0; i < json.size(); i++) {
+                if (i > 0) out.write(SEPARATOR);
+                out.write(json.get(i));
+            }
+            out.write(INTEL_SINCE_SUFFIX);
+        });
+    }
+
+    public Optional<StreamingResponseBody> lastIntel(UUID playerUuid) {
+        return gameOf(playerUuid).flatMap(GameChunks::last).map(json -> out -> out.write(json));
+    }
+
+    private Optional<GameChunks> gameOf(UUID playerUuid) {
+        final UUID gameUuid = gameOfPlayer.get(playerUuid);
+        if (gameUuid == null) return Optional.empty();
+        synchronized (games) {
+            return Optional.ofNullable(games.get(gameUuid));
+        }
+    }
+
+    private void evictLeastRecentlyUsed(UUID recorded) {
+        while (bytes.get() > maxBytes) {
+            final UUID eldest;
+            synchronized (games) {
+                final Iterator<UUID> it = games.keySet().iterator();
+                eldest = it.hasNext() ? it.next() : null;
+            }
+            if (eldest == null || eldest.equals(recorded)) return;
+            drop(eldest);
+        }
+    }
+
+    private void drop(UUID gameUuid) {
+        final GameChunks removed;
+        synchronized (games) {
+            removed = games.remove(gameUuid);
+        }
+        if (removed != null) removed.drop();
+    }
+
+    private static Instant millisOf(IntelDto intel) {
+        return intel.timestamp().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private final class GameChunks {
+        private final UUID gameUuid;
+        private final Deque<Chunk> chunks = new ArrayDeque<>();
+        private long size;
+        private Instant evictedThrough;
+        private boolean done;
+        private boolean dropped;
+        private UUID player1;
+        private UUID player2;
+
+        GameChunks(UUID gameUuid) {
+            this.gameUuid = gameUuid;
+        }
+
+        synchronized void append(GameDto game) {
+            if (dropped) return;
+            final long sizeBefore = size;
+            player1 = game.player1().uuid();
+            player2 = game.player2().uuid();
+            gameOfPlayer.put(player1, gameUuid);
+            gameOfPlayer.put(player2, gameUuid);
+            done = game.isDone();
+            final List<IntelDto> history = game.hands().stream().map(HandDto::history).flatMap(List::stream).toList();
+            if (history.isEmpty()) return;
+
+            // Hands the game itself no longer holds, once summarized, are not answered from the cache either.
+            final Instant oldest = millisOf(history.get(0));
+            while (!chunks.isEmpty() && chunks.peekFirst().timestamp().isBefore(oldest)) size -= chunks.removeFirst().size();
+
+            final Instant newest = chunks.isEmpty() ? null : chunks.peekLast().timestamp();
+            int firstNew = history.size();
+            while (firstNew > 0 && (newest == null || millisOf(history.get(firstNew - 1)).isAfter(newest))) firstNew--;
+            for (IntelDto intel : history.subList(firstNew, history.size())) {
+                final Instant timestamp = millisOf(intel);
+                final Chunk chunk = new Chunk(timestamp, serialize(intel.withTimestamp(timestamp)));
+                chunks.addLast(chunk);
+                size += chunk.size();
+            }
+
+            while (size > maxBytesPerGame && chunks.size() > 1) {
+                final Chunk evicted = chunks.removeFirst();
+                size -= evicted.size();
+                evictedThrough = evicted.timestamp();
+            }
+            bytes.addAndGet(size - sizeBefore);
+        }
+
+        synchronized void drop() {
+            dropped = true;
+            chunks.clear();
+            bytes.addAndGet(-size);
+            size = 0;
+            if (player1 != null) gameOfPlayer.remove(player1, gameUuid);
+            if (player2 != null) gameOfPlayer.remove(player2, gameUuid);
+        }
+
+        synchronized Optional<List<byte[]>> since(Instant since) {
+            if (done || chunks.isEmpty()) return Optional.empty();
+            if (evictedThrough != null && (since == null || since.isBefore(evictedThrough))) return Optional.empty();
+            final List<byte[]> result = new ArrayList<>();
+            for (Iterator<Chunk> it = chunks.descendingIterator(); it.hasNext(); ) {
+                final Chunk chunk = it.next();
+                if (since != null && !chunk.timestamp().isAfter(since)) break;
+                result.add(chunk.json());
+            }
+            Collections.reverse(result);
+            return Optional.of(result);
+        }
+
+        synchronized Optional<byte[]> last() {
+            if (done || chunks.isEmpty()) return Optional.empty();
+            return Optional.of(chunks.peekLast().json());
+        }
+
+        private byte[] serialize(IntelDto intel) {
+            try {
+                return objectMapper.writeValueAsBytes(intel);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private record Chunk(Instant timestamp, byte[] json) {
+        int size() {
+            return json.length;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.streams;
+
+import com.bueno.domain.usecases.intel.IntelHub;
+import com.bueno.domain.usecases.intel.IntelSubscription;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent event streams of game intel. Publishing threads only buffer intel in the player's subscription; a small
+ * pool of sender threads writes it to the connections. Every event carries the intel timestamp as its id, so a client
+ * that reconnects resumes from the last event it got through the Last-Event-ID header.
+ */
+@Slf4j
+@Component
+public class IntelStreams implements DisposableBean {
+
+    private final IntelHub hub;
+    private final long timeoutMillis;
+    private final ExecutorService senders;
+
+    public IntelStreams(IntelHub hub,
+                        @Value("${application.intel.streamTimeoutMillis:1800000}") long timeoutMillis,
+                        @Value("${application.intel.streamSenderThreads:4}") int senderThreads) {
+        this.hub = hub;
+        this.timeoutMillis = timeoutMillis;
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "intel-stream-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter open(UUID playerUuid, Instant since) {
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        final Session session = new Session(emitter);
+        final IntelSubscription subscription = hub.subscribe(playerUuid, since, session::schedule);
+        session.attach(subscription);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+    }
+
+    private final class Session {
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile IntelSubscription subscription;
+
+        private Session(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void attach(IntelSubscription subscription) {
+            this.subscription = subscription;
+            schedule();
+        }
+
+        void schedule() {
+            if (subscription != null && scheduled.compareAndSet(false, true)) senders.execute(this::drain);
+        }
+
+        private synchronized void drain() {
+            scheduled.set(false);
+            try {
+                sendBuffered();
+                final var closeReason = subscription.closeReason();
+                if (closeReason.isEmpty()) return;
+                sendBuffered();
+                emitter.send(SseEmitter.event().name("closed").data(closeReason.get().name()));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Intel stream of {} ended: {}", subscription.playerUuid(), e.getMessage());
+                subscription.close();
+            }
+        }
+
+        private void sendBuffered() throws IOException {
+            IntelDto intel;
+            while ((intel = subscription.poll()) != null)
+                emitter.send(SseEmitter.event().id(intel.timestamp().toString()).name("intel").data(intel));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.auth.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final long ONE_MINUTE = 60_000;
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Function<String, Claims> verifierExpiringAt(Date expiration) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Jwts.claims().setSubject(token).setExpiration(expiration);
+        };
+    }
+
+    @Test
+    @DisplayName("Should serve a cached token without verifying it again")
+    void shouldServeACachedTokenWithoutVerifyingItAgain() {
+        final VerifiedTokenCache sut = new VerifiedTokenCache(ONE_MINUTE, 10);
+        final Function<String, Claims> verifier = verifierExpiringAt(new Date(System.currentTimeMillis() + ONE_MINUTE));
+
+        final Claims first = sut.get("token", verifier);
+        final Claims second = sut.get("token", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not serve a cached token past its expiration")
+    void shouldNotServeACachedTokenPastItsExpiration() throws InterruptedException {
+        final VerifiedTokenCache sut = new VerifiedTokenCache(ONE_MINUTE, 10);
+        final Function<String, Claims> verifier = verifierExpiringAt(new Date(System.currentTimeMillis() + 100));
+
+        sut.get("token", verifier);
+        Thread.sleep(150);
+        sut.get("token", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the size bound by evicting the least recently used token")
+    void shouldKeepTheSizeBoundByEvictingTheLeastRecentlyUsedToken() {
+        final VerifiedTokenCache sut = new VerifiedTokenCache(ONE_MINUTE, 2);
+        final Function<String, Claims> verifier = verifierExpiringAt(new Date(System.currentTimeMillis() + ONE_MINUTE));
+        sut.get("first", verifier);
+        sut.get("second", verifier);
+        sut.get("first", verifier);
+
+        sut.get("third", verifier);
+        sut.get("first", verifier);
+        sut.get("second", verifier);
+
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(verifications).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Should let the verifier reject a cached token once it expires")
+    void shouldLetTheVerifierRejectACachedTokenOnceItExpires() throws ServletException, IOException, InterruptedException {
+        final JwtProperties properties = new JwtProperties();
+        properties.setTokenPrefix("Bearer ");
+        final SecretKey key = Keys.hmacShaKeyFor("a-secret-key-long-enough-for-hmac-sha-256".getBytes(StandardCharsets.UTF_8));
+        final JwtTokenVerifier sut = new JwtTokenVerifier(properties, new JwtTokenHelper(key, properties, new ObjectMapper()));
+        final Date expiration = new Date(System.currentTimeMillis() + 1500);
+        final String token = Jwts.builder().setSubject(UUID.randomUUID().toString()).setExpiration(expiration)
+                .signWith(key).compact();
+
+        final MockHttpServletResponse beforeExpiration = filter(sut, token);
+        Thread.sleep(expiration.getTime() - System.currentTimeMillis() + 100);
+        final MockHttpServletResponse afterExpiration = filter(sut, token);
+
+        assertThat(beforeExpiration.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(afterExpiration.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private static MockHttpServletResponse filter(JwtTokenVerifier verifier, String token) throws ServletException, IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        verifier.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.responses;
+
+import com.bueno.controllers.CardController;
+import com.bueno.controllers.IntelController;
+import com.bueno.domain.usecases.game.dtos.GameVersionDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.hand.PlayCardUseCase;
+import com.bueno.domain.usecases.intel.HandleIntelUseCase;
+import com.bueno.streams.IntelStreams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalResponsesTest {
+
+    @Mock private GameRepository gameRepository;
+    @Mock private PlayCardUseCase playCardUseCase;
+    @Mock private HandleIntelUseCase intelUseCase;
+    @Mock private IntelStreams intelStreams;
+    @Mock private IntelJsonCache intelJsonCache;
+
+    private final UUID playerUuid = UUID.randomUUID();
+    private final UUID gameUuid = UUID.randomUUID();
+    private final AtomicInteger responsesBuilt = new AtomicInteger();
+    private ConditionalResponses sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ConditionalResponses(gameRepository);
+    }
+
+    private MockHttpServletResponse respond(String ifNoneMatch) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/games/players/" + playerUuid);
+        if (ifNoneMatch != null) request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final ResponseEntity<?> entity = sut.ofGame(playerUuid, new ServletWebRequest(request, response), () -> {
+            responsesBuilt.incrementAndGet();
+            return ResponseEntity.ok("intel");
+        });
+        if (entity != null) response.setStatus(entity.getStatusCodeValue());
+        return response;
+    }
+
+    private static String quoted(String tag) {
+        return "\"" + tag + "\"";
+    }
+
+    @Test
+    @DisplayName("Should answer not modified without building the response when the request holds the current version")
+    void shouldAnswerNotModifiedWithoutBuildingTheResponseWhenTheRequestHoldsTheCurrentVersion() {
+        final GameVersionDto version = new GameVersionDto(gameUuid, 3);
+        when(gameRepository.findVersionByPlayerUuid(playerUuid)).thenReturn(Optional.of(version));
+
+        final MockHttpServletResponse response = respond(quoted(version.tag()));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(responsesBuilt).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should build the response with the new tag when the game changed")
+    void shouldBuildTheResponseWithTheNewTagWhenTheGameChanged() {
+        final GameVersionDto held = new GameVersionDto(gameUuid, 3);
+        final GameVersionDto current = new GameVersionDto(gameUuid, 4);
+        when(gameRepository.findVersionByPlayerUuid(playerUuid)).thenReturn(Optional.of(current));
+
+        final MockHttpServletResponse response = respond(quoted(held.tag()));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(quoted(current.tag()));
+        assertThat(responsesBuilt).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should build the untagged response when the player has no game")
+    void shouldBuildTheUntaggedResponseWhenThePlayerHasNoGame() {
+        when(gameRepository.findVersionByPlayerUuid(playerUuid)).thenReturn(Optional.empty());
+
+        final MockHttpServletResponse response = respond("\"any\"");
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(responsesBuilt).hasValue(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/cards", "/in-turn", "/last-intel", "/intel-since/2022-10-19T10:00:00Z"})
+    @DisplayName("Should answer the game reads of the controllers conditionally")
+    void shouldAnswerTheGameReadsOfTheControllersConditionally(String path) throws Exception {
+        final GameVersionDto version = new GameVersionDto(gameUuid, 7);
+        when(gameRepository.findVersionByPlayerUuid(playerUuid)).thenReturn(Optional.of(version));
+        final MockMvc mvc = MockMvcBuilders.standaloneSetup(
+                new CardController(playCardUseCase, intelUseCase, sut),
+                new IntelController(intelUseCase, intelStreams, sut, intelJsonCache)).build();
+
+        mvc.perform(get("/api/v1/games/players/" + playerUuid + path)
+                        .header(HttpHeaders.IF_NONE_MATCH, quoted(version.tag())))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(intelUseCase, intelJsonCache);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.responses;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntelJsonCacheTest {
+
+    private static final Instant FIRST = Instant.parse("2022-10-19T10:00:00.000500Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("Should cache intel timestamps truncated to milliseconds")
+    void shouldCacheIntelTimestampsTruncatedToMilliseconds() throws IOException {
+        final IntelJsonCache sut = new IntelJsonCache(objectMapper, 262144, 1 << 20);
+        final GameDto game = newGame("BotA", "BotB");
+        sut.record(game);
+
+        final JsonNode all = read(sut.intelSince(game.player1().uuid(), null)).get("intelSinceBaseTimestamp");
+        final JsonNode afterFirst = read(sut.intelSince(game.player1().uuid(), Instant.parse("2022-10-19T10:00:00Z")))
+                .get("intelSinceBaseTimestamp");
+
+        assertThat(all).extracting(intel -> Instant.parse(intel.get("timestamp").asText()))
+                .containsExactly(Instant.parse("2022-10-19T10:00:00Z"), Instant.parse("2022-10-19T10:00:00.001Z"));
+        assertThat(afterFirst).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently recorded game when all games exceed the size bound")
+    void shouldEvictTheLeastRecentlyRecordedGameWhenAllGamesExceedTheSizeBound() {
+        final IntelJsonCache sut = new IntelJsonCache(objectMapper, 262144, 1);
+        final GameDto first = newGame("BotA", "BotB");
+        final GameDto second = newGame("BotC", "BotD");
+        sut.record(first);
+        sut.record(second);
+
+        assertThat(sut.lastIntel(first.player1().uuid())).isEmpty();
+        assertThat(sut.lastIntel(second.player2().uuid())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should keep a game that was read over one only recorded when evicting")
+    void shouldKeepAGameThatWasReadOverOneOnlyRecordedWhenEvicting() throws IOException {
+        final GameDto read = newGame("BotA", "BotB");
+        final GameDto recorded = newGame("BotC", "BotD");
+        final GameDto newest = newGame("BotE", "BotF");
+        final long gameSize = sizeOf(read);
+        final IntelJsonCache sut = new IntelJsonCache(objectMapper, 262144, gameSize * 2 + gameSize / 2);
+
+        sut.record(read);
+        sut.record(recorded);
+        sut.lastIntel(read.player1().uuid());
+        sut.record(newest);
+
+        assertThat(sut.lastIntel(read.player1().uuid())).isPresent();
+        assertThat(sut.lastIntel(recorded.player1().uuid())).isEmpty();
+        assertThat(sut.lastIntel(newest.player1().uuid())).isPresent();
+    }
+
+    private GameDto newGame(String bot1, String bot2) {
+        final Game game = new Game(Player.ofBot(bot1), Player.ofBot(bot2), 42L);
+        final Player player = game.currentHand().getCurrentPlayer();
+        final Card card = player.play(player.getCards().get(0));
+        game.currentHand().playFirstCard(player, card);
+
+        final GameDto dto = GameConverter.toDto(game);
+        final HandDto hand = dto.hands().get(dto.hands().size() - 1);
+        final List<IntelDto> history = new ArrayList<>();
+        for (int i = 0; i < hand.history().size(); i++)
+            history.add(hand.history().get(i).withTimestamp(FIRST.plusMillis(i)));
+        return dto.withHands(List.of(hand.withHistory(history)));
+    }
+
+    private long sizeOf(GameDto game) throws IOException {
+        long size = 0;
+        for (IntelDto intel : game.hands().get(0).history()) {
+            final Instant timestamp = intel.timestamp().truncatedTo(ChronoUnit.MILLIS);
+            size += objectMapper.writeValueAsBytes(intel.withTimestamp(timestamp)).length;
+        }
+        return size;
+    }
+
+    private JsonNode read(Optional<StreamingResponseBody> body) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.orElseThrow().writeTo(out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+}